@@ -0,0 +1,55 @@
+#!/usr/bin/env bash
+# Baut aus dem AOT-Jar ein AppCDS-Archiv für schnelle Kaltstarts (Profil "lean")
+#
+#   ./mvnw -Paot package -DskipTests
+#   scripts/cds-archive.sh
+#   java @target/cds/java.args com.warduel.warduel.WarDuelApplication
+#
+# CDS braucht echte Jars auf dem Klassenpfad (keine verschachtelten Jars, keine
+# Verzeichnisse): das Boot-Jar wird deshalb nach target/cds entpackt und die eigenen
+# Klassen (inkl. AOT-Code) als app.jar neu gepackt. Der Trainingslauf startet den
+# Context bis zum Refresh (spring.context.exit=onRefresh) und schreibt dabei alle
+# geladenen Klassen ins Archiv. Archiv und Klassenpfad gehören zusammen - nach jedem
+# Build neu erzeugen.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+JAR=$(ls target/warduel-*.jar 2>/dev/null | grep -v '\.original$' | head -n 1 || true)
+if [[ -z "$JAR" ]]; then
+    echo "Kein Boot-Jar unter target/ - zuerst ./mvnw -Paot package -DskipTests" >&2
+    exit 1
+fi
+
+OUT=target/cds
+rm -rf "$OUT"
+mkdir -p "$OUT/extracted"
+ABS_JAR="$PWD/$JAR"
+(cd "$OUT/extracted" && jar xf "$ABS_JAR")
+
+if [[ ! -d "$OUT/extracted/BOOT-INF/classes/com/warduel/warduel" ]] \
+        || ! ls "$OUT/extracted/BOOT-INF/classes/com/warduel/warduel/"*__BeanFactoryRegistrations.class >/dev/null 2>&1; then
+    echo "Jar enthält keinen AOT-Code - mit -Paot bauen" >&2
+    exit 1
+fi
+
+jar cf "$OUT/app.jar" -C "$OUT/extracted/BOOT-INF/classes" .
+mkdir -p "$OUT/lib"
+# DevTools gehören nicht in den Produktionsstart (bricht AOT und CDS)
+find "$OUT/extracted/BOOT-INF/lib" -name '*.jar' ! -name 'spring-boot-devtools-*' -exec mv {} "$OUT/lib/" \;
+rm -rf "$OUT/extracted"
+
+CLASSPATH="$OUT/app.jar"
+for lib in "$OUT"/lib/*.jar; do
+    CLASSPATH="$CLASSPATH:$lib"
+done
+
+COMMON_ARGS="-cp $CLASSPATH -Dspring.aot.enabled=true -Dspring.profiles.active=lean"
+
+echo "Trainingslauf ..."
+java -XX:ArchiveClassesAtExit="$OUT/app.jsa" -Dspring.context.exit=onRefresh $COMMON_ARGS \
+    com.warduel.warduel.WarDuelApplication --server.port=0 --game.warmup-enabled=false > "$OUT/training.log" 2>&1
+
+echo "-XX:SharedArchiveFile=$OUT/app.jsa $COMMON_ARGS" > "$OUT/java.args"
+echo "Archiv: $OUT/app.jsa ($(du -h "$OUT/app.jsa" | cut -f1))"
+echo "Start:  java @$OUT/java.args com.warduel.warduel.WarDuelApplication"
@@ -0,0 +1,112 @@
+#!/usr/bin/env bash
+# Last-Benchmark: Plattform- vs. virtuelle Threads bei vielen gleichzeitigen Duellen
+#
+#   scripts/duel-load-benchmark.sh [duels] [modes...]
+#
+# Modi (Standard: beide):
+#   platform  spring.threads.virtual.enabled=false
+#   virtual   spring.threads.virtual.enabled=true (braucht Java 21, sonst übersprungen)
+#
+# Ablauf pro Modus: Boot-Jar im Profil "lean" auf freiem Port starten, warten bis Readiness UP,
+# dann DuelLoadBenchmark (Testbaum) als eigene JVM: 2 x duels Bots verbinden sich getaktet,
+# spielen je ein Duell und messen die Zeit bis zum ANSWER_RESULT. Ausgabe: höchste Zahl
+# gleichzeitiger Duelle, Antworten/s, p50/p99/max der Antwortzeit.
+#
+# Admission-Limits und Flood-Filter werden für den Lauf hochgesetzt (alle Bots kommen von einer
+# IP, und verglichen werden soll die Verarbeitung, nicht das Abweisen). Die Verbindungen werden
+# auf mehrere Loopback-Adressen verteilt (lokale Ports reichen pro Zieladresse für ~28k).
+#
+# Umgebung: CONNECT_RATE (Verbindungen/s, Standard 1000), GAME_SECONDS (Spieldauer, Standard 120),
+#           SERVER_HEAP / CLIENT_HEAP (Standard 4g / 2g), BENCHMARK_PORT (Standard 18091),
+#           MVN (Standard ./mvnw)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+DUELS=${1:-20000}
+shift || true
+MODES=("$@")
+[[ ${#MODES[@]} -eq 0 ]] && MODES=(platform virtual)
+
+CONNECT_RATE=${CONNECT_RATE:-1000}
+GAME_SECONDS=${GAME_SECONDS:-120}
+QUESTIONS=20
+# Denkzeit so, dass die Fragen bis zum Spielende reichen
+THINK_MS=$(( GAME_SECONDS * 1000 / QUESTIONS ))
+CONNECTIONS=$(( DUELS * 2 ))
+
+JAR=$(ls target/warduel-*.jar 2>/dev/null | grep -v '\.original$' | head -n 1 || true)
+if [[ -z "$JAR" ]]; then
+    echo "Kein Boot-Jar unter target/ - zuerst ./mvnw package -DskipTests" >&2
+    exit 1
+fi
+${MVN:-./mvnw} -q -B test-compile
+
+# Server und Client halten je eine Datei pro Verbindung offen
+NEED_FILES=$(( CONNECTIONS + 1024 ))
+if [[ $(ulimit -n) != unlimited && $(ulimit -n) -lt $NEED_FILES ]]; then
+    ulimit -n "$NEED_FILES" 2> /dev/null || echo "Warnung: ulimit -n $(ulimit -n) < $NEED_FILES - Verbindungen werden scheitern" >&2
+fi
+
+PORT=${BENCHMARK_PORT:-18091}
+BASE="http://localhost:$PORT"
+TARGETS=""
+for i in $(seq 1 $(( CONNECTIONS / 25000 + 1 ))); do
+    TARGETS+="${TARGETS:+,}ws://127.0.0.$i:$PORT/game"
+done
+
+LOG=$(mktemp)
+trap 'rm -f "$LOG"' EXIT
+
+java_major() {
+    java -XshowSettings:properties -version 2>&1 | awk -F'= ' '/java.specification.version/ { print $2 }'
+}
+
+start_app() {
+    java -Xms"${SERVER_HEAP:-4g}" -Xmx"${SERVER_HEAP:-4g}" -jar "$JAR" \
+        --server.port="$PORT" --spring.profiles.active=lean \
+        --spring.threads.virtual.enabled="$1" \
+        --server.tomcat.max-connections=$(( CONNECTIONS + 1000 )) \
+        --game.duration-seconds="$GAME_SECONDS" --game.questions-per-game="$QUESTIONS" \
+        --game.handshake-max-per-ip=$(( CONNECTIONS * 2 )) \
+        --game.admission-max-connections=$(( CONNECTIONS + 1000 )) --game.admission-max-games=$(( DUELS + 1000 )) \
+        --game.admission-max-scheduler-lag-ms=600000 --game.admission-max-pending-sends=$(( CONNECTIONS * 2 )) \
+        --game.admission-max-answer-p99-ms=600000 \
+        > "$LOG" 2>&1 &
+    APP_PID=$!
+}
+
+wait_ready() {
+    for _ in $(seq 1 600); do
+        if curl -sf "$BASE/actuator/health/readiness" > /dev/null 2>&1; then
+            return 0
+        fi
+        kill -0 "$APP_PID" 2> /dev/null || return 1
+        sleep 0.1
+    done
+    return 1
+}
+
+for mode in "${MODES[@]}"; do
+    case "$mode" in
+        platform) virtual=false ;;
+        virtual)  virtual=true ;;
+        *)        echo "Unbekannter Modus: $mode" >&2; exit 1 ;;
+    esac
+    if [[ $virtual == true && $(java_major) -lt 21 ]]; then
+        echo "$mode: übersprungen - virtuelle Threads brauchen Java 21 (gefunden: $(java_major))" >&2
+        continue
+    fi
+
+    echo "== $mode ($DUELS duels, $CONNECT_RATE connects/s, ${GAME_SECONDS}s games)"
+    start_app "$virtual"
+    if wait_ready; then
+        java -Xms"${CLIENT_HEAP:-2g}" -Xmx"${CLIENT_HEAP:-2g}" -cp target/test-classes \
+            com.warduel.warduel.websocket.DuelLoadBenchmark \
+            "$TARGETS" "$DUELS" "$CONNECT_RATE" "$THINK_MS" "$GAME_SECONDS" || true
+    else
+        echo "$mode: Server nicht bereit (Log: $(tail -n 1 "$LOG"))" >&2
+    fi
+    kill "$APP_PID" 2> /dev/null || true
+    wait "$APP_PID" 2> /dev/null || true
+done
@@ -0,0 +1,20 @@
+#!/usr/bin/env bash
+# Allokations-Benchmark für ausgehende Frames: OutboundFrameEncoder mit vs. ohne TypedFrameWriters
+#
+#   scripts/frame-allocation-benchmark.sh [frames]
+#
+# Kodiert QUESTION, SCORE_UPDATE, ANSWER_RESULT und GAME_OVER je frames Mal mit beiden Encodern
+# in einer JVM und misst allokierte Bytes und Zeit pro Frame (FrameAllocationBenchmark im Testbaum).
+#
+# Umgebung: MVN (Standard ./mvnw)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+FRAMES=${1:-1000000}
+
+CP_FILE=target/benchmark.classpath
+${MVN:-./mvnw} -q -B test-compile dependency:build-classpath -Dmdep.outputFile="$CP_FILE" -Dmdep.includeScope=test
+CP="target/classes:target/test-classes:$(cat "$CP_FILE")"
+
+java -Xms512m -Xmx512m -cp "$CP" com.warduel.warduel.websocket.FrameAllocationBenchmark "$FRAMES"
@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# Allokations-Benchmark für den Match-Aufbau: GameSessionPool an vs. aus
+#
+#   scripts/match-allocation-benchmark.sh [matchesPerSecond] [seconds]
+#
+# Spielt Matches über den echten Matchmaking-Pfad (GameService.joinGame x2, Spielende,
+# removePlayer x2) in einer JVM und misst die allokierten Bytes pro Match und die GC-Läufe
+# (MatchAllocationBenchmark im Testbaum). Zwei Läufe:
+#   pooled   Pool groß genug für Rate x Quarantäne (Standard-Quarantäne 5 s)
+#   fresh    Pool aus (game-pool-size=0): jedes Match legt GameSession und Player neu an
+# Hinweis: der Pool hält höchstens game.game-pool-size Spiele - bei hoher Rate muss er
+# mindestens Rate x game.game-pool-quarantine-ms abdecken, sonst entfällt die Wiederverwendung.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RATE=${1:-10000}
+SECONDS_PER_RUN=${2:-10}
+QUARANTINE_MS=${QUARANTINE_MS:-5000}
+POOL_SIZE=$(( RATE * (QUARANTINE_MS / 1000 + 1) ))
+
+CP_FILE=target/benchmark.classpath
+./mvnw -q -B test-compile dependency:build-classpath -Dmdep.outputFile="$CP_FILE" -Dmdep.includeScope=test
+CP="target/classes:target/test-classes:$(cat "$CP_FILE")"
+
+run() {
+    echo "== $1"
+    java -Xms512m -Xmx512m -cp "$CP" com.warduel.warduel.websocket.MatchAllocationBenchmark \
+        "$RATE" "$SECONDS_PER_RUN" "$2" "$QUARANTINE_MS"
+}
+
+run pooled "$POOL_SIZE"
+run fresh 0
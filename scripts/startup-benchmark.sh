@@ -0,0 +1,94 @@
+#!/usr/bin/env bash
+# Startup-Benchmark: Zeit vom JVM-Start bis zur ersten zugelassenen /game-Verbindung
+#
+#   scripts/startup-benchmark.sh [runs] [modes...]
+#
+# Modi (Standard: alle, die gebaut sind):
+#   default  Boot-Jar, Standardprofil (JPA, H2, Security)
+#   lean     Boot-Jar, Profil "lean"
+#   cds      AOT + AppCDS + "lean" (vorher ./mvnw -Paot package und scripts/cds-archive.sh)
+#
+# Ablauf pro Lauf: Start auf freiem Port, warten bis Readiness UP (wie der Load Balancer,
+# Warm-up inklusive), dann einen WebSocket-Handshake auf /game. Gemessen wird die Zeit,
+# die der Server selbst loggt ("First game connection accepted ... after JVM start").
+# Ausgabe: Einzelwerte und Median pro Modus.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+shift || true
+MODES=("$@")
+
+JAR=$(ls target/warduel-*.jar 2>/dev/null | grep -v '\.original$' | head -n 1 || true)
+if [[ -z "$JAR" ]]; then
+    echo "Kein Boot-Jar unter target/ - zuerst ./mvnw package -DskipTests" >&2
+    exit 1
+fi
+if [[ ${#MODES[@]} -eq 0 ]]; then
+    MODES=(default lean)
+    [[ -f target/cds/java.args ]] && MODES+=(cds)
+fi
+
+PORT=${BENCHMARK_PORT:-18090}
+BASE="http://localhost:$PORT"
+LOG=$(mktemp)
+trap 'rm -f "$LOG"' EXIT
+
+start_app() {
+    case "$1" in
+        default) java -jar "$JAR" --server.port="$PORT" > "$LOG" 2>&1 & ;;
+        lean)    java -jar "$JAR" --server.port="$PORT" --spring.profiles.active=lean > "$LOG" 2>&1 & ;;
+        cds)     java @target/cds/java.args com.warduel.warduel.WarDuelApplication --server.port="$PORT" > "$LOG" 2>&1 & ;;
+        *)       echo "Unbekannter Modus: $1" >&2; exit 1 ;;
+    esac
+    APP_PID=$!
+}
+
+wait_ready() {
+    for _ in $(seq 1 600); do
+        if curl -sf "$BASE/actuator/health/readiness" > /dev/null 2>&1; then
+            return 0
+        fi
+        kill -0 "$APP_PID" 2> /dev/null || return 1
+        sleep 0.1
+    done
+    return 1
+}
+
+open_game() {
+    # Handshake genügt - der Server loggt die Zeit beim Zulassen der Verbindung
+    curl -s -o /dev/null --http1.1 --max-time 1 \
+        -H "Connection: Upgrade" -H "Upgrade: websocket" \
+        -H "Sec-WebSocket-Version: 13" -H "Sec-WebSocket-Key: dGhlIHNhbXBsZSBub25jZQ==" \
+        "$BASE/game?v=1" || true
+}
+
+for mode in "${MODES[@]}"; do
+    results=()
+    for run in $(seq 1 "$RUNS"); do
+        start_app "$mode"
+        if wait_ready; then
+            open_game
+            for _ in $(seq 1 50); do
+                grep -q "First game connection accepted" "$LOG" && break
+                sleep 0.1
+            done
+        fi
+        ms=$(grep -o "First game connection accepted [0-9]* ms" "$LOG" | grep -o "[0-9]*" || true)
+        kill "$APP_PID" 2> /dev/null || true
+        wait "$APP_PID" 2> /dev/null || true
+
+        if [[ -z "$ms" ]]; then
+            echo "$mode #$run: keine Verbindung zugelassen (Log: $(tail -n 1 "$LOG"))" >&2
+            continue
+        fi
+        echo "$mode #$run: $ms ms"
+        results+=("$ms")
+    done
+
+    if [[ ${#results[@]} -gt 0 ]]; then
+        median=$(printf '%s\n' "${results[@]}" | sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }')
+        echo "$mode: median $median ms over ${#results[@]} runs"
+    fi
+done
@@ -5,6 +5,9 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * GameConfiguration - Zentrale Konfiguration für Spielparameter
  * Ermöglicht einfache Anpassung über application.properties
@@ -62,6 +65,302 @@ public class GameConfiguration {
      */
     private int divisionMax = 10;
 
+    /**
+     * Intervall in Millisekunden, in dem Punktestände an den Gegner gesendet werden
+     * Mehrere Antworten innerhalb des Intervalls werden zu einem Update zusammengefasst
+     * (0 = sofort senden, kein Zusammenfassen)
+     */
+    private long scoreFlushIntervalMs = 100;
+
+    /**
+     * Verzögerung in Millisekunden, mit der Zuschauer Spielereignisse sehen
+     * (verhindert dass Spieler den Stream des Gegners live mitlesen)
+     */
+    private long spectatorDelayMs = 2000;
+
+    /**
+     * Maximale Anzahl gepufferter Frames pro Zuschauer
+     * Bei Überlauf wird der älteste Frame verworfen (Zuschauer sieht nur den neuesten Stand)
+     */
+    private int spectatorQueueSize = 16;
+
+    /**
+     * Anzahl verworfener Frames in Folge, nach der ein langsamer Zuschauer getrennt wird
+     */
+    private int spectatorMaxDroppedFrames = 64;
+
+    /**
+     * Maximale Anzahl Zuschauer pro Spiel
+     */
+    private int maxSpectatorsPerGame = 10_000;
+
+    /**
+     * Maximale Anzahl gleichzeitiger Zuschauer-Verbindungen pro Client-IP (über alle Spiele)
+     */
+    private int maxSpectatorsPerIp = 20;
+
+    /**
+     * Maximale Anzahl Spieler in einem Battle-Raum
+     */
+    private int battleRoomSize = 100;
+
+    /**
+     * Mindestanzahl Spieler, mit der ein Battle-Raum nach Ablauf der Wartezeit startet
+     */
+    private int battleMinPlayers = 3;
+
+    /**
+     * Wartezeit der Battle-Lobby in Sekunden (danach Start mit den anwesenden Spielern)
+     */
+    private int battleLobbyWaitSeconds = 20;
+
+    /**
+     * Anzahl Plätze der Live-Rangliste im Battle-Raum
+     */
+    private int battleLeaderboardSize = 10;
+
+    /**
+     * Intervall in Millisekunden, in dem Ranglisten-Änderungen an den Raum gesendet werden
+     */
+    private long battleLeaderboardIntervalMs = 250;
+
+    /**
+     * Maximale Zeit in der Warteschlange bzw. Battle-Lobby in Sekunden (danach wird der Spieler getrennt)
+     */
+    private long waitingTtlSeconds = 300;
+
+    /**
+     * Maximale Zeit zwischen Match und Spielstart in Sekunden
+     */
+    private long readyTtlSeconds = 60;
+
+    /**
+     * Sicherheitsaufschlag auf die Spieldauer in Sekunden - laufende Spiele die
+     * länger als Dauer + Aufschlag RUNNING sind, werden entfernt
+     */
+    private long runningGraceSeconds = 30;
+
+    /**
+     * Maximale Zeit auf dem Ergebnis-Bildschirm in Sekunden (Rematch-Fenster)
+     */
+    private long finishedTtlSeconds = 120;
+
+    /**
+     * Intervall des Lifecycle-Sweeps in Millisekunden
+     */
+    private long lifecycleSweepIntervalMs = 1000;
+
+    /**
+     * Maximale Anzahl Spiele, die pro Sweep geprüft werden (begrenzt die Arbeit pro Durchlauf)
+     */
+    private int lifecycleSweepBatchSize = 500;
+
+    /**
+     * Maximale Anzahl beendeter Spiele, die zur Wiederverwendung vorgehalten werden (pro Modus)
+     * 0 = kein Recycling
+     */
+    private int gamePoolSize = 256;
+
+    /**
+     * Wartezeit in Millisekunden, bevor ein freigegebenes Spiel wiederverwendet wird
+     * (laufende Handler-Aufrufe auf dem alten Spiel sind bis dahin abgeschlossen)
+     */
+    private long gamePoolQuarantineMs = 5000;
+
+    /**
+     * Wie lange der Platz eines getrennten Spielers im laufenden Spiel gehalten wird (Sekunden)
+     * In dieser Zeit kann sich der Client mit seinem Token wieder verbinden
+     * 0 = keine Wiederaufnahme, Verbindungsabbruch beendet das Spiel sofort
+     */
+    private long resumeGraceSeconds = 20;
+
+    /**
+     * Anzahl der zuletzt gesendeten Nachrichten pro Spieler, die bei einer Wiederaufnahme
+     * nachgeliefert werden können
+     */
+    private int resumeReplayBufferSize = 256;
+
+    /**
+     * Admission Control: maximale Anzahl Spiele auf diesem Knoten
+     */
+    private int admissionMaxGames = 5000;
+
+    /**
+     * Admission Control: maximale Anzahl Spieler-Verbindungen auf diesem Knoten
+     */
+    private int admissionMaxConnections = 10000;
+
+    /**
+     * Admission Control: maximale Verspätung des Spiel-Schedulers in Millisekunden
+     */
+    private long admissionMaxSchedulerLagMs = 250;
+
+    /**
+     * Admission Control: maximale Anzahl gleichzeitig laufender Sendevorgänge
+     */
+    private int admissionMaxPendingSends = 1000;
+
+    /**
+     * Admission Control: maximale p99-Verarbeitungszeit einer Antwort in Millisekunden
+     */
+    private long admissionMaxAnswerP99Ms = 200;
+
+    /**
+     * Admission Control: Wartezeit in Sekunden, die abgewiesenen Clients genannt wird
+     */
+    private int admissionRetryAfterSeconds = 5;
+
+    /**
+     * Admission Control: Intervall der Lastbewertung in Millisekunden
+     */
+    private long admissionEvaluateIntervalMs = 1000;
+
+    /**
+     * Handshake-Flood-Filter: maximale Anzahl Verbindungsaufbauten pro IP und Fenster
+     */
+    private int handshakeMaxPerIp = 20;
+
+    /**
+     * Handshake-Flood-Filter: Fensterlänge in Millisekunden
+     */
+    private long handshakeWindowMs = 10000;
+
+    /**
+     * Client-IP aus X-Forwarded-For lesen (nur hinter einem Proxy aktivieren, der den Header setzt)
+     */
+    private boolean handshakeTrustForwardedFor = false;
+
+    /**
+     * Drain: maximale Wartezeit in Sekunden auf laufende Spiele, danach wird trotzdem heruntergefahren
+     * (muss unter spring.lifecycle.timeout-per-shutdown-phase liegen)
+     */
+    private long drainDeadlineSeconds = 90;
+
+    /**
+     * Drain über /actuator/drain: Knoten fährt herunter, sobald er leer ist
+     */
+    private boolean drainExitWhenIdle = true;
+
+    /**
+     * Warm-up: synthetische Duelle vor der Readiness spielen (JIT, Jackson, Handler-Pfade)
+     */
+    private boolean warmupEnabled = true;
+
+    /**
+     * Warm-up: mindestens so viele Duelle, bevor Steady State festgestellt werden kann
+     */
+    private int warmupMinDuels = 30;
+
+    /**
+     * Warm-up: höchstens so viele Duelle (Abbruch auch ohne Steady State)
+     */
+    private int warmupMaxDuels = 300;
+
+    /**
+     * Warm-up: maximale relative Abweichung der Antwort-Latenz zwischen zwei Messfenstern für Steady State
+     */
+    private double warmupSteadyTolerance = 0.1;
+
+    /**
+     * Bot-Gegner für Spieler, die zu lange allein warten
+     */
+    private boolean botEnabled = true;
+
+    /**
+     * Bot-Gegner: Wartezeit in Sekunden bis ein Bot ins Duell kommt (obere Grenze für die Zeit bis zum Match)
+     */
+    private long botJoinAfterSeconds = 10;
+
+    /**
+     * Bot-Gegner: Trefferquote, pro Bot gleichverteilt zwischen Minimum und Maximum
+     */
+    private double botAccuracyMin = 0.7;
+    private double botAccuracyMax = 0.95;
+
+    /**
+     * Bot-Gegner: Median der Bedenkzeit pro Frage in ms, pro Bot gleichverteilt zwischen Minimum und Maximum
+     */
+    private long botThinkMedianMinMs = 1800;
+    private long botThinkMedianMaxMs = 3500;
+
+    /**
+     * Bot-Gegner: Streuung der Bedenkzeit (Sigma der Log-Normalverteilung um den Median)
+     */
+    private double botThinkSpread = 0.35;
+
+    /**
+     * Lobby-Anzeige (Spieler online, laufende Spiele, geschätzte Wartezeit) an wartende Spieler senden
+     */
+    private boolean lobbyPresenceEnabled = true;
+
+    /**
+     * Lobby-Anzeige: Intervall in ms, in dem die Zähler gelesen und an die Warteschlange gesendet werden
+     */
+    private long lobbyPresenceIntervalMs = 2000;
+
+    /**
+     * Tages-Challenge: Anzahl Plätze der Top-Liste
+     */
+    private int dailyTopSize = 10;
+
+    /**
+     * Tages-Challenge: Anzahl archivierter Tage im Speicher
+     */
+    private int dailyArchiveDays = 30;
+
+    /**
+     * Tages-Challenge: maximale Anzahl Abgaben pro Client-IP und Tag (mehrere Spieler hinter einem NAT)
+     */
+    private int dailyMaxSubmissionsPerIp = 10;
+
+    /**
+     * Tages-Challenge: Schlüssel der Spieler-Tokens (mindestens 32 Zeichen) - nur aus der Umgebung
+     * (WARDUEL_DAILY_TOKEN_SECRET). Leer = zufälliger Schlüssel pro Prozess.
+     */
+    private String dailyTokenSecret = "";
+
+    /**
+     * Tages-Challenge: Datei, an die jeder abgeschlossene Tag als JSON-Zeile angehängt wird (leer = nur im Speicher)
+     */
+    private String dailyArchiveFile = "";
+
+    /**
+     * Ereignis-Log: Plätze im Ringpuffer zwischen Spiel-Threads und Schreib-Thread (voll = Ereignis verworfen)
+     */
+    private int eventLogBufferSize = 8192;
+
+    /**
+     * Ereignis-Log: Samplingrate pro Ereignistyp (0..1), z.B. game.event-sample-rates.message-received=0.01
+     * Nicht gesetzte Typen behalten ihren Standard, kritische Ereignisse werden immer geschrieben
+     */
+    private Map<String, Double> eventSampleRates = new HashMap<>();
+
+    /**
+     * Empfangspuffer für Text pro WebSocket-Session in Zeichen (= maximale Länge einer eingehenden Nachricht)
+     */
+    private int websocketTextBufferSize = 1024;
+
+    /**
+     * Empfangspuffer für Binärnachrichten pro WebSocket-Session in Bytes (der Client sendet nur Text)
+     */
+    private int websocketBinaryBufferSize = 256;
+
+    /**
+     * Spring Security (Basic Auth für /actuator/drain) laden - im Profil "lean" aus
+     */
+    private boolean securityEnabled = true;
+
+    /**
+     * Betreiber-Zugang (Basic Auth) für /actuator/drain und /actuator/metrics: Benutzername
+     */
+    private String adminUser = "admin";
+
+    /**
+     * Betreiber-Zugang: Passwort im Klartext oder als BCrypt-Hash - nur aus der Umgebung
+     * (WARDUEL_ADMIN_PASSWORD). Leer = kein Zugang, beide Endpoints bleiben gesperrt.
+     */
+    private String adminPassword = "";
+
     /**
      * Prüft ob vorzeitiger Sieg aktiviert ist
      */
@@ -1,13 +1,25 @@
 package com.warduel.warduel.config;
 
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.regex.Pattern;
+
 /**
  * SecurityConfig - Security configuration for MathWars game
  *
@@ -22,22 +34,67 @@ import org.springframework.security.web.SecurityFilterChain;
  *  - JWT token-based authentication
  *  - WebSocket session validation
  *  - Player statistics and leaderboards
+ *
+ * Nur aktiv mit game.security-enabled=true (Standard). Das Profil "lean" schaltet
+ * Security samt Auto-Konfiguration ab - der Drain läuft dort nur über SIGTERM.
+ *
+ * Der einzige Benutzer ist der Betreiber-Zugang aus game.admin-user / game.admin-password
+ * (Umgebung, kein Standard-Passwort). Ohne Passwort gibt es keinen Benutzer - Drain und
+ * Metriken antworten dann immer mit 401.
  */
 @Configuration
+@ConditionalOnProperty(prefix = "game", name = "security-enabled", havingValue = "true", matchIfMissing = true)
 @EnableWebSecurity
+@Slf4j
 public class SecurityConfig {
 
+    private static final String ADMIN_ROLE = "ADMIN";
+
+    // Bereits gehashte Passwörter werden unverändert übernommen
+    private static final Pattern BCRYPT_HASH = Pattern.compile("\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}");
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
             .csrf(csrf -> csrf.disable())  // Disable CSRF für API/WebSocket
+            .sessionManagement(session -> session
+                .sessionCreationPolicy(SessionCreationPolicy.STATELESS))  // Keine HttpSession pro Besucher
             .authorizeHttpRequests(auth -> auth
+                // Admin: Drain für Rolling Deploys, Metriken (RTT, Admission, Bots, Ereignisse) nur für Betreiber
+                .requestMatchers(EndpointRequest.to("drain", "metrics")).authenticated()
                 .anyRequest().permitAll()  // Temporär: Erlaube alle Anfragen
-            );
+            )
+            .httpBasic(Customizer.withDefaults());
 
         return http.build();
     }
 
+    /**
+     * Versionierte Assets (CSS/JS) laufen gar nicht erst durch die Filterkette
+     */
+    @Bean
+    public WebSecurityCustomizer staticAssetsCustomizer() {
+        return web -> web.ignoring().requestMatchers("/assets/**");
+    }
+
+    /**
+     * Betreiber-Zugang - ersetzt den generierten Standardbenutzer von Spring Boot
+     */
+    @Bean
+    public UserDetailsService adminUserDetailsService(GameConfiguration gameConfig, PasswordEncoder passwordEncoder) {
+        String secret = gameConfig.getAdminPassword();
+        if(secret == null || secret.isBlank()) {
+            log.warn("No admin password configured (WARDUEL_ADMIN_PASSWORD) - /actuator/drain and /actuator/metrics are locked");
+            return new InMemoryUserDetailsManager();
+        }
+
+        String hash = BCRYPT_HASH.matcher(secret).matches() ? secret : passwordEncoder.encode(secret);
+        return new InMemoryUserDetailsManager(User.withUsername(gameConfig.getAdminUser())
+                .password(hash)
+                .roles(ADMIN_ROLE)
+                .build());
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -1,29 +1,72 @@
 package com.warduel.warduel.config;
 
 import com.warduel.warduel.websocket.GameWebSocketHandler;
+import com.warduel.warduel.websocket.HandshakeGate;
+import com.warduel.warduel.websocket.SpectatorWebSocketHandler;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
-import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
 
 /**
  * WebSocketConfig - Konfiguriert WebSocket-Endpunkte
+ *
+ * Der Tomcat-NIO-Connector hält ruhende Verbindungen ohne Thread im Poller - der
+ * Speicher pro Verbindung wird vor allem von den Empfangspuffern bestimmt, die Tomcat
+ * für jede Session fest anlegt (Standard 8 KB Text + 8 KB Binär). Unsere Frames sind
+ * wenige hundert Bytes groß, die Puffer werden deshalb passend verkleinert.
+ *
+ * NOCH OFFEN (Event-Loop-Transport):
+ *  - Alternativer Transport auf WebFlux/Reactor Netty, per Property wählbar
+ *  - Dafür transport-neutrale Schnittstelle aus GameWebSocketHandler herauslösen;
+ *    HandshakeGate, Security und diese Konfiguration sind bisher nur Servlet
+ *  - Vergleich Speicher pro ruhender Verbindung und p99-Antwortzeit bei 50k Verbindungen
+ * Bis dahin ist Tomcat der einzige Transport, hier werden nur seine Puffer abgestimmt.
  */
 @Configuration
 @EnableWebSocket
 public class WebSocketConfig implements WebSocketConfigurer {
 
+    private static final String[] ALLOWED_ORIGINS = {
+            "https://warduel-production.up.railway.app", "http://localhost:8080"
+    };
+
     private final GameWebSocketHandler gameWebSocketHandler;
+    private final SpectatorWebSocketHandler spectatorWebSocketHandler;
+    private final HandshakeGate handshakeGate;
+    private final GameConfiguration gameConfig;
 
-    public WebSocketConfig(GameWebSocketHandler gameWebSocketHandler) {
+    public WebSocketConfig(GameWebSocketHandler gameWebSocketHandler, SpectatorWebSocketHandler spectatorWebSocketHandler,
+                           HandshakeGate handshakeGate, GameConfiguration gameConfig) {
         this.gameWebSocketHandler = gameWebSocketHandler;
+        this.spectatorWebSocketHandler = spectatorWebSocketHandler;
+        this.handshakeGate = handshakeGate;
+        this.gameConfig = gameConfig;
     }
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        // Ohne HttpSession: nur Token, Protokollversion und Client-IP + Flood-Filter pro IP
         registry.addHandler(gameWebSocketHandler, "/game")
-                .setAllowedOrigins("https://warduel-production.up.railway.app", "http://localhost:8080")
-                .addInterceptors(new HttpSessionHandshakeInterceptor());
+                .setAllowedOrigins(ALLOWED_ORIGINS)
+                .addInterceptors(handshakeGate);
+
+        // Zuschauer (read-only): /spectate?game=<gameId> - gleicher Flood-Filter, Client-IP für das Limit pro IP
+        registry.addHandler(spectatorWebSocketHandler, "/spectate")
+                .setAllowedOrigins(ALLOWED_ORIGINS)
+                .addInterceptors(handshakeGate);
+    }
+
+    /**
+     * Empfangspuffer pro Session (begrenzen zugleich die maximale Größe eingehender Nachrichten)
+     */
+    @Bean
+    public ServletServerContainerFactoryBean createWebSocketContainer() {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        container.setMaxTextMessageBufferSize(gameConfig.getWebsocketTextBufferSize());
+        container.setMaxBinaryMessageBufferSize(gameConfig.getWebsocketBinaryBufferSize());
+        return container;
     }
-}
\ No newline at end of file
+}
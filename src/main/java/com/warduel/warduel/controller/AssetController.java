@@ -0,0 +1,69 @@
+package com.warduel.warduel.controller;
+
+import com.warduel.warduel.service.AssetPipeline;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AssetController - Liefert versionierte CSS/JS-Dateien aus dem Speicher der AssetPipeline
+ *
+ * Aktuelle Version: ein Jahr cachebar und immutable, gzip-Variante wenn der Client sie akzeptiert.
+ * Veraltete Version (Seite von einem anderen Knoten während eines Deploys): aktueller Inhalt,
+ * aber nur mit Revalidierung cachebar.
+ */
+@RestController
+public class AssetController {
+
+    private static final String ASSET_PREFIX = "/assets/";
+    private static final long IMMUTABLE_MAX_AGE_DAYS = 365;
+    private static final String GZIP = "gzip";
+
+    private final AssetPipeline assetPipeline;
+
+    public AssetController(AssetPipeline assetPipeline) {
+        this.assetPipeline = assetPipeline;
+    }
+
+    @GetMapping("/assets/{version}/**")
+    public ResponseEntity<byte[]> asset(@PathVariable String version, HttpServletRequest request,
+                                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                        @Nullable String acceptEncoding) {
+        String uri = request.getRequestURI();
+        String path = uri.substring(uri.indexOf('/', ASSET_PREFIX.length()) + 1);
+
+        AssetPipeline.Asset asset = assetPipeline.find(path);
+        if(asset == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        CacheControl cacheControl = version.equals(assetPipeline.getVersion())
+                ? CacheControl.maxAge(IMMUTABLE_MAX_AGE_DAYS, TimeUnit.DAYS).cachePublic().immutable()
+                : CacheControl.noCache();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(asset.contentType()))
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                // Explizit, sonst hängt Spring für .css/.js einen RFD-Schutz-Dateinamen an
+                .header(HttpHeaders.CONTENT_DISPOSITION, "inline");
+
+        if(asset.gzip() != null && acceptEncoding != null && acceptEncoding.contains(GZIP)) {
+            return response.eTag(asset.etag() + "-" + GZIP)
+                    .header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                    .body(asset.gzip());
+        }
+        return response.eTag(asset.etag()).body(asset.body());
+    }
+}
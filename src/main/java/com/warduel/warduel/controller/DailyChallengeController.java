@@ -0,0 +1,45 @@
+package com.warduel.warduel.controller;
+
+import com.warduel.warduel.model.DailyRanking;
+import com.warduel.warduel.service.DailyChallengeService;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DailyChallengeController - Stand der heutigen Tages-Challenge und Archiv der Vortage
+ * Beides direkt aus dem Speicher des DailyChallengeService
+ */
+@RestController
+public class DailyChallengeController {
+
+    /**
+     * Heutiger Stand (Teilnehmer und Top-Liste)
+     */
+    public record DailyOverview(LocalDate date, long totalPlayers, List<DailyRanking.TopEntry> top) {
+    }
+
+    private final DailyChallengeService dailyChallenge;
+
+    public DailyChallengeController(DailyChallengeService dailyChallenge) {
+        this.dailyChallenge = dailyChallenge;
+    }
+
+    @GetMapping("/api/daily")
+    public DailyOverview today() {
+        DailyChallengeService.Challenge challenge = dailyChallenge.current();
+        DailyRanking ranking = challenge.ranking();
+        return new DailyOverview(challenge.date(), ranking.getTotalPlayers(), ranking.top());
+    }
+
+    /**
+     * Archivierte Tage, neuester zuerst
+     */
+    @GetMapping("/api/daily/archive")
+    public List<DailyChallengeService.Archive> archive() {
+        return dailyChallenge.getArchive();
+    }
+}
@@ -1,35 +1,78 @@
 package com.warduel.warduel.controller;
 
+import com.warduel.warduel.service.PageCache;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+import java.nio.charset.StandardCharsets;
 
 /**
  * HomeController - Liefert die HTML-Seiten aus
+ *
+ * Die Seiten sind beim Start vorgerendert (PageCache) - hier wird nur noch
+ * die passende Variante gewählt. Browser revalidieren per ETag (304 ohne Body).
  */
 @Controller
 public class HomeController {
 
+    private static final String GZIP = "gzip";
+
+    private final PageCache pageCache;
+
+    public HomeController(PageCache pageCache) {
+        this.pageCache = pageCache;
+    }
+
     /**
      * Zeigt die Hauptseite (Spiel-Interface)
      */
     @GetMapping("/")
-    public String index() {
-        return "index"; // Gibt templates/index.html zurück
+    public ResponseEntity<byte[]> index(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                        @Nullable String acceptEncoding) {
+        return page("index", acceptEncoding); // templates/index.html, vorgerendert
     }
 
     /**
      * Zeigt die Impressum-Seite (Legal Notice)
      */
     @GetMapping("/impressum")
-    public String impressum() {
-        return "impressum";
+    public ResponseEntity<byte[]> impressum(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                            @Nullable String acceptEncoding) {
+        return page("impressum", acceptEncoding);
     }
 
     /**
      * Zeigt die Datenschutzerklärung (Privacy Policy)
      */
     @GetMapping("/datenschutz")
-    public String datenschutz() {
-        return "datenschutz";
+    public ResponseEntity<byte[]> datenschutz(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                              @Nullable String acceptEncoding) {
+        return page("datenschutz", acceptEncoding);
+    }
+
+    /**
+     * Vorgerenderte Seite; If-None-Match wird von Spring gegen das ETag geprüft (304)
+     */
+    private ResponseEntity<byte[]> page(String name, @Nullable String acceptEncoding) {
+        PageCache.Page page = pageCache.get(name);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if(page.gzip() != null && acceptEncoding != null && acceptEncoding.contains(GZIP)) {
+            return response.eTag(page.etag() + "-" + GZIP)
+                    .header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                    .body(page.gzip());
+        }
+        return response.eTag(page.etag()).body(page.body());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package com.warduel.warduel.controller;
+
+import com.warduel.warduel.dto.LiveGameSummary;
+import com.warduel.warduel.model.GameSession;
+import com.warduel.warduel.model.Player;
+import com.warduel.warduel.service.GameService;
+import com.warduel.warduel.websocket.SpectatorHub;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * SpectatorController - Übersicht der laufenden Duelle zum Zuschauen
+ */
+@RestController
+public class SpectatorController {
+
+    private final GameService gameService;
+    private final SpectatorHub spectatorHub;
+
+    public SpectatorController(GameService gameService, SpectatorHub spectatorHub) {
+        this.gameService = gameService;
+        this.spectatorHub = spectatorHub;
+    }
+
+    /**
+     * Listet alle laufenden Duelle (Battle-Räume haben keine Zuschauer-Ansicht)
+     */
+    @GetMapping("/api/spectate/games")
+    public List<LiveGameSummary> liveGames() {
+        return gameService.getRunningGames().stream()
+                .filter(game -> game.getMode() == GameSession.GameMode.DUEL)
+                .map(this::toSummary)
+                .toList();
+    }
+
+    private LiveGameSummary toSummary(GameSession game) {
+        Player player1 = game.getPlayer1();
+        Player player2 = game.getPlayer2();
+        return new LiveGameSummary(
+                game.getGameId(),
+                player1 != null ? player1.getDisplayName() : null,
+                player2 != null ? player2.getDisplayName() : null,
+                player1 != null ? player1.getScore() : 0,
+                player2 != null ? player2.getScore() : 0,
+                game.getRemainingSeconds(),
+                spectatorHub.getWatcherCount(game.getGameId())
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package com.warduel.warduel.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import lombok.*;
+
+/**
+ * AnswerResultMessage - Server antwortet dem antwortenden Spieler in EINEM Frame
+ * Enthält Ergebnis der Antwort, beide Punktestände und die nächste Frage
+ * Ersetzt SCORE_UPDATE + QUESTION nach jeder Antwort
+ * Im Battle-Raum kommen yourRank (eigener Platz) und topScore (Bestwert im Raum) dazu,
+ * opponentScore ist dort 0 (kein einzelner Gegner)
+ * Beispiel: {"type": "ANSWER_RESULT", "wasCorrect": true, "yourScore": 3, "opponentScore": 2,
+ *            "questionText": "7 × 6", "questionNumber": 5, "remainingSeconds": 41}
+ */
+
+@Getter
+@Setter
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+@JsonTypeName("ANSWER_RESULT")
+public class AnswerResultMessage extends BaseMessage {
+
+    private boolean wasCorrect;
+    private int yourScore;
+    private int opponentScore;
+
+    // Nächste Frage (null wenn keine weitere Frage folgt, z.B. bei vorzeitigem Sieg)
+    private String questionText;
+    private Integer questionNumber;
+    private Long remainingSeconds;
+
+    // Nur im Battle-Raum (im Duell nicht im JSON)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer yourRank;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer topScore;
+
+    public AnswerResultMessage() {
+        super();
+        setType("ANSWER_RESULT");
+    }
+
+    public AnswerResultMessage(boolean wasCorrect, int yourScore, int opponentScore) {
+        this();
+        this.wasCorrect = wasCorrect;
+        this.yourScore = yourScore;
+        this.opponentScore = opponentScore;
+    }
+
+    public AnswerResultMessage(boolean wasCorrect, int yourScore, int opponentScore,
+                               String questionText, int questionNumber, long remainingSeconds) {
+        this(wasCorrect, yourScore, opponentScore);
+        this.questionText = questionText;
+        this.questionNumber = questionNumber;
+        this.remainingSeconds = remainingSeconds;
+    }
+}
@@ -20,11 +20,23 @@ import lombok.Setter;
         @JsonSubTypes.Type(value = QuestionMessage.class, name = "QUESTION"),
         @JsonSubTypes.Type(value = AnswerMessage.class, name = "ANSWER"),
         @JsonSubTypes.Type(value = ScoreUpdateMessage.class, name = "SCORE_UPDATE"),
+        @JsonSubTypes.Type(value = AnswerResultMessage.class, name = "ANSWER_RESULT"),
         @JsonSubTypes.Type(value = GameOverMessage.class, name = "GAME_OVER"),
         @JsonSubTypes.Type(value = ErrorMessage.class, name = "ERROR"),
         @JsonSubTypes.Type(value = RematchMessage.class, name = "REMATCH"),
         @JsonSubTypes.Type(value = ForfeitMessage.class, name = "FORFEIT"),
-        @JsonSubTypes.Type(value = HeartbeatMessage.class, name = "HEARTBEAT")
+        @JsonSubTypes.Type(value = HeartbeatMessage.class, name = "HEARTBEAT"),
+        @JsonSubTypes.Type(value = SpectatorStateMessage.class, name = "SPECTATOR_STATE"),
+        @JsonSubTypes.Type(value = LeaderboardMessage.class, name = "LEADERBOARD"),
+        @JsonSubTypes.Type(value = SessionMessage.class, name = "SESSION"),
+        @JsonSubTypes.Type(value = ResumedMessage.class, name = "RESUMED"),
+        @JsonSubTypes.Type(value = LobbyStatsMessage.class, name = "LOBBY_STATS"),
+        @JsonSubTypes.Type(value = PracticeSetMessage.class, name = "PRACTICE_SET"),
+        @JsonSubTypes.Type(value = PracticeSubmitMessage.class, name = "PRACTICE_SUBMIT"),
+        @JsonSubTypes.Type(value = PracticeResultMessage.class, name = "PRACTICE_RESULT"),
+        @JsonSubTypes.Type(value = DailySetMessage.class, name = "DAILY_SET"),
+        @JsonSubTypes.Type(value = DailyResultMessage.class, name = "DAILY_RESULT"),
+        @JsonSubTypes.Type(value = DailyTopMessage.class, name = "DAILY_TOP")
 })
 public abstract class BaseMessage {
 
@@ -0,0 +1,54 @@
+package com.warduel.warduel.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import lombok.*;
+
+/**
+ * DailyResultMessage - Geprüftes Ergebnis und Platzierung in der Tages-Challenge
+ * percentile = Anteil der Teilnehmer mit schlechterem Ergebnis in Prozent
+ * Beispiel: {"type": "DAILY_RESULT", "verified": true, "score": 17, "answered": 19, "questionCount": 20,
+ *            "rank": 42, "totalPlayers": 1380, "percentile": 96.9}
+ * Bei verified = false steht der Grund in reason, rank ist dann 0
+ * token = Spieler-Kennung für die nächsten Tage (Client speichert es und schickt es beim Verbinden mit)
+ */
+
+@Getter
+@Setter
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+@JsonTypeName("DAILY_RESULT")
+public class DailyResultMessage extends BaseMessage {
+
+    private boolean verified;
+    private int score;
+    private int answered;
+    private int questionCount;
+    private long rank;
+    private long totalPlayers;
+    private double percentile;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String reason;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String token;
+
+    public DailyResultMessage() {
+        super();
+        setType("DAILY_RESULT");
+    }
+
+    public DailyResultMessage(boolean verified, int score, int answered, int questionCount,
+                              long rank, long totalPlayers, double percentile, String reason) {
+        this();
+        this.verified = verified;
+        this.score = score;
+        this.answered = answered;
+        this.questionCount = questionCount;
+        this.rank = rank;
+        this.totalPlayers = totalPlayers;
+        this.percentile = percentile;
+        this.reason = reason;
+    }
+}
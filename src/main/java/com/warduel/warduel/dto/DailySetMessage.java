@@ -0,0 +1,36 @@
+package com.warduel.warduel.dto;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DailySetMessage - Fragen der Tages-Challenge (für alle Spieler eines Tages gleich)
+ * Wird einmal pro Tag serialisiert und an jede Verbindung als derselbe Frame gesendet
+ * Beispiel: {"type": "DAILY_SET", "date": "2026-10-18", "questions": ["5 + 3", ...], "durationSeconds": 60}
+ */
+
+@Getter
+@Setter
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+@JsonTypeName("DAILY_SET")
+public class DailySetMessage extends BaseMessage {
+
+    private String date;
+    private List<String> questions;
+    private int durationSeconds;
+
+    public DailySetMessage() {
+        super();
+        setType("DAILY_SET");
+    }
+
+    public DailySetMessage(String date, List<String> questions, int durationSeconds) {
+        this();
+        this.date = date;
+        this.questions = questions;
+        this.durationSeconds = durationSeconds;
+    }
+}
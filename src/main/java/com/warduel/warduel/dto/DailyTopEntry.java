@@ -0,0 +1,17 @@
+package com.warduel.warduel.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * DailyTopEntry - Eine Zeile der Top-Liste der Tages-Challenge
+ * timeMs = Zeitpunkt der letzten Antwort (entscheidet bei gleichen Punkten)
+ */
+@Getter
+@AllArgsConstructor
+public class DailyTopEntry {
+
+    private long rank;
+    private int score;
+    private long timeMs;
+}
@@ -0,0 +1,35 @@
+package com.warduel.warduel.dto;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DailyTopMessage - Top-Liste der Tages-Challenge
+ * Wird nur bei einer Änderung der Top-Liste neu serialisiert, sonst an alle derselbe Frame
+ * (die Teilnehmerzahl steht deshalb im DAILY_RESULT)
+ * Beispiel: {"type": "DAILY_TOP", "date": "2026-10-18", "entries": [{"rank": 1, "score": 20, "timeMs": 41200}]}
+ */
+
+@Getter
+@Setter
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+@JsonTypeName("DAILY_TOP")
+public class DailyTopMessage extends BaseMessage {
+
+    private String date;
+    private List<DailyTopEntry> entries;
+
+    public DailyTopMessage() {
+        super();
+        setType("DAILY_TOP");
+    }
+
+    public DailyTopMessage(String date, List<DailyTopEntry> entries) {
+        this();
+        this.date = date;
+        this.entries = entries;
+    }
+}
@@ -0,0 +1,18 @@
+package com.warduel.warduel.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * LeaderboardEntry - Eine Zeile der Live-Rangliste im Battle-Raum
+ * position = Zeile in der Top-Liste (0-basiert), rank = Platz (gleicher Punktestand = gleicher Platz)
+ */
+@Getter
+@AllArgsConstructor
+public class LeaderboardEntry {
+
+    private int position;
+    private int rank;
+    private String name;
+    private int score;
+}
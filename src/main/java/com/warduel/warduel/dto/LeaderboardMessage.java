@@ -0,0 +1,38 @@
+package com.warduel.warduel.dto;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * LeaderboardMessage - Änderungen der Live-Rangliste im Battle-Raum
+ * Enthält nur die Zeilen, die sich seit dem letzten Update geändert haben
+ * Der Client übernimmt sie und kürzt seine Liste auf size Zeilen
+ * Beispiel: {"type": "LEADERBOARD", "changed": [{"position": 0, "rank": 1, "name": "Spieler 7", "score": 9}],
+ *            "size": 10, "totalPlayers": 64}
+ */
+
+@Getter
+@Setter
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+@JsonTypeName("LEADERBOARD")
+public class LeaderboardMessage extends BaseMessage {
+
+    private List<LeaderboardEntry> changed;
+    private int size;
+    private int totalPlayers;
+
+    public LeaderboardMessage() {
+        super();
+        setType("LEADERBOARD");
+    }
+
+    public LeaderboardMessage(List<LeaderboardEntry> changed, int size, int totalPlayers) {
+        this();
+        this.changed = changed;
+        this.size = size;
+        this.totalPlayers = totalPlayers;
+    }
+}
@@ -0,0 +1,21 @@
+package com.warduel.warduel.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * LiveGameSummary - Kurzinfo zu einem laufenden Duell für die Zuschauer-Übersicht
+ * Link zum Zuschauen: /?watch=<gameId>
+ */
+@Getter
+@AllArgsConstructor
+public class LiveGameSummary {
+
+    private String gameId;
+    private String player1Name;
+    private String player2Name;
+    private int player1Score;
+    private int player2Score;
+    private long remainingSeconds;
+    private int spectators;
+}
@@ -0,0 +1,35 @@
+package com.warduel.warduel.dto;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import lombok.*;
+
+/**
+ * LobbyStatsMessage - Lobby-Anzeige für wartende Spieler
+ * Wird pro Intervall einmal serialisiert und an alle wartenden Spieler eines Modus gesendet
+ * Beispiel: {"type": "LOBBY_STATS", "playersOnline": 42, "gamesInProgress": 17, "estimatedWaitSeconds": 6}
+ * estimatedWaitSeconds = -1 wenn keine Schätzung möglich ist
+ */
+
+@Getter
+@Setter
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+@JsonTypeName("LOBBY_STATS")
+public class LobbyStatsMessage extends BaseMessage {
+
+    private long playersOnline;
+    private long gamesInProgress;
+    private long estimatedWaitSeconds;
+
+    public LobbyStatsMessage() {
+        super();
+        setType("LOBBY_STATS");
+    }
+
+    public LobbyStatsMessage(long playersOnline, long gamesInProgress, long estimatedWaitSeconds) {
+        this();
+        this.playersOnline = playersOnline;
+        this.gamesInProgress = gamesInProgress;
+        this.estimatedWaitSeconds = estimatedWaitSeconds;
+    }
+}
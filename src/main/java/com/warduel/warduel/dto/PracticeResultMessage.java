@@ -0,0 +1,40 @@
+package com.warduel.warduel.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import lombok.*;
+
+/**
+ * PracticeResultMessage - Vom Server geprüftes Ergebnis einer Übungsrunde
+ * Beispiel: {"type": "PRACTICE_RESULT", "verified": true, "score": 14, "answered": 17, "questionCount": 20}
+ * Bei verified = false steht der Grund in reason, score ist dann 0
+ */
+
+@Getter
+@Setter
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+@JsonTypeName("PRACTICE_RESULT")
+public class PracticeResultMessage extends BaseMessage {
+
+    private boolean verified;
+    private int score;
+    private int answered;
+    private int questionCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String reason;
+
+    public PracticeResultMessage() {
+        super();
+        setType("PRACTICE_RESULT");
+    }
+
+    public PracticeResultMessage(boolean verified, int score, int answered, int questionCount, String reason) {
+        this();
+        this.verified = verified;
+        this.score = score;
+        this.answered = answered;
+        this.questionCount = questionCount;
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,34 @@
+package com.warduel.warduel.dto;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * PracticeSetMessage - Alle Fragen einer Übungsrunde in einem Frame
+ * Der Client spielt die Runde lokal und schickt am Ende PRACTICE_SUBMIT
+ * Beispiel: {"type": "PRACTICE_SET", "questions": ["5 + 3", "7 × 6", ...], "durationSeconds": 60}
+ */
+
+@Getter
+@Setter
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+@JsonTypeName("PRACTICE_SET")
+public class PracticeSetMessage extends BaseMessage {
+
+    private List<String> questions;
+    private int durationSeconds;
+
+    public PracticeSetMessage() {
+        super();
+        setType("PRACTICE_SET");
+    }
+
+    public PracticeSetMessage(List<String> questions, int durationSeconds) {
+        this();
+        this.questions = questions;
+        this.durationSeconds = durationSeconds;
+    }
+}
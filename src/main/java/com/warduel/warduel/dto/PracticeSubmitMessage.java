@@ -0,0 +1,26 @@
+package com.warduel.warduel.dto;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import lombok.*;
+
+/**
+ * PracticeSubmitMessage - Client schickt alle Antworten einer Übungsrunde auf einmal
+ * times[i] = Zeitpunkt der i-ten Antwort in ms seit Anzeige der Runde
+ * Beispiel: {"type": "PRACTICE_SUBMIT", "answers": [8, 42, 3], "times": [1830, 4120, 5975]}
+ */
+
+@Getter
+@Setter
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+@JsonTypeName("PRACTICE_SUBMIT")
+public class PracticeSubmitMessage extends BaseMessage {
+
+    private int[] answers = new int[0];
+    private long[] times = new long[0];
+
+    public PracticeSubmitMessage() {
+        super();
+        setType("PRACTICE_SUBMIT");
+    }
+}
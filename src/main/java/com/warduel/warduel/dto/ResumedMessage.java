@@ -0,0 +1,30 @@
+package com.warduel.warduel.dto;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import lombok.*;
+
+/**
+ * ResumedMessage - Bestätigt die Wiederaufnahme einer Spielsitzung
+ * Danach folgen die verpassten Nachrichten ab seq + 1 in Originalreihenfolge
+ * Beispiel: {"type": "RESUMED", "seq": 17}
+ */
+
+@Getter
+@Setter
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+@JsonTypeName("RESUMED")
+public class ResumedMessage extends BaseMessage {
+
+    private long seq;
+
+    public ResumedMessage() {
+        super();
+        setType("RESUMED");
+    }
+
+    public ResumedMessage(long seq) {
+        this();
+        this.seq = seq;
+    }
+}
@@ -0,0 +1,33 @@
+package com.warduel.warduel.dto;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import lombok.*;
+
+/**
+ * SessionMessage - Wiederaufnahme-Token bei Spielstart
+ * Nach einem Verbindungsabbruch verbindet sich der Client mit /game?resume=TOKEN&seq=N neu,
+ * N = Anzahl der seit dieser Nachricht empfangenen Nachrichten
+ * Beispiel: {"type": "SESSION", "token": "eyJhbGciOi...", "graceSeconds": 20}
+ */
+
+@Getter
+@Setter
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+@JsonTypeName("SESSION")
+public class SessionMessage extends BaseMessage {
+
+    private String token;
+    private long graceSeconds;
+
+    public SessionMessage() {
+        super();
+        setType("SESSION");
+    }
+
+    public SessionMessage(String token, long graceSeconds) {
+        this();
+        this.token = token;
+        this.graceSeconds = graceSeconds;
+    }
+}
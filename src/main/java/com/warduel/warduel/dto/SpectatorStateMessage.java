@@ -0,0 +1,43 @@
+package com.warduel.warduel.dto;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.warduel.warduel.model.GameSession.GameStatus;
+import lombok.*;
+
+/**
+ * SpectatorStateMessage - Server sendet Zuschauern den aktuellen Stand eines Duells
+ * Read-only Snapshot: Namen, Punkte, aktuelle Fragen beider Spieler und Restzeit
+ * Wird nach jedem Spielereignis (Start, Antwort, Ende) mit Verzögerung verteilt
+ */
+
+@Getter
+@Setter
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+@JsonTypeName("SPECTATOR_STATE")
+public class SpectatorStateMessage extends BaseMessage {
+
+    private String gameId;
+    private GameStatus gameStatus;
+
+    private String player1Name;
+    private String player2Name;
+    private int player1Score;
+    private int player2Score;
+
+    // Aktuelle Frage je Spieler (null wenn keine Frage aktiv)
+    private String player1Question;
+    private String player2Question;
+    private int player1QuestionNumber;
+    private int player2QuestionNumber;
+
+    private long remainingSeconds;
+
+    // Nur gesetzt wenn das Spiel beendet ist
+    private String winnerName;
+
+    public SpectatorStateMessage() {
+        super();
+        setType("SPECTATOR_STATE");
+    }
+}
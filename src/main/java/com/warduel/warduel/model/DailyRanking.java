@@ -0,0 +1,152 @@
+package com.warduel.warduel.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * DailyRanking - Laufende Rangliste der Tages-Challenge
+ *
+ * Jedes Ergebnis wird beim Eintreffen einsortiert, gespeichert wird nur, was für Rang,
+ * Perzentil und Top-Liste gebraucht wird - keine Liste aller Ergebnisse:
+ *  - Fenwick-Baum über den Ranglisten-Schlüssel (Punkte, dann Zeit in TIME_BUCKET_MS-Schritten):
+ *    Rang und Perzentil in O(log Schlüsselbereich), unabhängig von der Zahl der Teilnehmer
+ *  - Top-Liste als TreeSet mit höchstens topSize Einträgen: Einfügen O(log topSize)
+ *  - Histogramm der Punktestände für das Tagesarchiv
+ *
+ * Gleicher Schlüssel (gleiche Punkte, gleiche Zeitstufe) = gleicher Rang. In der Top-Liste
+ * steht bei Gleichstand vorne, wer zuerst abgegeben hat.
+ *
+ * Thread-safe durch synchronized Methoden
+ */
+public class DailyRanking {
+
+    // Auflösung der Zeit im Schlüssel (feiner lohnt nicht - Antworten liegen Sekunden auseinander)
+    private static final long TIME_BUCKET_MS = 100;
+
+    /**
+     * Platzierung eines Ergebnisses beim Einsortieren
+     * @param percentile Anteil der Teilnehmer mit schlechterem Ergebnis in Prozent
+     */
+    public record Placement(long rank, long totalPlayers, double percentile) {
+    }
+
+    /**
+     * Eine Zeile der Top-Liste
+     */
+    public record TopEntry(long rank, int score, long timeMs) {
+    }
+
+    // Unveränderlicher Eintrag der Top-Liste
+    private record Entry(int key, int score, long timeMs, long sequence) {
+    }
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingInt(Entry::key).reversed()
+            .thenComparingLong(Entry::sequence);
+
+    private final int maxScore;
+    private final int timeBuckets;
+    private final int topSize;
+
+    // Fenwick-Baum: Anzahl Ergebnisse je Schlüssel (Index = Schlüssel + 1)
+    private final long[] keyCounts;
+
+    // Anzahl Ergebnisse je Punktestand (Archiv)
+    private final long[] scoreHistogram;
+
+    private final TreeSet<Entry> top = new TreeSet<>(ORDER);
+    private long totalPlayers;
+    private long sequence;
+
+    // Wird bei jeder Änderung der Top-Liste erhöht (fertige Frames hängen daran)
+    private long topVersion;
+
+    /**
+     * @param maxScore höchster möglicher Punktestand (Anzahl Fragen)
+     * @param maxTimeMs Spielzeit - spätere Zeitpunkte landen in der letzten Zeitstufe
+     */
+    public DailyRanking(int maxScore, long maxTimeMs, int topSize) {
+        this.maxScore = maxScore;
+        this.timeBuckets = (int) (maxTimeMs / TIME_BUCKET_MS) + 1;
+        this.topSize = topSize;
+        this.keyCounts = new long[(maxScore + 1) * timeBuckets + 1];
+        this.scoreHistogram = new long[maxScore + 1];
+    }
+
+    /**
+     * Sortiert ein Ergebnis ein - O(log Schlüsselbereich + log topSize)
+     * @param timeMs Zeitpunkt der letzten Antwort (schneller = besser bei gleichen Punkten)
+     */
+    public synchronized Placement submit(int score, long timeMs) {
+        int clampedScore = Math.max(0, Math.min(score, maxScore));
+        int key = key(clampedScore, timeMs);
+
+        for(int i = key + 1; i < keyCounts.length; i += i & -i) {
+            keyCounts[i]++;
+        }
+        scoreHistogram[clampedScore]++;
+        totalPlayers++;
+
+        Entry entry = new Entry(key, clampedScore, timeMs, ++sequence);
+        if(top.size() < topSize || ORDER.compare(entry, top.last()) < 0) {
+            top.add(entry);
+            if(top.size() > topSize) {
+                top.pollLast();
+            }
+            topVersion++;
+        }
+
+        long below = countAtOrBelow(key - 1);
+        return new Placement(1 + countAbove(key), totalPlayers, 100.0 * below / totalPlayers);
+    }
+
+    /**
+     * Die besten Ergebnisse - O(topSize · log Schlüsselbereich)
+     */
+    public synchronized List<TopEntry> top() {
+        List<TopEntry> rows = new ArrayList<>(top.size());
+        for(Entry entry : top) {
+            rows.add(new TopEntry(1 + countAbove(entry.key()), entry.score(), entry.timeMs()));
+        }
+        return rows;
+    }
+
+    public synchronized long getTopVersion() {
+        return topVersion;
+    }
+
+    public synchronized long getTotalPlayers() {
+        return totalPlayers;
+    }
+
+    /**
+     * Kopie der Anzahl Ergebnisse je Punktestand (Index = Punkte)
+     */
+    public synchronized long[] scoreHistogram() {
+        return scoreHistogram.clone();
+    }
+
+    // ==================== INTERNALS ====================
+
+    /**
+     * Höherer Schlüssel = besseres Ergebnis: erst Punkte, dann kürzere Zeit
+     */
+    private int key(int score, long timeMs) {
+        int bucket = (int) Math.min(Math.max(timeMs, 0) / TIME_BUCKET_MS, timeBuckets - 1);
+        return score * timeBuckets + (timeBuckets - 1 - bucket);
+    }
+
+    private long countAtOrBelow(int key) {
+        long count = 0;
+        for(int i = key + 1; i > 0; i -= i & -i) {
+            count += keyCounts[i];
+        }
+        return count;
+    }
+
+    private long countAbove(int key) {
+        return totalPlayers - countAtOrBelow(key);
+    }
+}
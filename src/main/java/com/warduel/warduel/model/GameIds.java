@@ -0,0 +1,25 @@
+package com.warduel.warduel.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GameIds - Erzeugt fortlaufende Spiel-IDs
+ *
+ * Ein Zähler statt UUID.randomUUID() (kein SecureRandom pro Spiel). Das Präfix aus der
+ * Startzeit des Servers hält die IDs über Neustarts hinweg eindeutig, z.B. "m2x9k1a-1b".
+ */
+public final class GameIds {
+
+    private static final String PREFIX = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX) + "-";
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private GameIds() {
+    }
+
+    /**
+     * Nächste Spiel-ID
+     */
+    public static String next() {
+        return PREFIX + Long.toString(SEQUENCE.incrementAndGet(), Character.MAX_RADIX);
+    }
+}
@@ -1,104 +1,346 @@
 package com.warduel.warduel.model;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.springframework.web.socket.WebSocketSession;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * GameSession - Repräsentiert eine Spielsitzung zwischen zwei Spielern
+ * GameSession - Repräsentiert eine Spielsitzung (Duell oder Battle-Raum)
+ * Spieler sitzen in nummerierten Slots (0..capacity-1), Duelle haben genau zwei Slots
+ *
+ * Objekte werden über GameSessionPool wiederverwendet: recycle() setzt den kompletten
+ * Zustand zurück, vergibt eine neue ID und erhöht die Generation. Verzögerte Aufgaben
+ * merken sich die Generation und entfallen, wenn das Objekt inzwischen ein anderes Spiel ist.
+ * Die Player-Objekte eines Slots werden im nächsten Spiel ebenfalls wiederverwendet.
+ *
  * Thread-safe durch synchronized Methoden
  */
 @Getter
 @Setter
-@ToString(exclude = {"player1", "player2"})
+@ToString(exclude = {"slots", "seated", "spares", "playersById", "standings"})
 public class GameSession {
 
     /**
      * Game Status Enum
      */
     public enum GameStatus {
-        WAITING,    // Wartet auf zweiten Spieler
-        READY,      // Beide Spieler bereit, Spiel startet gleich
+        WAITING,    // Wartet auf Mitspieler
+        READY,      // Raum voll bzw. genug Spieler, Spiel startet gleich
         RUNNING,    // Spiel läuft
         FINISHED    // Spiel beendet
     }
 
-    // Spiel-Identifikation
-    private final String gameId;
+    /**
+     * Spielmodus
+     */
+    public enum GameMode {
+        DUEL,       // Zwei Spieler, jeder mit eigenen Fragen
+        BATTLE      // Großer Raum, alle mit denselben Fragen gegen dieselbe Uhr
+    }
+
+    /**
+     * Wird bei jedem Statuswechsel aufgerufen (unter dem Lock des Spiels - nur kurze Arbeit)
+     */
+    @FunctionalInterface
+    public interface StatusListener {
+
+        StatusListener NONE = (previous, current) -> { };
+
+        /**
+         * @param previous null beim Anlegen des Spiels
+         */
+        void onStatusChange(GameStatus previous, GameStatus current);
+    }
+
+    // Plätze eines Duells
+    public static final int DUEL_CAPACITY = 2;
+
+    // Spiel-Identifikation (neu bei jedem recycle())
+    @Setter(AccessLevel.NONE)
+    private volatile String gameId;
+    private final GameMode mode;
+
+    // Wird bei jedem recycle() erhöht (verzögerte Aufgaben prüfen sie vor dem Ausführen)
+    @Setter(AccessLevel.NONE)
+    private volatile long generation;
 
     // Spiel-Konfiguration (wird von GameService gesetzt)
     private int durationSeconds = 60;  // Default-Wert
 
-    // Spieler (volatile für Thread-Sicherheit)
-    private volatile Player player1;
-    private volatile Player player2;
-
-    // Spiel-Status (volatile für Thread-Sicherheit)
+    // Spieler nach Slot (Index = Player.slot) und nach PlayerId (O(1) Lookup)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Player[] slots;
+
+    // Player-Objekte, die in diesem Spiel einen Slot belegt haben bzw. aus dem letzten Spiel
+    // zur Wiederverwendung bereitliegen (innerhalb eines Spiels wird nichts wiederverwendet)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Player[] seated;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Player[] spares;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Map<String, Player> playersById = new ConcurrentHashMap<>();
+
+    // Anzahl belegter Slots (volatile für Thread-Sicherheit)
+    @Setter(AccessLevel.NONE)
+    private volatile int playerCount;
+
+    // Rangliste (wird bei jeder Punkteänderung inkrementell aktualisiert)
+    @Setter(AccessLevel.NONE)
+    private final Standings standings;
+
+    // Benachrichtigung bei Statuswechseln (Lobby-Zähler)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final StatusListener statusListener;
+
+    // Spiel-Status (volatile für Thread-Sicherheit) - nur über changeStatus() ändern
+    @Setter(AccessLevel.NONE)
     private volatile GameStatus status;
 
-    // Fragen
-    private final List<Question> questions;
+    // Zeitpunkt des letzten Statuswechsels, System.nanoTime() (für Lifecycle-TTLs)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile long statusSinceNanos;
+
+    // Fragen (unveränderliche Liste, wird ersetzt statt kopiert)
+    @Setter(AccessLevel.NONE)
+    private volatile List<Question> questions = List.of();
 
     // Zeit-Tracking (volatile für Thread-Sicherheit)
     private volatile LocalDateTime startTime;
     private volatile LocalDateTime endTime;
 
-    // Rematch Flags (volatile für Thread-Sicherheit)
-    private volatile boolean player1WantsRematch;
-    private volatile boolean player2WantsRematch;
+    // Score-Flush bzw. Ranglisten-Flush bereits geplant (max. ein Flush pro Intervall)
+    private final AtomicBoolean scoreFlushScheduled = new AtomicBoolean(false);
+
+    // Spielstart bereits ausgelöst (nur ein Thread darf Countdown + Start planen)
+    private final AtomicBoolean launched = new AtomicBoolean(false);
+
+    // Battle-Lobby: Wartezeit abgelaufen - Start sobald genug Spieler da sind
+    private volatile boolean lobbyExpired;
 
     /**
-     * Konstruktor
+     * Konstruktor für ein Duell
      */
     public GameSession() {
-        this.gameId = UUID.randomUUID().toString();
-        this.status = GameStatus.WAITING;
-        this.questions = new ArrayList<>();
-        this.player1WantsRematch = false;
-        this.player2WantsRematch = false;
-    }
-
-    /**
-     * Thread-safe: Fügt einen Spieler zum Spiel hinzu
-     */
-    public synchronized boolean addPlayer(Player player) {
-        if(player1 == null) {
-            player1 = player;
-            player.setDisplayName("Spieler 1");
-            return true;
-        } else if(player2 == null) {
-            player2 = player;
-            player.setDisplayName("Spieler 2");
-            this.status = GameStatus.READY;
-            return true;
+        this(GameMode.DUEL, DUEL_CAPACITY);
+    }
+
+    /**
+     * Konstruktor für einen Raum mit beliebig vielen Plätzen
+     */
+    public GameSession(GameMode mode, int capacity) {
+        this(mode, capacity, StatusListener.NONE);
+    }
+
+    /**
+     * Konstruktor mit Benachrichtigung bei Statuswechseln (für Spiele aus dem GameSessionPool)
+     */
+    public GameSession(GameMode mode, int capacity, StatusListener statusListener) {
+        this.gameId = GameIds.next();
+        this.mode = mode;
+        this.statusListener = statusListener;
+        changeStatus(GameStatus.WAITING);
+        this.slots = new Player[capacity];
+        this.seated = new Player[capacity];
+        this.spares = new Player[capacity];
+        this.standings = new Standings(capacity);
+    }
+
+    /**
+     * Thread-safe: Setzt das Spiel für die Wiederverwendung komplett zurück
+     * Neue ID, neue Generation, Status WAITING, keine Spieler, keine Fragen
+     */
+    public synchronized void recycle() {
+        this.gameId = GameIds.next();
+        this.generation++;
+        changeStatus(GameStatus.WAITING);
+        this.durationSeconds = 60;
+        this.startTime = null;
+        this.endTime = null;
+        this.questions = List.of();
+
+        for(int slot = 0; slot < slots.length; slot++) {
+            if(slots[slot] != null) {
+                standings.remove(slots[slot]);
+                slots[slot] = null;
+            }
+            // Wer in diesem Spiel gesessen hat, steht im nächsten Spiel zur Wiederverwendung bereit
+            if(seated[slot] != null) {
+                seated[slot].release();
+                spares[slot] = seated[slot];
+                seated[slot] = null;
+            }
         }
-        return false;
+        playersById.clear();
+        playerCount = 0;
+        standings.reset();
+
+        scoreFlushScheduled.set(false);
+        launched.set(false);
+        lobbyExpired = false;
+    }
+
+    /**
+     * Thread-safe: Setzt einen Spieler in den ersten freien Slot
+     * Verwendet das Player-Objekt des Slots aus dem vorherigen Spiel, falls vorhanden
+     * @return der Spieler oder null wenn das Spiel voll ist
+     */
+    public synchronized Player addPlayer(String playerId, WebSocketSession session) {
+        for(int slot = 0; slot < slots.length; slot++) {
+            if(slots[slot] == null) {
+                Player player = spares[slot];
+                spares[slot] = null;
+                if(player != null) {
+                    player.reinitialize(playerId, session);
+                } else {
+                    player = new Player(playerId, session, "");
+                }
+                seated[slot] = player;
+
+                slots[slot] = player;
+                player.setSlot(slot);
+                player.setDisplayName("Spieler " + (slot + 1));
+                playersById.put(player.getPlayerId(), player);
+                playerCount++;
+                standings.add(player);
+
+                if(isFull()) {
+                    changeStatus(GameStatus.READY);
+                }
+                return player;
+            }
+        }
+        return null;
     }
 
     /**
      * Thread-safe: Entfernt einen Spieler aus dem Spiel
      */
     public synchronized boolean removePlayer(String playerId) {
-        if(player1 != null && player1.getPlayerId().equals(playerId)) {
-            player1 = null;
-            return true;
-        } else if(player2 != null && player2.getPlayerId().equals(playerId)) {
-            player2 = null;
-            return true;
+        Player player = playersById.remove(playerId);
+        if(player == null) {
+            return false;
         }
-        return false;
+        slots[player.getSlot()] = null;
+        playerCount--;
+        standings.remove(player);
+        return true;
     }
 
     /**
-     * Prüft ob das Spiel voll ist
+     * Prüft ob alle Plätze belegt sind
      */
     public boolean isFull() {
-        return player1 != null && player2 != null;
+        return playerCount == slots.length;
+    }
+
+    /**
+     * Prüft ob kein Spieler mehr im Spiel ist
+     */
+    public boolean isEmpty() {
+        return playerCount == 0;
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * Spieler in einem Slot (null wenn frei)
+     */
+    public Player getPlayer(int slot) {
+        return slots[slot];
+    }
+
+    /**
+     * Spieler über seine ID - O(1)
+     */
+    public Player getPlayer(String playerId) {
+        return playersById.get(playerId);
+    }
+
+    /**
+     * Alle Spieler in Slot-Reihenfolge (Momentaufnahme)
+     */
+    public List<Player> getPlayers() {
+        List<Player> players = new ArrayList<>(playerCount);
+        for(Player player : slots) {
+            if(player != null) {
+                players.add(player);
+            }
+        }
+        return players;
+    }
+
+    /**
+     * Duell: Spieler in Slot 0
+     */
+    public Player getPlayer1() {
+        return slots[0];
+    }
+
+    /**
+     * Duell: Spieler in Slot 1
+     */
+    public Player getPlayer2() {
+        return slots.length > 1 ? slots[1] : null;
+    }
+
+    /**
+     * Duell: der jeweils andere Spieler (im Battle-Raum gibt es keinen einzelnen Gegner)
+     */
+    public Player getOpponent(Player player) {
+        if(mode != GameMode.DUEL || player == null) {
+            return null;
+        }
+        return slots[1 - player.getSlot()];
+    }
+
+    /**
+     * Battle-Lobby: Startet vorzeitig mit den anwesenden Spielern
+     */
+    public synchronized boolean markReady() {
+        if(this.status != GameStatus.WAITING) {
+            return false;
+        }
+        changeStatus(GameStatus.READY);
+        return true;
+    }
+
+    /**
+     * Sekunden seit dem letzten Statuswechsel
+     */
+    public long getSecondsInStatus(long nowNanos) {
+        return (nowNanos - statusSinceNanos) / 1_000_000_000L;
+    }
+
+    /**
+     * Markiert den Spielstart als ausgelöst
+     * @return true nur für den ersten Aufrufer
+     */
+    public boolean tryLaunch() {
+        return launched.compareAndSet(false, true);
+    }
+
+    /**
+     * Meldet eine Punkteänderung an die Rangliste - O(log n)
+     */
+    public void onScoreChanged(Player player) {
+        standings.update(player);
     }
 
     /**
@@ -108,19 +350,12 @@ public class GameSession {
         if(this.status != GameStatus.READY) {
             return false;
         }
-        this.status = GameStatus.RUNNING;
+        changeStatus(GameStatus.RUNNING);
         this.startTime = LocalDateTime.now();
         this.endTime = this.startTime.plusSeconds(durationSeconds);
 
-        // Reset Fragen-Indizes und Scores für beide Spieler
-        if(player1 != null) {
-            player1.resetScore();
-            player1.resetQuestionIndex();
-        }
-        if(player2 != null) {
-            player2.resetScore();
-            player2.resetQuestionIndex();
-        }
+        // Reset Fragen-Indizes und Scores für alle Spieler
+        resetPlayers();
 
         return true;
     }
@@ -129,7 +364,7 @@ public class GameSession {
      * Thread-safe: Beendet das Spiel
      */
     public synchronized void endGame() {
-        this.status = GameStatus.FINISHED;
+        changeStatus(GameStatus.FINISHED);
         this.endTime = LocalDateTime.now();
     }
 
@@ -168,90 +403,98 @@ public class GameSession {
     }
 
     /**
-     * Bestimmt den Gewinner
+     * Markiert dass ein Score-Flush geplant werden soll
+     * @return true wenn der Aufrufer den Flush planen muss (noch keiner geplant)
+     */
+    public boolean tryScheduleScoreFlush() {
+        return scoreFlushScheduled.compareAndSet(false, true);
+    }
+
+    /**
+     * Gibt den Score-Flush wieder frei (wird vor dem Senden aufgerufen)
+     */
+    public void clearScoreFlushScheduled() {
+        scoreFlushScheduled.set(false);
+    }
+
+    /**
+     * Bestimmt den Gewinner über die Rangliste
+     * Duell: gleicher Punktestand = Unentschieden
+     * Battle: bei Gleichstand gewinnt, wer den Punktestand zuerst erreicht hat
      */
     public String determineWinner() {
-        if(player1 == null || player2 == null) {
+        if(mode == GameMode.DUEL && !isFull()) {
             return "Unbekannt";
         }
 
-        int score1 = player1.getScore();
-        int score2 = player2.getScore();
-
-        if(score1 > score2) {
-            return player1.getDisplayName();
-        } else if(score2 > score1) {
-            return player2.getDisplayName();
-        } else {
+        Player leader = standings.leader();
+        if(leader == null) {
+            return "Unbekannt";
+        }
+        if(isDraw()) {
             return "Unentschieden";
         }
+        return leader.getDisplayName();
     }
 
     /**
-     * Prüft ob das Spiel unentschieden ist
+     * Prüft ob das Spiel unentschieden ist (nur im Duell möglich)
      */
     public boolean isDraw() {
-        if(player1 == null || player2 == null) {
+        if(mode != GameMode.DUEL || !isFull()) {
             return false;
         }
-        return player1.getScore() == player2.getScore();
+        return standings.isTiedForLead();
     }
 
     /**
-     * Setzt Fragen für das Spiel
+     * Setzt Fragen für das Spiel (Liste wird übernommen, nicht kopiert)
      */
-    public synchronized void setQuestions(List<Question> questions) {
-        this.questions.clear();
-        this.questions.addAll(questions);
+    public void setQuestions(List<Question> questions) {
+        this.questions = questions;
     }
 
     // Rematch-bezogene Methoden
 
     /**
-     * Setzt Rematch-Flag für Spieler 1
-     */
-    public synchronized void setPlayer1Rematch(boolean wants) {
-        this.player1WantsRematch = wants;
-    }
-
-    /**
-     * Setzt Rematch-Flag für Spieler 2
-     */
-    public synchronized void setPlayer2Rematch(boolean wants) {
-        this.player2WantsRematch = wants;
-    }
-
-    /**
-     * Gibt zurück ob Spieler 1 Rematch will
+     * Setzt das Rematch-Flag eines Spielers
+     * @return false wenn der Spieler nicht (mehr) im Spiel ist
      */
-    public synchronized boolean isPlayer1WantsRematch() {
-        return this.player1WantsRematch;
+    public synchronized boolean requestRematch(String playerId) {
+        Player player = playersById.get(playerId);
+        if(player == null) {
+            return false;
+        }
+        player.setWantsRematch(true);
+        return true;
     }
 
     /**
-     * Gibt zurück ob Spieler 2 Rematch will
+     * Anzahl Spieler die ein Rematch wollen
      */
-    public synchronized boolean isPlayer2WantsRematch() {
-        return this.player2WantsRematch;
+    public synchronized int countRematchRequests() {
+        int count = 0;
+        for(Player player : slots) {
+            if(player != null && player.isWantsRematch()) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
-     * Prüft ob beide Spieler Rematch wollen
+     * Prüft ob alle Plätze belegt sind und alle Spieler Rematch wollen
      */
-    public synchronized boolean bothWantRematch() {
-        return this.player1WantsRematch && this.player2WantsRematch;
+    public synchronized boolean allWantRematch() {
+        return isFull() && countRematchRequests() == slots.length;
     }
 
     /**
      * Prüft ob ein bestimmter Spieler Rematch will
      */
     public synchronized boolean doesPlayerWantRematch(String playerId) {
-        if(player1 != null && player1.getPlayerId().equals(playerId)) {
-            return player1WantsRematch;
-        } else if(player2 != null && player2.getPlayerId().equals(playerId)) {
-            return player2WantsRematch;
-        }
-        return false;
+        Player player = playersById.get(playerId);
+        return player != null && player.isWantsRematch();
     }
 
     /**
@@ -263,29 +506,46 @@ public class GameSession {
         }
 
         // Reset Status
-        this.status = GameStatus.READY;
+        changeStatus(GameStatus.READY);
         this.startTime = null;
         this.endTime = null;
 
-        // Reset Spieler
-        if(player1 != null) {
-            player1.resetScore();
-            player1.resetQuestionIndex();
-        }
-        if(player2 != null) {
-            player2.resetScore();
-            player2.resetQuestionIndex();
+        // Reset Spieler + Rematch-Flags
+        resetPlayers();
+        for(Player player : slots) {
+            if(player != null) {
+                player.setWantsRematch(false);
+            }
         }
 
-        // Reset Rematch-Flags
-        this.player1WantsRematch = false;
-        this.player2WantsRematch = false;
-
         // Fragen werden vom Service neu generiert
-        this.questions.clear();
+        this.questions = List.of();
 
         return true;
     }
 
+    private void changeStatus(GameStatus newStatus) {
+        GameStatus previous = this.status;
+        if(previous == newStatus) {
+            return;
+        }
+        this.statusSinceNanos = System.nanoTime();
+        this.status = newStatus;
+        statusListener.onStatusChange(previous, newStatus);
+    }
+
+    /**
+     * Setzt Punkte und Fragen-Index aller Spieler zurück und baut die Rangliste neu auf
+     */
+    private void resetPlayers() {
+        for(Player player : slots) {
+            if(player != null) {
+                player.resetScore();
+                player.resetQuestionIndex();
+            }
+        }
+        standings.reset();
+    }
+
     // ALLE GETTER AM ENDE WURDEN ENTFERNT - Lombok macht das automatisch!
 }
\ No newline at end of file
@@ -3,8 +3,8 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import org.springframework.web.socket.WebSocketSession;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -15,12 +15,17 @@ import java.util.Set;
 public class Player {
 
     private String playerId;
+    // Platz im Spiel (Index in GameSession, wird beim Beitreten gesetzt)
+    private int slot;
     private volatile String displayName;
-    private WebSocketSession session;
+    private volatile WebSocketSession session;
     private final AtomicInteger score = new AtomicInteger(0);
     private final AtomicInteger currentQuestionIndex = new AtomicInteger(0);
-    private List<Question> questions = new ArrayList<>();
+    private volatile List<Question> questions = List.of();
     private final Set<Integer> answeredQuestions = new HashSet<>();
+    // Gegner-Punktestand hat sich geändert, Update noch nicht gesendet
+    private final AtomicBoolean scoreUpdatePending = new AtomicBoolean(false);
+    private volatile boolean wantsRematch;
 
     public Player(String playerId, WebSocketSession session, String displayName) {
         this.playerId = playerId;
@@ -28,6 +33,34 @@ public class Player {
         this.displayName = displayName;
     }
 
+    /**
+     * Setzt ein wiederverwendetes Player-Objekt für einen neuen Spieler zurück
+     * (Objekt stammt aus einem recycelten GameSession-Slot)
+     */
+    public void reinitialize(String playerId, WebSocketSession session) {
+        this.playerId = playerId;
+        this.session = session;
+        this.displayName = "";
+        this.score.set(0);
+        this.currentQuestionIndex.set(0);
+        this.questions = List.of();
+        this.answeredQuestions.clear();
+        this.scoreUpdatePending.set(false);
+        this.wantsRematch = false;
+    }
+
+    /**
+     * Löst alle Verweise auf das beendete Spiel (Objekt wartet als Reserve auf den nächsten Spieler)
+     * Die geschlossene Session samt Attributen (SessionHandle, ResumeSeat) und die Fragen
+     * bleiben sonst bis zur Wiederverwendung im Pool erreichbar
+     */
+    public void release() {
+        this.session = null;
+        this.questions = List.of();
+        this.answeredQuestions.clear();
+        this.scoreUpdatePending.set(false);
+    }
+
     public void incrementScore() {
         this.score.incrementAndGet();
     }
@@ -53,8 +86,12 @@ public class Player {
         this.answeredQuestions.clear();
     }
 
+    /**
+     * Übernimmt die Fragenliste ohne Kopie - Fragenlisten werden nach dem Erzeugen nicht mehr verändert
+     * (im Battle-Raum teilen sich alle Spieler dieselbe Liste)
+     */
     public void setQuestions(List<Question> questions) {
-        this.questions = new ArrayList<>(questions);
+        this.questions = questions;
     }
 
     public Question getCurrentQuestion() {
@@ -65,6 +102,17 @@ public class Player {
         return null;
     }
 
+    public void markScoreUpdatePending() {
+        this.scoreUpdatePending.set(true);
+    }
+
+    /**
+     * Holt und löscht das Pending-Flag (true = Update muss gesendet werden)
+     */
+    public boolean takeScoreUpdatePending() {
+        return this.scoreUpdatePending.getAndSet(false);
+    }
+
     public boolean hasAnsweredQuestion(int questionIndex) {
         return answeredQuestions.contains(questionIndex);
     }
@@ -0,0 +1,256 @@
+package com.warduel.warduel.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Standings - Inkrementelle Rangliste eines Spielraums
+ *
+ * Bei einer Punkteänderung wird nur der Eintrag des betroffenen Spielers neu einsortiert
+ * (TreeSet, O(log n)) statt bei jeder Antwort alle Spieler zu sortieren.
+ * Der Rang eines Spielers kommt aus einem Fenwick-Baum über die Punktestände
+ * (Anzahl Spieler mit mehr Punkten, O(log maxScore)).
+ *
+ * Gleicher Punktestand = gleicher Rang. In der Reihenfolge steht vorne, wer den
+ * Punktestand zuerst erreicht hat (entscheidet im Battle-Modus über den Sieg).
+ *
+ * Thread-safe durch synchronized Methoden
+ */
+public class Standings {
+
+    /**
+     * Eine Zeile der Rangliste (Stand zum Zeitpunkt der Abfrage)
+     */
+    public record Row(int position, int rank, Player player, int score) {
+    }
+
+    /**
+     * Geänderte Zeilen der Top-Liste seit der letzten Veröffentlichung
+     */
+    public record TopDelta(List<Row> changed, int size, int totalPlayers) {
+    }
+
+    // Unveränderlicher Eintrag - bei Änderung wird ein neuer einsortiert
+    private record Entry(int score, long reachedAt, int slot) {
+    }
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingInt(Entry::score).reversed()
+            .thenComparingLong(Entry::reachedAt)
+            .thenComparingInt(Entry::slot);
+
+    // Startgröße des Fenwick-Baums (wächst bei Bedarf)
+    private static final int INITIAL_SCORE_RANGE = 32;
+
+    private final TreeSet<Entry> ranking = new TreeSet<>(ORDER);
+    private final Entry[] entries;
+    private final Player[] players;
+
+    // Fenwick-Baum: Anzahl Spieler je Punktestand (Index = Punktestand + 1)
+    private int[] scoreCounts = new int[INITIAL_SCORE_RANGE + 1];
+
+    // Reihenfolge des Erreichens eines Punktestands (Tie-Break)
+    private long sequence;
+
+    // Zuletzt veröffentlichte Top-Liste (für Deltas)
+    private Row[] published = new Row[0];
+
+    public Standings(int capacity) {
+        this.entries = new Entry[capacity];
+        this.players = new Player[capacity];
+    }
+
+    /**
+     * Nimmt einen Spieler mit seinem aktuellen Punktestand auf
+     */
+    public synchronized void add(Player player) {
+        int slot = player.getSlot();
+        if(entries[slot] != null) {
+            remove(slot);
+        }
+        players[slot] = player;
+        insert(new Entry(player.getScore(), ++sequence, slot));
+    }
+
+    /**
+     * Entfernt einen Spieler aus der Rangliste
+     */
+    public synchronized void remove(Player player) {
+        int slot = player.getSlot();
+        if(players[slot] == player) {
+            remove(slot);
+        }
+    }
+
+    /**
+     * Sortiert einen Spieler nach einer Punkteänderung neu ein - O(log n)
+     */
+    public synchronized void update(Player player) {
+        int slot = player.getSlot();
+        Entry current = entries[slot];
+        if(current == null || players[slot] != player || current.score() == player.getScore()) {
+            return;
+        }
+        remove(slot);
+        players[slot] = player;
+        insert(new Entry(player.getScore(), ++sequence, slot));
+    }
+
+    /**
+     * Liest alle Punktestände neu ein (nach Reset der Scores bei Spielstart)
+     */
+    public synchronized void reset() {
+        ranking.clear();
+        Arrays.fill(scoreCounts, 0);
+        published = new Row[0];
+        for(int slot = 0; slot < entries.length; slot++) {
+            entries[slot] = null;
+            if(players[slot] != null) {
+                insert(new Entry(players[slot].getScore(), ++sequence, slot));
+            }
+        }
+    }
+
+    /**
+     * Rang eines Spielers (1 = bester, gleicher Punktestand = gleicher Rang) - O(log maxScore)
+     * @return Rang oder 0 wenn der Spieler nicht in der Rangliste ist
+     */
+    public synchronized int rankOf(Player player) {
+        Entry entry = entries[player.getSlot()];
+        if(entry == null || players[player.getSlot()] != player) {
+            return 0;
+        }
+        return 1 + countAbove(entry.score());
+    }
+
+    /**
+     * Spieler auf Platz 1 (bei Gleichstand: wer den Punktestand zuerst erreicht hat)
+     */
+    public synchronized Player leader() {
+        return ranking.isEmpty() ? null : players[ranking.first().slot()];
+    }
+
+    /**
+     * Höchster Punktestand im Raum
+     */
+    public synchronized int topScore() {
+        return ranking.isEmpty() ? 0 : ranking.first().score();
+    }
+
+    /**
+     * Prüft ob sich mindestens zwei Spieler den ersten Platz teilen
+     */
+    public synchronized boolean isTiedForLead() {
+        if(ranking.size() < 2) {
+            return false;
+        }
+        Iterator<Entry> it = ranking.iterator();
+        return it.next().score() == it.next().score();
+    }
+
+    public synchronized int size() {
+        return ranking.size();
+    }
+
+    /**
+     * Die besten Spieler - O(limit)
+     */
+    public synchronized List<Row> top(int limit) {
+        List<Row> rows = new ArrayList<>(Math.min(limit, ranking.size()));
+        int rank = 0;
+        int previousScore = -1;
+        for(Entry entry : ranking) {
+            if(rows.size() >= limit) {
+                break;
+            }
+            if(entry.score() != previousScore) {
+                rank = rows.size() + 1;
+                previousScore = entry.score();
+            }
+            rows.add(new Row(rows.size(), rank, players[entry.slot()], entry.score()));
+        }
+        return rows;
+    }
+
+    /**
+     * Vergleicht die aktuelle Top-Liste mit der zuletzt veröffentlichten und merkt sie sich
+     * @return geänderte Zeilen oder null wenn sich nichts geändert hat
+     */
+    public synchronized TopDelta publishTop(int limit) {
+        List<Row> current = top(limit);
+        List<Row> changed = new ArrayList<>();
+
+        for(Row row : current) {
+            Row before = row.position() < published.length ? published[row.position()] : null;
+            if(before == null || before.player() != row.player()
+                    || before.score() != row.score() || before.rank() != row.rank()) {
+                changed.add(row);
+            }
+        }
+
+        if(changed.isEmpty() && current.size() == published.length) {
+            return null;
+        }
+
+        published = current.toArray(new Row[0]);
+        return new TopDelta(changed, current.size(), ranking.size());
+    }
+
+    // ==================== INTERNALS ====================
+
+    private void insert(Entry entry) {
+        if(entry.score() + 1 >= scoreCounts.length) {
+            growScoreRange(entry.score());
+        }
+        entries[entry.slot()] = entry;
+        ranking.add(entry);
+        addScoreCount(entry.score(), 1);
+    }
+
+    private void remove(int slot) {
+        Entry entry = entries[slot];
+        entries[slot] = null;
+        players[slot] = null;
+        if(entry != null) {
+            ranking.remove(entry);
+            addScoreCount(entry.score(), -1);
+        }
+    }
+
+    private void addScoreCount(int score, int delta) {
+        for(int i = score + 1; i < scoreCounts.length; i += i & -i) {
+            scoreCounts[i] += delta;
+        }
+    }
+
+    /**
+     * Anzahl Spieler mit mehr als score Punkten
+     */
+    private int countAbove(int score) {
+        int atOrBelow = 0;
+        for(int i = score + 1; i > 0; i -= i & -i) {
+            atOrBelow += scoreCounts[i];
+        }
+        return ranking.size() - atOrBelow;
+    }
+
+    /**
+     * Vergrößert den Fenwick-Baum (selten - nur wenn ein Punktestand den Bereich überschreitet)
+     */
+    private void growScoreRange(int score) {
+        int size = scoreCounts.length;
+        while(score + 1 >= size) {
+            size *= 2;
+        }
+        scoreCounts = new int[size];
+        for(Entry entry : ranking) {
+            for(int i = entry.score() + 1; i < scoreCounts.length; i += i & -i) {
+                scoreCounts[i]++;
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.warduel.warduel.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * AssetPipeline - Fingerprint und Vorkomprimierung für CSS und JavaScript
+ *
+ * Beim Start werden alle Dateien unter static/ (css, js) einmal gelesen, über ihren
+ * gemeinsamen Inhalt gehasht und gzip-komprimiert im Speicher gehalten. Ausgeliefert
+ * wird unter /assets/{version}/{pfad}: Da die Version vor dem ganzen Baum steht,
+ * bleiben auch die relativen ES-Modul-Imports (./modules/...) versioniert und können
+ * unbegrenzt gecacht werden. Jede Änderung an einer Datei ergibt eine neue Version.
+ */
+@Service
+@Slf4j
+public class AssetPipeline {
+
+    private static final String ASSET_PREFIX = "/assets/";
+    private static final String STATIC_LOCATION = "classpath:/static/**";
+    private static final String STATIC_DIR = "/static/";
+    private static final String MODULES_DIR = "js/modules/";
+    private static final int VERSION_LENGTH = 12;
+
+    /**
+     * Eine Datei mit ihren vorkomprimierten Varianten
+     * @param gzip null wenn die Komprimierung nichts spart
+     * @param etag ETag-Wert ohne Anführungszeichen (Variante wird angehängt)
+     */
+    public record Asset(String path, String contentType, byte[] body, @Nullable byte[] gzip, String etag) {
+    }
+
+    // Relativer Pfad (z.B. "js/modules/websocket.js") -> Datei; nach dem Start unveränderlich
+    private Map<String, Asset> assets = Map.of();
+    private List<String> moduleUrls = List.of();
+    private String version = "dev";
+
+    @PostConstruct
+    public void build() throws IOException {
+        Map<String, byte[]> sources = new TreeMap<>();
+        for(Resource resource : new PathMatchingResourcePatternResolver().getResources(STATIC_LOCATION)) {
+            String path = relativePath(resource);
+            if(path != null && contentType(path) != null) {
+                try(InputStream in = resource.getInputStream()) {
+                    sources.put(path, in.readAllBytes());
+                }
+            }
+        }
+
+        this.version = fingerprint(sources);
+
+        Map<String, Asset> built = new TreeMap<>();
+        List<String> modules = new ArrayList<>();
+        long plainBytes = 0;
+        long gzipBytes = 0;
+        for(Map.Entry<String, byte[]> source : sources.entrySet()) {
+            String path = source.getKey();
+            byte[] body = source.getValue();
+            byte[] gzip = gzip(body);
+            if(gzip.length >= body.length) {
+                gzip = null;
+            }
+
+            built.put(path, new Asset(path, contentType(path), body, gzip, version));
+            if(path.startsWith(MODULES_DIR)) {
+                modules.add(url(path));
+            }
+            plainBytes += body.length;
+            gzipBytes += (gzip != null) ? gzip.length : body.length;
+        }
+
+        this.assets = Map.copyOf(built);
+        this.moduleUrls = List.copyOf(modules);
+
+        log.info("Asset pipeline: {} files, version {}, {} KB -> {} KB gzip",
+                assets.size(), version, plainBytes / 1024, gzipBytes / 1024);
+    }
+
+    /**
+     * Versionierte URL einer Datei unter static/ (für die Templates)
+     * @param path z.B. "css/style.css"
+     */
+    public String url(String path) {
+        return ASSET_PREFIX + version + "/" + path;
+    }
+
+    /**
+     * Versionierte URLs aller ES-Module (für modulepreload - lädt die Imports parallel statt als Kette)
+     */
+    public List<String> moduleUrls() {
+        return moduleUrls;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Datei zu einem relativen Pfad (null wenn unbekannt)
+     */
+    @Nullable
+    public Asset find(String path) {
+        return assets.get(path);
+    }
+
+    @Nullable
+    private static String relativePath(Resource resource) throws IOException {
+        if(!resource.isReadable()) {
+            return null;
+        }
+        String url = resource.getURL().toString();
+        int index = url.lastIndexOf(STATIC_DIR);
+        return index >= 0 ? url.substring(index + STATIC_DIR.length()) : null;
+    }
+
+    @Nullable
+    private static String contentType(String path) {
+        if(path.endsWith(".css")) {
+            return "text/css;charset=UTF-8";
+        }
+        if(path.endsWith(".js")) {
+            return "text/javascript;charset=UTF-8";
+        }
+        return null;
+    }
+
+    /**
+     * Gemeinsamer Hash über Pfade und Inhalte aller Dateien
+     */
+    private static String fingerprint(Map<String, byte[]> sources) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for(Map.Entry<String, byte[]> source : sources.entrySet()) {
+                digest.update(source.getKey().getBytes(StandardCharsets.UTF_8));
+                digest.update(source.getValue());
+            }
+            return HexFormat.of().formatHex(digest.digest()).substring(0, VERSION_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * gzip mit höchster Kompressionsstufe (einmalig beim Start, Laufzeit egal)
+     */
+    static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 3 + 64);
+        try(GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
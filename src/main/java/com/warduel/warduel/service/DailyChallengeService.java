@@ -0,0 +1,263 @@
+package com.warduel.warduel.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.warduel.warduel.config.GameConfiguration;
+import com.warduel.warduel.model.DailyRanking;
+import com.warduel.warduel.model.Question;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DailyChallengeService - Eine Fragenfolge pro Tag (UTC) für alle Spieler
+ *
+ * Der Seed hängt nur vom Datum ab - jeder Knoten erzeugt dieselben Fragen, ohne sich
+ * abzusprechen (gleiche Zahlenbereiche in der Konfiguration vorausgesetzt). Die Fragen
+ * werden einmal pro Tag erzeugt, gespielt wird wie im Übungsmodus lokal im Client mit
+ * einer gebündelten Abgabe.
+ *
+ * Alles liegt im Speicher: Abgaben gehen direkt in die DailyRanking, ohne Datenbank.
+ * Beim ersten Zugriff nach Mitternacht wird der Vortag als kompakter Eintrag archiviert
+ * (Seed, Teilnehmer, Histogramm der Punktestände, Top-Liste) - im Speicher für
+ * dailyArchiveDays Tage und, falls dailyArchiveFile gesetzt ist, als JSON-Zeile in der Datei.
+ *
+ * Eine Abgabe pro Spieler und Tag: vor Prüfung und Rangliste wird die Spieler-Kennung
+ * (signiertes Token, siehe DailyTokenService) und ein Platz im Tageslimit der Client-IP
+ * belegt. Auch abgelehnte Abgaben verbrauchen den Versuch - sonst ließe sich so lange
+ * neu abgeben, bis ein Ergebnis durchgeht.
+ */
+@Service
+@Slf4j
+public class DailyChallengeService {
+
+    // Trennt die Tages-Seeds von allen anderen Zufallsfolgen
+    private static final long SEED_SALT = 0x5741524455454CL;
+
+    public static final String ALREADY_PLAYED = "Daily challenge already played";
+    static final String IP_LIMIT_REACHED = "Too many daily challenge entries from your network today";
+
+    /**
+     * Die Challenge eines Tages
+     * @param players Kennungen, die heute schon abgegeben haben
+     * @param entriesPerIp Abgaben pro Client-IP heute
+     */
+    public record Challenge(LocalDate date, long seed, List<Question> questions, int durationSeconds,
+                            DailyRanking ranking, Set<Long> players, Map<String, Integer> entriesPerIp) {
+
+        /**
+         * Hat diese Kennung heute schon abgegeben?
+         */
+        public boolean hasPlayed(long playerId) {
+            return players.contains(playerId);
+        }
+    }
+
+    /**
+     * Archivierter Tag
+     */
+    public record Archive(LocalDate date, long seed, long totalPlayers, long[] scoreHistogram,
+                          List<DailyRanking.TopEntry> top) {
+    }
+
+    /**
+     * Ergebnis einer Abgabe
+     * @param placement null wenn die Abgabe abgelehnt wurde
+     */
+    public record Outcome(Challenge challenge, PracticeService.Verdict verdict,
+                          @Nullable DailyRanking.Placement placement) {
+    }
+
+    private final QuestionGeneratorService questionGenerator;
+    private final PracticeService practiceService;
+    private final GameConfiguration gameConfig;
+    private final ObjectMapper objectMapper;
+    private final Counter verified;
+    private final Counter rejected;
+
+    private volatile Challenge current;
+
+    // Geschützt durch "archive"
+    private final Deque<Archive> archive = new ArrayDeque<>();
+
+    public DailyChallengeService(QuestionGeneratorService questionGenerator, PracticeService practiceService,
+                                 GameConfiguration gameConfig, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.questionGenerator = questionGenerator;
+        this.practiceService = practiceService;
+        this.gameConfig = gameConfig;
+        this.objectMapper = objectMapper;
+        this.verified = Counter.builder("warduel.daily.submissions")
+                .description("Daily challenge submissions, by verification result")
+                .tag("result", "verified")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("warduel.daily.submissions")
+                .description("Daily challenge submissions, by verification result")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Challenge des aktuellen Tages (UTC) - erzeugt sie beim ersten Zugriff des Tages
+     */
+    public Challenge current() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        Challenge challenge = current;
+        if(challenge != null && challenge.date().equals(today)) {
+            return challenge;
+        }
+        return rollOver(today);
+    }
+
+    /**
+     * Neue Runde für einen Spieler (Seed der Challenge, Startzeit jetzt)
+     */
+    public PracticeService.Round newRound(Challenge challenge) {
+        return new PracticeService.Round(challenge.seed(), challenge.questions().size(),
+                challenge.durationSeconds(), System.nanoTime());
+    }
+
+    /**
+     * Prüft eine Abgabe gegen die vorberechneten Fragen und sortiert sie ein
+     * Runden vom Vortag werden abgelehnt (die Rangliste ist bereits archiviert),
+     * ebenso zweite Abgaben einer Kennung und Abgaben über dem Tageslimit der IP
+     */
+    public Outcome submit(PracticeService.Round round, int[] answers, long[] times, long playerId, String clientIp) {
+        Challenge challenge = current();
+        if(round.seed() != challenge.seed()) {
+            return refuse(challenge, round, answers, "The daily challenge has ended");
+        }
+
+        String refusal = claimEntry(challenge, playerId, clientIp);
+        if(refusal != null) {
+            return refuse(challenge, round, answers, refusal);
+        }
+
+        PracticeService.Verdict verdict = practiceService.check(challenge.questions(), challenge.durationSeconds(),
+                round.issuedAtNanos(), answers, times, System.nanoTime());
+        if(!verdict.verified()) {
+            rejected.increment();
+            return new Outcome(challenge, verdict, null);
+        }
+
+        verified.increment();
+        return new Outcome(challenge, verdict, challenge.ranking().submit(verdict.score(), verdict.lastAnswerMs()));
+    }
+
+    private Outcome refuse(Challenge challenge, PracticeService.Round round, int[] answers, String reason) {
+        rejected.increment();
+        return new Outcome(challenge, new PracticeService.Verdict(false, 0, answers.length,
+                round.questionCount(), 0, reason), null);
+    }
+
+    /**
+     * Belegt die einzige Abgabe der Kennung heute und einen Platz im Tageslimit der IP
+     * @return null wenn die Abgabe gewertet werden darf, sonst der Grund der Ablehnung
+     */
+    @Nullable
+    private String claimEntry(Challenge challenge, long playerId, String clientIp) {
+        if(!challenge.players().add(playerId)) {
+            return ALREADY_PLAYED;
+        }
+
+        int max = gameConfig.getDailyMaxSubmissionsPerIp();
+        boolean[] admitted = {false};
+        challenge.entriesPerIp().compute(clientIp, (ip, count) -> {
+            int current = (count != null) ? count : 0;
+            if(current >= max) {
+                return count;
+            }
+            admitted[0] = true;
+            return current + 1;
+        });
+        if(!admitted[0]) {
+            // Kennung nicht verbrauchen - abgewiesen hat die IP, nicht der Spieler
+            challenge.players().remove(playerId);
+            return IP_LIMIT_REACHED;
+        }
+        return null;
+    }
+
+    /**
+     * Archivierte Tage, neuester zuerst
+     */
+    public List<Archive> getArchive() {
+        synchronized(archive) {
+            return List.copyOf(archive);
+        }
+    }
+
+    private synchronized Challenge rollOver(LocalDate today) {
+        Challenge previous = current;
+        if(previous != null && previous.date().equals(today)) {
+            return previous;
+        }
+
+        Challenge challenge = create(today);
+        current = challenge;
+        if(previous != null) {
+            archive(previous);
+        }
+        log.info("Daily challenge {} ready - {} questions", today, challenge.questions().size());
+        return challenge;
+    }
+
+    private Challenge create(LocalDate date) {
+        long seed = seedFor(date);
+        int questionCount = gameConfig.getQuestionsPerGame();
+        int durationSeconds = gameConfig.getDurationSeconds();
+        return new Challenge(date, seed, questionGenerator.generateQuestions(questionCount, seed), durationSeconds,
+                new DailyRanking(questionCount, durationSeconds * 1000L, gameConfig.getDailyTopSize()),
+                ConcurrentHashMap.newKeySet(), new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Seed eines Tages - überall gleich, ohne gemeinsamen Zustand
+     */
+    static long seedFor(LocalDate date) {
+        return new SplittableRandom(date.toEpochDay() ^ SEED_SALT).nextLong();
+    }
+
+    private void archive(Challenge challenge) {
+        DailyRanking ranking = challenge.ranking();
+        Archive day = new Archive(challenge.date(), challenge.seed(), ranking.getTotalPlayers(),
+                ranking.scoreHistogram(), ranking.top());
+
+        synchronized(archive) {
+            archive.addFirst(day);
+            while(archive.size() > gameConfig.getDailyArchiveDays()) {
+                archive.removeLast();
+            }
+        }
+        log.info("Daily challenge {} archived - {} players", day.date(), day.totalPlayers());
+
+        String file = gameConfig.getDailyArchiveFile();
+        if(file == null || file.isBlank()) {
+            return;
+        }
+        try {
+            Files.writeString(Path.of(file), objectMapper.writeValueAsString(day) + System.lineSeparator(),
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.error("Failed to append daily challenge {} to {}", day.date(), file, e);
+        }
+    }
+}
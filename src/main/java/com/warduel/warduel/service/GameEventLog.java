@@ -0,0 +1,256 @@
+package com.warduel.warduel.service;
+
+import com.warduel.warduel.config.GameConfiguration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameEventLog - Strukturierte Ereignisse der Spielpfade (eine Zeile "event=... key=value ...")
+ *
+ * Ersetzt die INFO-Logs pro Nachricht und die mehrzeiligen Logs pro Spielende:
+ *  - Sampling pro Ereignistyp (game.event-sample-rates.<typ>=0..1), entschieden auf dem
+ *    aufrufenden Thread, bevor etwas formatiert wird
+ *  - Der Spiel-Thread legt nur einen Eintrag in einen festen Ringpuffer (offer, nie warten);
+ *    Formatieren und Schreiben übernimmt ein eigener Thread
+ *  - Puffer voll: der Eintrag wird verworfen und gezählt (warduel.events{result=dropped})
+ *
+ * Kritische Ereignisse (Spielergebnisse, abgelehnte Ergebnisse) werden nie gesampelt und
+ * nie gekürzt. Ist der Puffer voll, schreibt sie der aufrufende Thread selbst - sie sind
+ * selten, und ein fehlendes Spielergebnis wiegt schwerer als die Verzögerung.
+ *
+ * Eigener Logger "com.warduel.warduel.events" - ist er aus, kostet ein Ereignis nur die Abfrage.
+ */
+@Component
+@Slf4j
+public class GameEventLog {
+
+    private static final Logger EVENTS = LoggerFactory.getLogger("com.warduel.warduel.events");
+
+    // Einträge pro Durchlauf des Schreib-Threads
+    private static final int WRITE_BATCH_SIZE = 256;
+    // Wie oft der Schreib-Thread bei leerem Puffer prüft, ob er beendet wurde
+    private static final long WRITER_POLL_MS = 100;
+    // Werte nicht-kritischer Ereignisse werden gekürzt (Namen, Nachrichtentypen vom Client)
+    private static final int MAX_VALUE_LENGTH = 64;
+    private static final int EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    /**
+     * Ereignistypen mit Standard-Samplingrate
+     */
+    public enum Event {
+        MESSAGE_RECEIVED(0.001),
+        CONNECTION_OPENED(0.05),
+        CONNECTION_CLOSED(0.05),
+        PLAYER_JOINED(0.1),
+        PLAYER_LEFT(0.1),
+        GAME_STARTED(0.1),
+        GAME_CANCELLED(1.0),
+        GAME_EVICTED(1.0),
+        // Kritisch: immer vollständig
+        GAME_OVER,
+        RESULT_REJECTED;
+
+        private final double defaultRate;
+        private final boolean critical;
+
+        Event(double defaultRate) {
+            this.defaultRate = defaultRate;
+            this.critical = false;
+        }
+
+        Event() {
+            this.defaultRate = 1.0;
+            this.critical = true;
+        }
+
+        public boolean isCritical() {
+            return critical;
+        }
+
+        /**
+         * Schlüssel in game.event-sample-rates (GAME_STARTED -> game-started)
+         */
+        String propertyKey() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+
+    // Ein Ereignis im Ringpuffer - formatiert wird erst beim Schreiben
+    private record Entry(Event event, long epochMillis, double rate, Object[] fields) {
+    }
+
+    private final ArrayBlockingQueue<Entry> buffer;
+    private final double[] rates = new double[Event.values().length];
+    private final Counter written;
+    private final Counter sampledOut;
+    private final Counter dropped;
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "game-events");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean running = true;
+
+    public GameEventLog(GameConfiguration gameConfig, MeterRegistry meterRegistry) {
+        this.buffer = new ArrayBlockingQueue<>(gameConfig.getEventLogBufferSize());
+        for(Event event : Event.values()) {
+            double rate = gameConfig.getEventSampleRates().getOrDefault(event.propertyKey(), event.defaultRate);
+            rates[event.ordinal()] = event.critical ? 1.0 : Math.max(0.0, Math.min(rate, 1.0));
+        }
+
+        this.written = Counter.builder("warduel.events")
+                .description("Structured game events, by outcome")
+                .tag("result", "written")
+                .register(meterRegistry);
+        this.sampledOut = Counter.builder("warduel.events")
+                .description("Structured game events, by outcome")
+                .tag("result", "sampled")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("warduel.events")
+                .description("Structured game events, by outcome")
+                .tag("result", "dropped")
+                .register(meterRegistry);
+        meterRegistry.gauge("warduel.events.backlog", buffer, ArrayBlockingQueue::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.execute(this::writeLoop);
+    }
+
+    @PreDestroy
+    public void cleanup() {
+        running = false;
+        writer.shutdown();
+        try {
+            if(!writer.awaitTermination(EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                writer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            writer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        // Rest im Puffer noch schreiben
+        List<Entry> rest = new ArrayList<>();
+        buffer.drainTo(rest);
+        rest.forEach(this::write);
+    }
+
+    /**
+     * Zeichnet ein Ereignis auf - blockiert nie (außer kritischen Ereignissen bei vollem Puffer)
+     * @param fields abwechselnd Schlüssel und Wert; Werte müssen unveränderlich sein (sie werden später formatiert)
+     */
+    public void log(Event event, Object... fields) {
+        if(!EVENTS.isInfoEnabled()) {
+            return;
+        }
+
+        double rate = rates[event.ordinal()];
+        if(rate < 1.0 && ThreadLocalRandom.current().nextDouble() >= rate) {
+            sampledOut.increment();
+            return;
+        }
+
+        Entry entry = new Entry(event, System.currentTimeMillis(), rate, fields);
+        if(buffer.offer(entry)) {
+            return;
+        }
+        if(event.critical) {
+            write(entry);
+        } else {
+            dropped.increment();
+        }
+    }
+
+    // ==================== INTERNALS ====================
+
+    private void writeLoop() {
+        List<Entry> batch = new ArrayList<>(WRITE_BATCH_SIZE);
+        while(running) {
+            try {
+                Entry first = buffer.poll(WRITER_POLL_MS, TimeUnit.MILLISECONDS);
+                if(first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, WRITE_BATCH_SIZE - 1);
+                batch.forEach(this::write);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Error writing game events", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(Entry entry) {
+        StringBuilder line = new StringBuilder(128)
+                .append("event=").append(entry.event().name())
+                .append(" at=").append(Instant.ofEpochMilli(entry.epochMillis()));
+
+        Object[] fields = entry.fields();
+        for(int i = 0; i + 1 < fields.length; i += 2) {
+            line.append(' ').append(fields[i]).append('=');
+            appendValue(line, fields[i + 1], entry.event().critical);
+        }
+        // Gesampelte Zeile steht für 1/rate Ereignisse
+        if(entry.rate() < 1.0) {
+            line.append(" sample=").append(entry.rate());
+        }
+
+        EVENTS.info(line.toString());
+        written.increment();
+    }
+
+    private static void appendValue(StringBuilder line, Object value, boolean full) {
+        if(value == null) {
+            line.append('-');
+            return;
+        }
+
+        String text = value.toString();
+        if(!full && text.length() > MAX_VALUE_LENGTH) {
+            text = text.substring(0, MAX_VALUE_LENGTH) + "…";
+        }
+        if(!text.isEmpty() && text.chars().noneMatch(c -> c == ' ' || c == '"' || c == '=' || c < 0x20)) {
+            line.append(text);
+            return;
+        }
+
+        line.append('"');
+        for(int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if(c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if(c < 0x20) {
+                line.append(' ');
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+}
@@ -9,6 +9,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.socket.WebSocketSession;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -23,16 +25,32 @@ public class GameService {
 
     private final QuestionGeneratorService questionGenerator;
     private final GameConfiguration gameConfig;
+    private final GameSessionPool gamePool;
+    private final PresenceCounters presence;
+    private final GameEventLog events;
 
     // Map: PlayerId -> GameSession (um schnell das Spiel eines Spielers zu finden)
     private final Map<String, GameSession> playerToGame = new ConcurrentHashMap<>();
 
+    // Map: GameId -> GameSession (für Zuschauer und Übersichten)
+    private final Map<String, GameSession> games = new ConcurrentHashMap<>();
+
     // Warteschlange für Spieler die ein Spiel suchen
     private GameSession waitingGame = null;
 
-    public GameService(QuestionGeneratorService questionGenerator, GameConfiguration gameConfig) {
+    // Battle-Raum der gerade Spieler sammelt
+    private GameSession waitingBattle = null;
+
+    // Drain-Modus: keine neuen Matches mehr (Knoten wird heruntergefahren)
+    private volatile boolean draining = false;
+
+    public GameService(QuestionGeneratorService questionGenerator, GameConfiguration gameConfig, GameSessionPool gamePool,
+                       PresenceCounters presence, GameEventLog events) {
         this.questionGenerator = questionGenerator;
         this.gameConfig = gameConfig;
+        this.gamePool = gamePool;
+        this.presence = presence;
+        this.events = events;
     }
 
     /**
@@ -41,6 +59,7 @@ public class GameService {
      */
     public synchronized GameSession joinGame(WebSocketSession session) {
         String playerId = session.getId();
+        requireNotDraining();
 
         // Prüfe ob Spieler bereits in einem Spiel ist
         if(playerToGame.containsKey(playerId)) {
@@ -48,19 +67,19 @@ public class GameService {
             return playerToGame.get(playerId);
         }
 
-        Player player = new Player(playerId, session, "");
-
         // Gibt es ein wartendes Spiel?
         // CRITICAL: Skip finished/running games (only join WAITING games)
         if(waitingGame != null &&
            waitingGame.getStatus() == GameSession.GameStatus.WAITING &&
            !waitingGame.isFull()) {
             // Füge Spieler zum wartenden Spiel hinzu
-            boolean added = waitingGame.addPlayer(player);
+            Player added = waitingGame.addPlayer(playerId, session);
 
-            if(added) {
-                log.info("Player {} joined waiting game {}", playerId, waitingGame.getGameId());
+            if(added != null) {
+                events.log(GameEventLog.Event.PLAYER_JOINED, "player", playerId, "game", waitingGame.getGameId(),
+                        "mode", GameSession.GameMode.DUEL, "players", waitingGame.getPlayerCount());
                 playerToGame.put(playerId, waitingGame);
+                presence.playerJoined(GameSession.GameMode.DUEL);
 
                 // Spiel ist jetzt voll, starte es
                 if(waitingGame.isFull()) {
@@ -74,17 +93,131 @@ public class GameService {
         }
 
         // Erstelle neues Spiel und setze es als wartendes Spiel
-        GameSession newGame = new GameSession();
-        newGame.addPlayer(player);
+        GameSession newGame = gamePool.acquire(GameSession.GameMode.DUEL, GameSession.DUEL_CAPACITY);
+        newGame.addPlayer(playerId, session);
 
         playerToGame.put(playerId, newGame);
+        presence.playerJoined(GameSession.GameMode.DUEL);
+        games.put(newGame.getGameId(), newGame);
         waitingGame = newGame;
 
-        log.info("player {} created new game {} and is waiting", playerId, newGame.getGameId());
+        events.log(GameEventLog.Event.PLAYER_JOINED, "player", playerId, "game", newGame.getGameId(),
+                "mode", GameSession.GameMode.DUEL, "players", 1);
 
         return newGame;
     }
 
+    /**
+     * Setzt einen Bot als Gegner in das wartende Duell, wenn der Spieler dort schon
+     * mindestens waitSeconds ohne Gegner wartet
+     * @return das jetzt volle Spiel oder null (kein wartendes Duell, noch zu früh, Drain-Modus)
+     */
+    public synchronized GameSession joinBot(WebSocketSession botSession, String displayName, long waitSeconds) {
+        GameSession game = waitingGame;
+        if(draining || game == null || game.getStatus() != GameSession.GameStatus.WAITING
+                || game.getPlayerCount() != 1 || game.getSecondsInStatus(System.nanoTime()) < waitSeconds) {
+            return null;
+        }
+
+        Player bot = game.addPlayer(botSession.getId(), botSession);
+        if(bot == null) {
+            return null;
+        }
+        bot.setDisplayName(displayName);
+        playerToGame.put(bot.getPlayerId(), game);
+        presence.playerSeated();
+
+        events.log(GameEventLog.Event.PLAYER_JOINED, "player", bot.getPlayerId(), "game", game.getGameId(),
+                "mode", GameSession.GameMode.DUEL, "players", game.getPlayerCount(), "bot", true);
+
+        prepareGame(game);
+        waitingGame = null;
+        return game;
+    }
+
+    /**
+     * Spieler tritt einem Battle-Raum bei
+     * Der Raum startet sobald er voll ist oder nach Ablauf der Lobby-Wartezeit genug Spieler da sind
+     */
+    public synchronized GameSession joinBattle(WebSocketSession session) {
+        String playerId = session.getId();
+        requireNotDraining();
+
+        if(playerToGame.containsKey(playerId)) {
+            log.warn("Player {} already in a game", playerId);
+            return playerToGame.get(playerId);
+        }
+
+        if(waitingBattle == null || waitingBattle.getStatus() != GameSession.GameStatus.WAITING) {
+            waitingBattle = gamePool.acquire(GameSession.GameMode.BATTLE, gameConfig.getBattleRoomSize());
+            games.put(waitingBattle.getGameId(), waitingBattle);
+            log.debug("Battle room {} opened", waitingBattle.getGameId());
+        }
+
+        GameSession room = waitingBattle;
+        room.addPlayer(playerId, session);
+        playerToGame.put(playerId, room);
+        presence.playerJoined(GameSession.GameMode.BATTLE);
+
+        events.log(GameEventLog.Event.PLAYER_JOINED, "player", playerId, "game", room.getGameId(),
+                "mode", GameSession.GameMode.BATTLE, "players", room.getPlayerCount());
+
+        if(room.isFull() || (room.isLobbyExpired() && room.getPlayerCount() >= gameConfig.getBattleMinPlayers())) {
+            startBattle(room);
+        }
+        return room;
+    }
+
+    /**
+     * Startet den Drain-Modus: joinGame/joinBattle nehmen niemanden mehr an,
+     * wartende Spiele und Battle-Lobbys werden nicht mehr befüllt
+     * Laufende Spiele sind nicht betroffen
+     */
+    public synchronized void startDrain() {
+        draining = true;
+        waitingGame = null;
+        waitingBattle = null;
+    }
+
+    public boolean isDraining() {
+        return draining;
+    }
+
+    private void requireNotDraining() {
+        if(draining) {
+            throw new IllegalStateException("Node is draining - no new matches");
+        }
+    }
+
+    /**
+     * Lobby-Wartezeit abgelaufen: startet den Raum wenn genug Spieler da sind,
+     * sonst startet er beim nächsten Beitritt der die Mindestanzahl erreicht
+     * @return true wenn der Raum jetzt läuft
+     */
+    public synchronized boolean expireBattleLobby(GameSession room) {
+        if(room != waitingBattle || room.getStatus() != GameSession.GameStatus.WAITING) {
+            return room.getStatus() != GameSession.GameStatus.WAITING;
+        }
+
+        room.setLobbyExpired(true);
+        if(room.getPlayerCount() < gameConfig.getBattleMinPlayers()) {
+            log.debug("Battle room {} still waiting - {}/{} players", room.getGameId(),
+                    room.getPlayerCount(), gameConfig.getBattleMinPlayers());
+            return false;
+        }
+
+        startBattle(room);
+        return true;
+    }
+
+    private void startBattle(GameSession room) {
+        room.markReady();
+        prepareGame(room);
+        if(waitingBattle == room) {
+            waitingBattle = null;
+        }
+    }
+
     /**
      * Bereitet Spiel vor und startet es
      */
@@ -92,6 +225,21 @@ public class GameService {
         // Setze Spiel-Konfiguration
         game.setDurationSeconds(gameConfig.getDurationSeconds());
 
+        if(game.getMode() == GameSession.GameMode.BATTLE) {
+            // Battle: alle bekommen dieselben Fragen
+            List<Question> questions = questionGenerator.generateQuestions(gameConfig.getQuestionsPerGame());
+            for(Player player : game.getPlayers()) {
+                player.setQuestions(questions);
+            }
+            game.setQuestions(questions);
+            game.startGame();
+
+            events.log(GameEventLog.Event.GAME_STARTED, "game", game.getGameId(), "mode", GameSession.GameMode.BATTLE,
+                    "players", game.getPlayerCount(), "questions", questions.size(),
+                    "duration", gameConfig.getDurationSeconds());
+            return;
+        }
+
         // Generiere ZWEI verschiedene Fragenlisten
         List<Question> questionsP1 = questionGenerator.generateQuestions(gameConfig.getQuestionsPerGame());
         List<Question> questionsP2 = questionGenerator.generateQuestions(gameConfig.getQuestionsPerGame());
@@ -105,8 +253,9 @@ public class GameService {
 
         game.startGame();
 
-        log.info("Game {} started - Duration: {}s, P1: {} questions, P2: {} questions",
-                game.getGameId(), gameConfig.getDurationSeconds(), questionsP1.size(), questionsP2.size());
+        events.log(GameEventLog.Event.GAME_STARTED, "game", game.getGameId(), "mode", GameSession.GameMode.DUEL,
+                "players", game.getPlayerCount(), "questions", questionsP1.size(),
+                "duration", gameConfig.getDurationSeconds());
     }
 
     /**
@@ -120,13 +269,7 @@ public class GameService {
         }
 
         // Finde den Spieler
-        Player player = null;
-        if(game.getPlayer1() != null && game.getPlayer1().getPlayerId().equals(playerId)) {
-            player = game.getPlayer1();
-        } else if(game.getPlayer2() != null && game.getPlayer2().getPlayerId().equals(playerId)) {
-            player = game.getPlayer2();
-        }
-
+        Player player = game.getPlayer(playerId);
         if(player == null) {
             return false;
         }
@@ -147,6 +290,72 @@ public class GameService {
         return playerToGame.get(playerId);
     }
 
+    /**
+     * Holt ein Spiel über seine ID
+     */
+    public GameSession getGameById(String gameId) {
+        return games.get(gameId);
+    }
+
+    /**
+     * Alle laufenden Spiele (für die Zuschauer-Übersicht)
+     */
+    public List<GameSession> getRunningGames() {
+        return games.values().stream()
+                .filter(game -> game.getStatus() == GameSession.GameStatus.RUNNING)
+                .toList();
+    }
+
+    /**
+     * Alle Spiele (Live-Ansicht, schwach konsistent - für inkrementelle Durchläufe)
+     */
+    public Collection<GameSession> getAllGames() {
+        return games.values();
+    }
+
+    /**
+     * Spiele, die gerade Spieler sammeln (wartendes Duell, offener Battle-Raum) - höchstens zwei
+     */
+    public synchronized List<GameSession> getWaitingGames() {
+        List<GameSession> waiting = new ArrayList<>(2);
+        if(waitingGame != null && waitingGame.getStatus() == GameSession.GameStatus.WAITING) {
+            waiting.add(waitingGame);
+        }
+        if(waitingBattle != null && waitingBattle.getStatus() == GameSession.GameStatus.WAITING) {
+            waiting.add(waitingBattle);
+        }
+        return waiting;
+    }
+
+    /**
+     * Entfernt ein Spiel samt aller Spieler-Zuordnungen (abgelaufene Spiele)
+     * Die Spieler bleiben im GameSession-Objekt, damit der Aufrufer sie noch benachrichtigen kann
+     * (das Spiel geht erst nach der Quarantänezeit des Pools in ein neues Match)
+     * @return false wenn das Spiel bereits entfernt war
+     */
+    public synchronized boolean evictGame(GameSession game) {
+        if(games.remove(game.getGameId()) == null) {
+            return false;
+        }
+
+        for(Player player : game.getPlayers()) {
+            if(playerToGame.remove(player.getPlayerId(), game)) {
+                presence.playerLeft();
+            }
+        }
+        if(waitingGame == game) {
+            waitingGame = null;
+        }
+        if(waitingBattle == game) {
+            waitingBattle = null;
+        }
+
+        events.log(GameEventLog.Event.GAME_EVICTED, "game", game.getGameId(), "mode", game.getMode(),
+                "status", game.getStatus());
+        gamePool.release(game);
+        return true;
+    }
+
     /**
      * Entfernt einen Spieler aus seinem Spiel
      */
@@ -156,23 +365,32 @@ public class GameService {
         if(game != null) {
             boolean removed = game.removePlayer(playerId);  // ← BENUTZE den Return-Wert
             playerToGame.remove(playerId);
+            presence.playerLeft();
 
             // CRITICAL: Clear waitingGame if it's this game (prevents ghost matchmaking)
+            // (Battle-Lobby bleibt offen solange noch jemand wartet)
             if(waitingGame == game) {
-                log.info("Clearing waitingGame {} after player {} removed", game.getGameId(), playerId);
+                log.debug("Clearing waitingGame {} after player {} removed", game.getGameId(), playerId);
                 waitingGame = null;
             }
 
             if(removed) {
-                log.info("Player {} removed from game {}", playerId, game.getGameId());
+                events.log(GameEventLog.Event.PLAYER_LEFT, "player", playerId, "game", game.getGameId(),
+                        "mode", game.getMode(), "status", game.getStatus());
             }
 
             // Wenn Spiel leer ist, entferne es
-            if(game.getPlayer1() == null && game.getPlayer2() == null) {
+            if(game.isEmpty()) {
                 if(waitingGame == game) {
                     waitingGame = null;
                 }
-                log.info("Game {} removed (empty)", game.getGameId());
+                if(waitingBattle == game) {
+                    waitingBattle = null;
+                }
+                if(games.remove(game.getGameId()) != null) {
+                    log.debug("Game {} removed (empty)", game.getGameId());
+                    gamePool.release(game);
+                }
             }
         }
     }
@@ -183,7 +401,8 @@ public class GameService {
     public synchronized boolean requestRematch(String playerId) {
         GameSession game = playerToGame.get(playerId);
 
-        if(game == null || game.getStatus() != GameSession.GameStatus.FINISHED) {
+        if(game == null || game.getStatus() != GameSession.GameStatus.FINISHED
+                || game.getMode() != GameSession.GameMode.DUEL) {
             log.warn("Cannot rematch: game={}, status={}",
                     game != null ? game.getGameId() : "null",
                     game != null ? game.getStatus() : "null");
@@ -191,26 +410,22 @@ public class GameService {
         }
 
         // Setze Rematch-Flag für diesen Spieler
-        if(game.getPlayer1() != null && game.getPlayer1().getPlayerId().equals(playerId)) {
-            game.setPlayer1Rematch(true);
-            log.info("Player 1 ({}) wants rematch", playerId);
-        } else if(game.getPlayer2() != null && game.getPlayer2().getPlayerId().equals(playerId)) {
-            game.setPlayer2Rematch(true);
-            log.info("Player 2 ({}) wants rematch", playerId);
+        if(game.requestRematch(playerId)) {
+            log.debug("Player {} wants rematch", playerId);
         }
 
-        log.info("Rematch status for game {}: P1={}, P2={}",
-                game.getGameId(), game.isPlayer1WantsRematch(), game.isPlayer2WantsRematch());
+        log.debug("Rematch status for game {}: {}/{} players",
+                game.getGameId(), game.countRematchRequests(), game.getCapacity());
 
         // Wenn beide wollen, starte Rematch
-        if(game.bothWantRematch()) {
-            log.info("Both players want rematch! Resetting game {}", game.getGameId());
+        if(game.allWantRematch()) {
+            log.debug("Both players want rematch! Resetting game {}", game.getGameId());
 
             boolean success = game.resetForRematch();
             if(success) {
-                log.info("Game {} reset successfully. Preparing new game...", game.getGameId());
+                log.debug("Game {} reset successfully. Preparing new game...", game.getGameId());
                 prepareGame(game);
-                log.info("Rematch started for game {}", game.getGameId());
+                log.debug("Rematch started for game {}", game.getGameId());
                 return true;
             } else {
                 log.error("Failed to reset game {} for rematch", game.getGameId());
@@ -219,17 +434,4 @@ public class GameService {
 
         return false;
     }
-
-    /**
-     * Holt den Gegner eines Spielers
-     */
-    public Player getOpponent(GameSession game, String playerId) {
-        if(game.getPlayer1() != null && game.getPlayer1().getPlayerId().equals(playerId)) {
-            return game.getPlayer2();
-        }
-        if(game.getPlayer2() != null && game.getPlayer2().getPlayerId().equals(playerId)) {
-            return game.getPlayer1();
-        }
-        return null;
-    }
-}
\ No newline at end of file
+}
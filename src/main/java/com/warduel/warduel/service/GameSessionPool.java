@@ -0,0 +1,138 @@
+package com.warduel.warduel.service;
+
+import com.warduel.warduel.config.GameConfiguration;
+import com.warduel.warduel.model.GameSession;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * GameSessionPool - Hält beendete Spiele zur Wiederverwendung vor
+ *
+ * Statt für jedes Match ein neues GameSession-Objekt mit Slots, Rangliste und
+ * Player-Objekten anzulegen, wird ein freigegebenes Spiel per recycle() zurückgesetzt.
+ *
+ * Freigegebene Spiele liegen zuerst eine Quarantänezeit im Pool: Handler, die das Spiel
+ * gerade noch in der Hand haben (z.B. nach removePlayer), laufen bis dahin zu Ende.
+ * Danach werden sie sofort zurückgesetzt (bei jeder Freigabe, jeder Entnahme und von
+ * recycleExpired() im Lifecycle-Sweep) - ein vorgehaltenes Spiel hält damit keine
+ * geschlossenen Sessions und keine Fragen mehr fest. Die Warteschlange ist nach
+ * Freigabezeit sortiert - es wird immer nur vorne geprüft.
+ *
+ * Thread-safe durch synchronized Methoden
+ */
+@Component
+public class GameSessionPool {
+
+    // Freigegebenes Spiel + Zeitpunkt der Freigabe (System.nanoTime())
+    private record Parked(GameSession game, long releasedAtNanos) {
+    }
+
+    private final GameConfiguration gameConfig;
+    private final PresenceCounters presence;
+
+    // In Quarantäne (noch nicht zurückgesetzt)
+    private final Map<GameSession.GameMode, Deque<Parked>> cooling = new EnumMap<>(GameSession.GameMode.class);
+
+    // Zurückgesetzt, bereit für das nächste Match
+    private final Map<GameSession.GameMode, Deque<GameSession>> ready = new EnumMap<>(GameSession.GameMode.class);
+
+    private final Counter reused;
+    private final Counter created;
+
+    public GameSessionPool(GameConfiguration gameConfig, PresenceCounters presence, MeterRegistry meterRegistry) {
+        this.gameConfig = gameConfig;
+        this.presence = presence;
+        for(GameSession.GameMode mode : GameSession.GameMode.values()) {
+            cooling.put(mode, new ArrayDeque<>());
+            ready.put(mode, new ArrayDeque<>());
+        }
+
+        this.reused = Counter.builder("warduel.games.pool")
+                .description("Game sessions taken from the pool or newly created")
+                .tag("result", "reused")
+                .register(meterRegistry);
+        this.created = Counter.builder("warduel.games.pool")
+                .description("Game sessions taken from the pool or newly created")
+                .tag("result", "created")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Holt ein zurückgesetztes Spiel aus dem Pool oder erstellt ein neues
+     */
+    public GameSession acquire(GameSession.GameMode mode, int capacity) {
+        GameSession game = poll(mode, capacity);
+        if(game != null) {
+            reused.increment();
+            return game;
+        }
+
+        created.increment();
+        return new GameSession(mode, capacity, presence);
+    }
+
+    /**
+     * Gibt ein Spiel zurück, das von niemandem mehr gebraucht wird (keine Zuordnungen mehr im GameService)
+     * Ist der Pool voll, wird das Spiel dem Garbage Collector überlassen
+     */
+    public synchronized void release(GameSession game) {
+        GameSession.GameMode mode = game.getMode();
+        long now = System.nanoTime();
+        recycleExpired(mode, now);
+
+        Deque<Parked> queue = cooling.get(mode);
+        if(queue.size() + ready.get(mode).size() >= gameConfig.getGamePoolSize()) {
+            return;
+        }
+        queue.addLast(new Parked(game, now));
+    }
+
+    /**
+     * Setzt alle Spiele zurück, deren Quarantäne abgelaufen ist (auch ohne neue Matches)
+     */
+    public synchronized void recycleExpired() {
+        long now = System.nanoTime();
+        for(GameSession.GameMode mode : GameSession.GameMode.values()) {
+            recycleExpired(mode, now);
+        }
+    }
+
+    /**
+     * Anzahl vorgehaltener Spiele eines Modus
+     */
+    public synchronized int size(GameSession.GameMode mode) {
+        return cooling.get(mode).size() + ready.get(mode).size();
+    }
+
+    private synchronized GameSession poll(GameSession.GameMode mode, int capacity) {
+        recycleExpired(mode, System.nanoTime());
+
+        Deque<GameSession> games = ready.get(mode);
+        while(!games.isEmpty()) {
+            GameSession game = games.pollFirst();
+            // Raumgröße wurde umkonfiguriert - altes Objekt verwerfen
+            if(game.getCapacity() == capacity) {
+                return game;
+            }
+        }
+        return null;
+    }
+
+    private void recycleExpired(GameSession.GameMode mode, long now) {
+        Deque<Parked> queue = cooling.get(mode);
+        long quarantineNanos = gameConfig.getGamePoolQuarantineMs() * 1_000_000L;
+
+        while(!queue.isEmpty() && now - queue.peekFirst().releasedAtNanos() >= quarantineNanos) {
+            GameSession game = queue.pollFirst().game();
+            game.recycle();
+            ready.get(mode).addLast(game);
+        }
+    }
+}
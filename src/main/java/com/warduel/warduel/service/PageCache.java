@@ -0,0 +1,101 @@
+package com.warduel.warduel.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.expression.ThymeleafEvaluationContext;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * PageCache - Rendert die statischen HTML-Seiten einmal beim Start
+ *
+ * index, impressum und datenschutz hängen nicht vom Request ab - sie werden einmal
+ * mit Thymeleaf gerendert und als fertige Bytes (plus gzip-Variante und ETag)
+ * gehalten. Pro Aufruf fällt damit kein Template-Rendering mehr an; Clients mit
+ * passendem ETag bekommen nur ein 304.
+ *
+ * Hängt von der AssetPipeline ab: die Seiten enthalten deren versionierte URLs.
+ */
+@Service
+@Slf4j
+public class PageCache {
+
+    private static final List<String> PAGES = List.of("index", "impressum", "datenschutz");
+    private static final int ETAG_LENGTH = 16;
+
+    /**
+     * Fertig gerenderte Seite
+     * @param gzip null wenn die Komprimierung nichts spart
+     */
+    public record Page(byte[] body, @Nullable byte[] gzip, String etag) {
+    }
+
+    private final TemplateEngine templateEngine;
+    private final ApplicationContext applicationContext;
+    private final AssetPipeline assetPipeline;
+
+    // Template-Name -> Seite; nach dem Start unveränderlich
+    private Map<String, Page> pages = Map.of();
+
+    public PageCache(TemplateEngine templateEngine, ApplicationContext applicationContext, AssetPipeline assetPipeline) {
+        this.templateEngine = templateEngine;
+        this.applicationContext = applicationContext;
+        this.assetPipeline = assetPipeline;
+    }
+
+    @PostConstruct
+    public void render() throws IOException {
+        Map<String, Page> rendered = new HashMap<>();
+        for(String name : PAGES) {
+            rendered.put(name, renderPage(name));
+        }
+        this.pages = Map.copyOf(rendered);
+
+        log.info("Pre-rendered {} pages (assets {})", pages.size(), assetPipeline.getVersion());
+    }
+
+    /**
+     * Vorgerenderte Seite zu einem Template-Namen
+     */
+    public Page get(String name) {
+        Page page = pages.get(name);
+        if(page == null) {
+            throw new IllegalArgumentException("Page not pre-rendered: " + name);
+        }
+        return page;
+    }
+
+    private Page renderPage(String name) throws IOException {
+        // Ohne Request: Bean-Zugriffe im Template (z.B. @assetPipeline) über den ApplicationContext
+        Context context = new Context(Locale.GERMAN);
+        context.setVariable(ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME,
+                new ThymeleafEvaluationContext(applicationContext, null));
+
+        byte[] body = templateEngine.process(name, context).getBytes(StandardCharsets.UTF_8);
+        byte[] gzip = AssetPipeline.gzip(body);
+        return new Page(body, gzip.length < body.length ? gzip : null, etag(body));
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return HexFormat.of().formatHex(digest).substring(0, ETAG_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.warduel.warduel.service;
+
+import com.warduel.warduel.config.GameConfiguration;
+import com.warduel.warduel.model.Question;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * PracticeService - Übungsmodus ohne Server-Beteiligung pro Frage
+ *
+ * Der Client bekommt zu Beginn alle Fragen einer Runde in einem Frame, spielt lokal und
+ * schickt am Ende alle Antworten mit Zeitstempeln in einer Nachricht. Der Server merkt
+ * sich pro Runde nur Seed und Startzeit, erzeugt die Fragen beim Prüfen aus dem Seed neu
+ * und wertet alle Antworten in einem Durchlauf aus - eine Runde kostet zwei Frames statt
+ * einem Frame pro Antwort.
+ *
+ * Abgelehnt wird ein Ergebnis, das so nicht gespielt worden sein kann: mehr Antworten als
+ * Fragen, Zeitstempel nicht aufsteigend, schneller als MIN_ANSWER_INTERVAL_MS pro Antwort,
+ * nach Ablauf der Spielzeit oder später als seit dem Versand der Runde vergangen ist.
+ */
+@Service
+public class PracticeService {
+
+    // Schneller tippt kein Mensch eine Antwort ein (auch nicht einstellige)
+    private static final long MIN_ANSWER_INTERVAL_MS = 200;
+
+    /**
+     * Eine ausgegebene Runde (liegt bis zur Abgabe am SessionHandle)
+     * @param issuedAtNanos Versandzeitpunkt, System.nanoTime()
+     */
+    public record Round(long seed, int questionCount, int durationSeconds, long issuedAtNanos) {
+    }
+
+    /**
+     * Ergebnis der Prüfung
+     * @param lastAnswerMs Zeitpunkt der letzten Antwort (Gleichstand in der Tages-Challenge)
+     * @param reason null wenn verifiziert
+     */
+    public record Verdict(boolean verified, int score, int answered, int questionCount, long lastAnswerMs,
+                          @Nullable String reason) {
+    }
+
+    private final QuestionGeneratorService questionGenerator;
+    private final GameConfiguration gameConfig;
+    private final Counter verified;
+    private final Counter rejected;
+
+    public PracticeService(QuestionGeneratorService questionGenerator, GameConfiguration gameConfig,
+                           MeterRegistry meterRegistry) {
+        this.questionGenerator = questionGenerator;
+        this.gameConfig = gameConfig;
+        this.verified = Counter.builder("warduel.practice.rounds")
+                .description("Practice rounds submitted, by verification result")
+                .tag("result", "verified")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("warduel.practice.rounds")
+                .description("Practice rounds submitted, by verification result")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Neue Runde mit zufälligem Seed
+     */
+    public Round newRound() {
+        return new Round(ThreadLocalRandom.current().nextLong(), gameConfig.getQuestionsPerGame(),
+                gameConfig.getDurationSeconds(), System.nanoTime());
+    }
+
+    /**
+     * Fragen einer Runde (beim Ausgeben und beim Prüfen identisch)
+     */
+    public List<Question> questions(Round round) {
+        return questionGenerator.generateQuestions(round.questionCount(), round.seed());
+    }
+
+    /**
+     * Prüft die Abgabe einer Übungsrunde (Fragen werden aus dem Seed neu erzeugt)
+     */
+    public Verdict verify(Round round, int[] answers, long[] times, long nowNanos) {
+        Verdict verdict = check(questions(round), round.durationSeconds(), round.issuedAtNanos(), answers, times, nowNanos);
+        (verdict.verified() ? verified : rejected).increment();
+        return verdict;
+    }
+
+    /**
+     * Prüft eine Abgabe in einem Durchlauf (auch für die Tages-Challenge mit vorberechneten Fragen)
+     * @param answers Antwort pro Frage in Reihenfolge (bei Zeitablauf weniger als Fragen)
+     * @param times Zeitpunkt jeder Antwort in ms seit Anzeige der Runde
+     */
+    public Verdict check(List<Question> questions, int durationSeconds, long issuedAtNanos,
+                         int[] answers, long[] times, long nowNanos) {
+        String reason = null;
+        int score = 0;
+        long previous = -MIN_ANSWER_INTERVAL_MS;
+
+        if(answers.length != times.length) {
+            reason = "Answers and timestamps do not match";
+        } else if(answers.length > questions.size()) {
+            reason = "More answers than questions";
+        } else {
+            long elapsedMs = (nowNanos - issuedAtNanos) / 1_000_000L;
+            long limitMs = Math.min(durationSeconds * 1000L, elapsedMs);
+
+            for(int i = 0; i < answers.length; i++) {
+                if(times[i] - previous < MIN_ANSWER_INTERVAL_MS) {
+                    reason = "Answers too fast or out of order";
+                    break;
+                }
+                if(times[i] > limitMs) {
+                    reason = "Answer after the time limit";
+                    break;
+                }
+                previous = times[i];
+                if(questions.get(i).isCorrect(answers[i])) {
+                    score++;
+                }
+            }
+        }
+
+        if(reason != null) {
+            return new Verdict(false, 0, answers.length, questions.size(), 0, reason);
+        }
+        return new Verdict(true, score, answers.length, questions.size(), Math.max(previous, 0), null);
+    }
+}
@@ -0,0 +1,81 @@
+package com.warduel.warduel.service;
+
+import com.warduel.warduel.model.GameSession;
+import com.warduel.warduel.model.GameSession.GameMode;
+import com.warduel.warduel.model.GameSession.GameStatus;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PresenceCounters - Gestreifte Zähler für die Lobby-Anzeige
+ *
+ * Werden direkt an den Übergängen fortgeschrieben (GameService: Beitritt, Entfernen;
+ * GameSession: Statuswechsel) und nur periodisch summiert. Ein LongAdder verteilt
+ * gleichzeitige Updates auf mehrere Zellen - Beitritte und Spielenden konkurrieren
+ * nicht um eine Cache-Line, und niemand muss für eine Anzeige über alle Spiele laufen.
+ */
+@Component
+public class PresenceCounters implements GameSession.StatusListener {
+
+    // Spieler mit Zuordnung zu einem Spiel (Warteschlange, laufend, Ergebnis-Bildschirm)
+    private final LongAdder players = new LongAdder();
+
+    // Beitritte zum Matchmaking seit Start, pro Modus (Ankunftsrate für die Wartezeit-Schätzung)
+    private final Map<GameMode, LongAdder> joins = new EnumMap<>(GameMode.class);
+
+    // Spiele pro Status (Saldo der Statuswechsel)
+    private final Map<GameStatus, LongAdder> gamesByStatus = new EnumMap<>(GameStatus.class);
+
+    public PresenceCounters() {
+        for(GameMode mode : GameMode.values()) {
+            joins.put(mode, new LongAdder());
+        }
+        for(GameStatus status : GameStatus.values()) {
+            gamesByStatus.put(status, new LongAdder());
+        }
+    }
+
+    void playerJoined(GameMode mode) {
+        players.increment();
+        joins.get(mode).increment();
+    }
+
+    /**
+     * Spieler ohne Matchmaking-Beitritt (Bot-Gegner) - zählt als online, nicht als Ankunft
+     */
+    void playerSeated() {
+        players.increment();
+    }
+
+    void playerLeft() {
+        players.decrement();
+    }
+
+    @Override
+    public void onStatusChange(@Nullable GameStatus previous, GameStatus current) {
+        if(previous != null) {
+            gamesByStatus.get(previous).decrement();
+        }
+        gamesByStatus.get(current).increment();
+    }
+
+    public long getPlayersOnline() {
+        return Math.max(players.sum(), 0);
+    }
+
+    /**
+     * Spiele im Countdown oder laufend
+     */
+    public long getGamesInProgress() {
+        return Math.max(gamesByStatus.get(GameStatus.READY).sum() + gamesByStatus.get(GameStatus.RUNNING).sum(), 0);
+    }
+
+    public long getJoins(GameMode mode) {
+        return joins.get(mode).sum();
+    }
+}
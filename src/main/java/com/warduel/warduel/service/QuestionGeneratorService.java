@@ -6,7 +6,9 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * QuestionGeneratorService - Generiert zufällige mathematische Fragen
@@ -16,6 +18,8 @@ import java.util.concurrent.ThreadLocalRandom;
 @Service
 public class QuestionGeneratorService {
 
+    private static final Question.OperationType[] OPERATION_TYPES = Question.OperationType.values();
+
     private final GameConfiguration gameConfig;
 
     public QuestionGeneratorService(GameConfiguration gameConfig) {
@@ -25,11 +29,24 @@ public class QuestionGeneratorService {
     /**
      * Generiert eine Liste von zufälligen Fragen
      * @param count Anzahl der zu generierenden Fragen
-     * @return Liste von Fragen
+     * @return Liste von Fragen (wird danach nicht mehr verändert und ohne Kopie weitergegeben)
      */
     public List<Question> generateQuestions(int count) {
+        return generateQuestions(count, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Generiert eine reproduzierbare Liste von Fragen: gleicher Seed (und gleiche Zahlenbereiche
+     * in der Konfiguration) ergibt dieselben Fragen - der Server muss sie sich nicht merken
+     * @param seed z.B. aus dem Übungsmodus, beim Prüfen des Ergebnisses erneut verwendet
+     */
+    public List<Question> generateQuestions(int count, long seed) {
+        return generateQuestions(count, new SplittableRandom(seed));
+    }
+
+    private List<Question> generateQuestions(int count, RandomGenerator random) {
         // Wir erzeugen eine Liste namens questions, die Objekte vom Typ Question aufnehmen kann. (Eine Liste, die Question-Objekte enthält)
-        List<Question> questions = new ArrayList<>();
+        List<Question> questions = new ArrayList<>(count);
 
         for(int i = 0; i < count; i++) {
             // zufälliger Operationstyp
@@ -38,21 +55,22 @@ public class QuestionGeneratorService {
                 // types[1] = SUBTRACT
                 // types[2] = MULTIPLY
                 // types[3] = DIVIDE
-            Question.OperationType[] types = Question.OperationType.values();
-            Question.OperationType randomType = types[ThreadLocalRandom.current().nextInt(types.length)]; // holt einen zufälligen Operator aus dem Enum
+            // (values() legt bei jedem Aufruf ein neues Array an - daher einmal als Konstante)
+            Question.OperationType[] types = OPERATION_TYPES;
+            Question.OperationType randomType = types[random.nextInt(types.length)]; // holt einen zufälligen Operator aus dem Enum
 
-            Question question = generateQuestionsByType(randomType);
+            Question question = generateQuestionsByType(randomType, random);
             questions.add(question);
         }
         return questions;
     }
 
-    private Question generateQuestionsByType(Question.OperationType type) {
+    private Question generateQuestionsByType(Question.OperationType type, RandomGenerator random) {
         return switch (type) {
-            case ADD -> generateAddition();
-            case SUBTRACT -> generateSubtraction();
-            case MULTIPLY -> generateMultiplication();
-            case DIVIDE -> generateDivision();
+            case ADD -> generateAddition(random);
+            case SUBTRACT -> generateSubtraction(random);
+            case MULTIPLY -> generateMultiplication(random);
+            case DIVIDE -> generateDivision(random);
         };
     }
 
@@ -60,9 +78,9 @@ public class QuestionGeneratorService {
      * Generiert eine Additionsaufgabe
      * Beispiel: 5 + 3 = 8
      */
-    private Question generateAddition() {
-        int num1 = ThreadLocalRandom.current().nextInt(gameConfig.getMinNumber(), gameConfig.getMaxNumber() + 1);
-        int num2 = ThreadLocalRandom.current().nextInt(gameConfig.getMinNumber(), gameConfig.getMaxNumber() + 1);
+    private Question generateAddition(RandomGenerator random) {
+        int num1 = random.nextInt(gameConfig.getMinNumber(), gameConfig.getMaxNumber() + 1);
+        int num2 = random.nextInt(gameConfig.getMinNumber(), gameConfig.getMaxNumber() + 1);
 
         int answer = num1 + num2;
 
@@ -75,9 +93,9 @@ public class QuestionGeneratorService {
      * Generiert eine Subtraktionsaufgabe
      * Stellt sicher dass das Ergebnis positiv ist
      */
-    private Question generateSubtraction() {
-        int num1 = ThreadLocalRandom.current().nextInt(gameConfig.getMinNumber(), gameConfig.getMaxNumber() + 1);
-        int num2 = ThreadLocalRandom.current().nextInt(gameConfig.getMinNumber(), gameConfig.getMaxNumber() + 1);
+    private Question generateSubtraction(RandomGenerator random) {
+        int num1 = random.nextInt(gameConfig.getMinNumber(), gameConfig.getMaxNumber() + 1);
+        int num2 = random.nextInt(gameConfig.getMinNumber(), gameConfig.getMaxNumber() + 1);
 
         int larger = Math.max(num1, num2);
         int smaller = Math.min(num1, num2);
@@ -93,9 +111,9 @@ public class QuestionGeneratorService {
      * Generiert eine Multiplikationsaufgabe
      * Nutzt kleinere Zahlen für einfachere Multiplikation
      */
-    private Question generateMultiplication() {
-        int num1 = ThreadLocalRandom.current().nextInt(gameConfig.getMultiplicationMin(), gameConfig.getMultiplicationMax() + 1);
-        int num2 = ThreadLocalRandom.current().nextInt(gameConfig.getMultiplicationMin(), gameConfig.getMultiplicationMax() + 1);
+    private Question generateMultiplication(RandomGenerator random) {
+        int num1 = random.nextInt(gameConfig.getMultiplicationMin(), gameConfig.getMultiplicationMax() + 1);
+        int num2 = random.nextInt(gameConfig.getMultiplicationMin(), gameConfig.getMultiplicationMax() + 1);
 
         int answer = num1 * num2;
 
@@ -108,10 +126,10 @@ public class QuestionGeneratorService {
      * Generiert eine Divisionsaufgabe
      * Stellt sicher dass die Division aufgeht (kein Rest)
      */
-    private Question generateDivision() {
+    private Question generateDivision(RandomGenerator random) {
         // Erst das Ergebnis wählen, dann rückwärts rechnen
-        int answer = ThreadLocalRandom.current().nextInt(gameConfig.getDivisionMin(), gameConfig.getDivisionMax() + 1);
-        int num2 = ThreadLocalRandom.current().nextInt(gameConfig.getDivisionMin(), gameConfig.getDivisionMax() + 1);
+        int answer = random.nextInt(gameConfig.getDivisionMin(), gameConfig.getDivisionMax() + 1);
+        int num2 = random.nextInt(gameConfig.getDivisionMin(), gameConfig.getDivisionMax() + 1);
         int num1 = answer * num2;
 
         String questionText = num1 + " ÷ " + num2;
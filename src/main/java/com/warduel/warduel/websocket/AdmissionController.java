@@ -0,0 +1,276 @@
+package com.warduel.warduel.websocket;
+
+import com.warduel.warduel.config.GameConfiguration;
+import com.warduel.warduel.service.GameService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AdmissionController - Lässt neue Spieler nur herein, solange der Knoten Luft hat
+ *
+ * Beobachtet Anzahl Spiele und Verbindungen, Verspätung des Spiel-Schedulers, laufende
+ * Sendevorgänge und die p99-Verarbeitungszeit von Antworten. Die Bewertung läuft
+ * periodisch auf einem eigenen Thread - beim Verbindungsaufbau wird nur ein Flag gelesen.
+ * Ist ein Signal über dem Limit, werden neue Spieler abgewiesen und die Readiness auf
+ * REFUSING_TRAFFIC gesetzt (Load Balancer schickt keine neuen Clients mehr). Laufende
+ * Spiele und Wiederaufnahmen sind davon nicht betroffen.
+ *
+ * Wieder geöffnet wird erst, wenn alle Signale unter RECOVERY_RATIO des Limits liegen
+ * (verhindert Flattern an der Grenze). Im Drain-Modus bleibt die Zulassung dauerhaft zu.
+ *
+ * Außerdem wird einmalig die Zeit vom JVM-Start bis zur ersten zugelassenen Verbindung
+ * gemessen (Kaltstart-Kennzahl für Scale-out, siehe scripts/startup-benchmark.sh).
+ */
+@Component
+@Slf4j
+public class AdmissionController {
+
+    private static final int EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    // Anteil der Limits, unter den alle Signale fallen müssen, bevor wieder zugelassen wird
+    private static final double RECOVERY_RATIO = 0.8;
+
+    /**
+     * Momentaufnahme der Last (für den Capacity-Endpoint)
+     */
+    public record Capacity(boolean accepting, int games, int maxGames, int connections, int maxConnections,
+                           long schedulerLagMs, long maxSchedulerLagMs, int pendingSends, int maxPendingSends,
+                           long answerP99Ms, long maxAnswerP99Ms, int retryAfterSeconds) {
+    }
+
+    private final GameService gameService;
+    private final SessionRegistry sessionRegistry;
+    private final GameConfiguration gameConfig;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Timer answerLatency;
+    private final Counter rejected;
+
+    // Eigener Thread für die Bewertung (nicht der Scheduler der Spiele)
+    private final ScheduledExecutorService evaluator = Executors.newSingleThreadScheduledExecutor();
+
+    // Rohsignale (werden von den Spiel-Threads gemeldet)
+    private final AtomicLong maxSchedulerLagNanos = new AtomicLong();
+    private final AtomicInteger pendingSends = new AtomicInteger();
+
+    // Ergebnis der letzten Bewertung
+    private volatile boolean accepting = true;
+    private volatile boolean draining = false;
+
+    // Synthetische Antworten des Warm-ups zählen nicht zur Antwort-Latenz
+    private volatile boolean warmingUp = false;
+    private volatile Capacity lastCapacity;
+
+    // Kaltstart: JVM-Start bis zur ersten zugelassenen Verbindung (-1 = noch keine)
+    private final AtomicBoolean firstAdmitted = new AtomicBoolean();
+    private volatile long firstConnectionMs = -1;
+
+    public AdmissionController(GameService gameService, SessionRegistry sessionRegistry, GameConfiguration gameConfig,
+                               ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.gameService = gameService;
+        this.sessionRegistry = sessionRegistry;
+        this.gameConfig = gameConfig;
+        this.eventPublisher = eventPublisher;
+
+        this.answerLatency = Timer.builder("warduel.answer.latency")
+                .description("Server-side processing time of an answer")
+                .publishPercentiles(0.99)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("warduel.admission.rejected")
+                .description("Connections turned away because the node is overloaded")
+                .register(meterRegistry);
+        meterRegistry.gauge("warduel.admission.accepting", this, controller -> controller.accepting ? 1 : 0);
+        meterRegistry.gauge("warduel.outbound.pending", pendingSends);
+        TimeGauge.builder("warduel.startup.first.connection", this, TimeUnit.MILLISECONDS,
+                        controller -> controller.firstConnectionMs < 0 ? Double.NaN : controller.firstConnectionMs)
+                .description("Time from JVM start to the first accepted game connection")
+                .register(meterRegistry);
+
+        this.lastCapacity = snapshot(0, 0);
+    }
+
+    @PostConstruct
+    public void start() {
+        long interval = gameConfig.getAdmissionEvaluateIntervalMs();
+        evaluator.scheduleWithFixedDelay(() -> {
+            try {
+                evaluate();
+            } catch (Exception e) {
+                log.error("Error evaluating admission", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void cleanup() {
+        evaluator.shutdown();
+        try {
+            if(!evaluator.awaitTermination(EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                evaluator.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            evaluator.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Prüft beim Verbindungsaufbau, ob ein neuer Spieler zugelassen wird
+     * Harte Grenzen (Spiele, Verbindungen) sofort, alles andere aus der letzten Bewertung
+     */
+    public boolean tryAdmit() {
+        boolean admit = accepting && !draining
+                && sessionRegistry.size() < gameConfig.getAdmissionMaxConnections()
+                && gameService.getAllGames().size() < gameConfig.getAdmissionMaxGames();
+        if(!admit) {
+            rejected.increment();
+        } else if(!firstAdmitted.get() && firstAdmitted.compareAndSet(false, true)) {
+            firstConnectionMs = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+            log.info("First game connection accepted {} ms after JVM start", firstConnectionMs);
+        }
+        return admit;
+    }
+
+    public int getRetryAfterSeconds() {
+        return gameConfig.getAdmissionRetryAfterSeconds();
+    }
+
+    /**
+     * Verspätung eines periodischen Scheduler-Laufs gegenüber seinem Plan
+     */
+    public void recordSchedulerLag(long lagNanos) {
+        if(lagNanos > 0) {
+            maxSchedulerLagNanos.accumulateAndGet(lagNanos, Math::max);
+        }
+    }
+
+    /**
+     * Verarbeitungszeit einer Antwort (Empfang bis Ergebnis gesendet)
+     */
+    public void recordAnswerLatency(long nanos) {
+        if(!warmingUp) {
+            answerLatency.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    void beginWarmup() {
+        warmingUp = true;
+    }
+
+    void endWarmup() {
+        warmingUp = false;
+    }
+
+    public void sendStarted() {
+        pendingSends.incrementAndGet();
+    }
+
+    public void sendFinished() {
+        pendingSends.decrementAndGet();
+    }
+
+    public boolean isAccepting() {
+        return accepting;
+    }
+
+    /**
+     * Schließt die Zulassung endgültig (Knoten wird heruntergefahren)
+     */
+    public void startDrain() {
+        if(draining) {
+            return;
+        }
+        draining = true;
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+    }
+
+    public boolean isDraining() {
+        return draining;
+    }
+
+    /**
+     * Last zum Zeitpunkt der letzten Bewertung
+     */
+    public Capacity getCapacity() {
+        return lastCapacity;
+    }
+
+    /**
+     * Bewertet alle Signale und schaltet Zulassung + Readiness um
+     */
+    private void evaluate() {
+        long lagMs = TimeUnit.NANOSECONDS.toMillis(maxSchedulerLagNanos.getAndSet(0));
+        long p99Ms = answerP99Ms();
+        Capacity capacity = snapshot(lagMs, p99Ms);
+
+        boolean overloaded = ratio(capacity) >= 1.0;
+        boolean recovered = ratio(capacity) < RECOVERY_RATIO;
+
+        if(draining) {
+            accepting = false;
+        } else if(accepting && overloaded) {
+            accepting = false;
+            log.warn("Admission closed - games={}, connections={}, schedulerLag={}ms, pendingSends={}, answerP99={}ms",
+                    capacity.games(), capacity.connections(), lagMs, capacity.pendingSends(), p99Ms);
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        } else if(!accepting && recovered) {
+            accepting = true;
+            log.info("Admission reopened - games={}, connections={}", capacity.games(), capacity.connections());
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+
+        lastCapacity = snapshot(lagMs, p99Ms);
+    }
+
+    private Capacity snapshot(long lagMs, long p99Ms) {
+        return new Capacity(
+                accepting,
+                gameService.getAllGames().size(), gameConfig.getAdmissionMaxGames(),
+                sessionRegistry.size(), gameConfig.getAdmissionMaxConnections(),
+                lagMs, gameConfig.getAdmissionMaxSchedulerLagMs(),
+                pendingSends.get(), gameConfig.getAdmissionMaxPendingSends(),
+                p99Ms, gameConfig.getAdmissionMaxAnswerP99Ms(),
+                gameConfig.getAdmissionRetryAfterSeconds());
+    }
+
+    /**
+     * Höchste Auslastung über alle Signale (1.0 = Limit erreicht)
+     */
+    private double ratio(Capacity c) {
+        double max = (double) c.games() / c.maxGames();
+        max = Math.max(max, (double) c.connections() / c.maxConnections());
+        max = Math.max(max, (double) c.schedulerLagMs() / c.maxSchedulerLagMs());
+        max = Math.max(max, (double) c.pendingSends() / c.maxPendingSends());
+        max = Math.max(max, (double) c.answerP99Ms() / c.maxAnswerP99Ms());
+        return max;
+    }
+
+    private long answerP99Ms() {
+        for(ValueAtPercentile value : answerLatency.takeSnapshot().percentileValues()) {
+            if(value.percentile() == 0.99) {
+                return (long) value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+}
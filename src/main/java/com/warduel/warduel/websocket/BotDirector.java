@@ -0,0 +1,121 @@
+package com.warduel.warduel.websocket;
+
+import com.warduel.warduel.config.GameConfiguration;
+import com.warduel.warduel.model.GameSession;
+import com.warduel.warduel.model.Player;
+import com.warduel.warduel.service.GameService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BotDirector - Schickt Spielern, die zu lange allein warten, einen Bot-Gegner
+ *
+ * Prüft jede Sekunde das wartende Duell: Wartet der Spieler dort seit botJoinAfterSeconds,
+ * setzt sich ein Bot dazu und das Spiel startet wie ein normales Match. Die Zeit bis zum
+ * Match ist damit auf botJoinAfterSeconds + SWEEP_INTERVAL_MS begrenzt.
+ *
+ * Jeder Bot bekommt beim Beitritt eine eigene Stärke (Trefferquote und Median der
+ * Bedenkzeit, gleichverteilt in den konfigurierten Grenzen) und spielt als BotOpponent
+ * auf dem Scheduler der Spiele - ein Bot kostet ein Player-Objekt und ein paar geplante
+ * Aufgaben, keine Verbindung und keinen Thread.
+ */
+@Component
+@Slf4j
+public class BotDirector {
+
+    private static final String BOT_NAME = "Bot";
+    private static final String SESSION_PREFIX = "bot-";
+    private static final long SWEEP_INTERVAL_MS = 1000;
+    private static final int EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final GameService gameService;
+    private final GameWebSocketHandler gameHandler;
+    private final GameConfiguration gameConfig;
+    private final Counter matches;
+
+    // Eigener Thread für die Prüfung (die Bots selbst laufen auf dem Scheduler der Spiele)
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor();
+
+    private final Set<BotOpponent> activeBots = ConcurrentHashMap.newKeySet();
+
+    public BotDirector(GameService gameService, GameWebSocketHandler gameHandler, GameConfiguration gameConfig,
+                       MeterRegistry meterRegistry) {
+        this.gameService = gameService;
+        this.gameHandler = gameHandler;
+        this.gameConfig = gameConfig;
+        this.matches = Counter.builder("warduel.bots.matches")
+                .description("Duels started against a bot opponent")
+                .register(meterRegistry);
+        meterRegistry.gauge("warduel.bots.active", activeBots, Set::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        if(!gameConfig.isBotEnabled()) {
+            return;
+        }
+        sweeper.scheduleWithFixedDelay(() -> {
+            try {
+                sweep();
+            } catch (Exception e) {
+                log.error("Error in bot sweep", e);
+            }
+        }, SWEEP_INTERVAL_MS, SWEEP_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void cleanup() {
+        sweeper.shutdown();
+        try {
+            if(!sweeper.awaitTermination(EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                sweeper.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            sweeper.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void sweep() throws Exception {
+        activeBots.removeIf(BotOpponent::isDone);
+
+        LocalSession session = new LocalSession(SESSION_PREFIX);
+        GameSession game = gameService.joinBot(session, BOT_NAME, gameConfig.getBotJoinAfterSeconds());
+        if(game == null) {
+            return;
+        }
+
+        Player player = game.getPlayer(session.getId());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double accuracy = uniform(random, gameConfig.getBotAccuracyMin(), gameConfig.getBotAccuracyMax());
+        long thinkMedianMs = Math.round(uniform(random,
+                gameConfig.getBotThinkMedianMinMs(), gameConfig.getBotThinkMedianMaxMs()));
+
+        BotOpponent bot = new BotOpponent(gameHandler, game, player, session,
+                accuracy, thinkMedianMs, gameConfig.getBotThinkSpread());
+        activeBots.add(bot);
+        matches.increment();
+        log.info("Bot {} matched into game {} (accuracy {}, think median {} ms)",
+                session.getId(), game.getGameId(), Math.round(accuracy * 100) / 100.0, thinkMedianMs);
+
+        gameHandler.launchMatchedGame(game);
+        bot.start();
+    }
+
+    private static double uniform(ThreadLocalRandom random, double min, double max) {
+        return max > min ? random.nextDouble(min, max) : min;
+    }
+}
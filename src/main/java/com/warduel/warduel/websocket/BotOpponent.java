@@ -0,0 +1,139 @@
+package com.warduel.warduel.websocket;
+
+import com.warduel.warduel.model.GameSession;
+import com.warduel.warduel.model.Player;
+import com.warduel.warduel.model.Question;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BotOpponent - Zustandsautomat eines Bot-Gegners in einem Duell
+ *
+ * Kein Socket und kein eigener Thread: jeder Schritt ist eine geplante Aufgabe des
+ * Spiels (scheduleForGame) und plant den nächsten. Frames an den Bot landen in einer
+ * LocalSession und werden verworfen. Wird das GameSession-Objekt recycelt, entfallen
+ * die Aufgaben von selbst.
+ *
+ *  Countdown - erster Schritt erst danach (das Duell ist schon RUNNING, die erste Frage kommt später)
+ *  RUNNING   - nach einer Bedenkzeit antworten (richtig mit der Trefferquote des Bots)
+ *  FINISHED  - Ergebnis kurz stehen lassen, dann das Duell verlassen
+ */
+@Slf4j
+class BotOpponent {
+
+    private static final long POLL_INTERVAL_MS = 250;
+    private static final long LEAVE_DELAY_MS = 5000;
+    private static final long MIN_THINK_MS = 400;
+    private static final int MAX_WRONG_OFFSET = 3;
+
+    private final GameWebSocketHandler gameHandler;
+    private final GameSession game;
+    private final long generation;
+    private final Player player;
+    private final LocalSession session;
+    private final double accuracy;
+    private final long thinkMedianMs;
+    private final double thinkSpread;
+
+    // Nur von den Schritten benutzt (jeder Schritt plant den nächsten - nie zwei gleichzeitig)
+    private boolean thinking;
+    private boolean leaving;
+
+    BotOpponent(GameWebSocketHandler gameHandler, GameSession game, Player player, LocalSession session,
+                double accuracy, long thinkMedianMs, double thinkSpread) {
+        this.gameHandler = gameHandler;
+        this.game = game;
+        this.generation = game.getGeneration();
+        this.player = player;
+        this.session = session;
+        this.accuracy = accuracy;
+        this.thinkMedianMs = thinkMedianMs;
+        this.thinkSpread = thinkSpread;
+    }
+
+    void start() {
+        schedule(TimeUnit.SECONDS.toMillis(GameWebSocketHandler.COUNTDOWN_DURATION_SECONDS));
+    }
+
+    /**
+     * true wenn der Bot sein Duell verlassen hat oder das Spiel-Objekt recycelt wurde
+     */
+    boolean isDone() {
+        return !session.isOpen() || game.getGeneration() != generation;
+    }
+
+    private void step() {
+        if(!session.isOpen()) {
+            return;
+        }
+        try {
+            switch(game.getStatus()) {
+                case WAITING, READY -> schedule(POLL_INTERVAL_MS);
+                case RUNNING -> play();
+                case FINISHED -> finish();
+            }
+        } catch (Exception e) {
+            log.error("Bot {} failed in game {}", session.getId(), game.getGameId(), e);
+            leave();
+        }
+    }
+
+    /**
+     * Beantwortet die Frage, über die gerade nachgedacht wurde, und beginnt mit der nächsten
+     */
+    private void play() throws Exception {
+        if(thinking) {
+            thinking = false;
+            Question question = game.getCurrentQuestionForPlayer(player);
+            if(question != null && !game.isTimeUp()) {
+                gameHandler.submitAnswer(session, game, player, answerFor(question));
+            }
+        }
+
+        if(game.getStatus() == GameSession.GameStatus.RUNNING && game.getCurrentQuestionForPlayer(player) != null) {
+            thinking = true;
+            schedule(nextThinkMs());
+        } else {
+            // Alle Fragen beantwortet - auf das Spielende warten
+            schedule(POLL_INTERVAL_MS);
+        }
+    }
+
+    private void finish() {
+        if(!leaving) {
+            leaving = true;
+            schedule(LEAVE_DELAY_MS);
+            return;
+        }
+        leave();
+    }
+
+    private void leave() {
+        session.close();
+        gameHandler.leaveDuel(game, player);
+    }
+
+    private int answerFor(Question question) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if(random.nextDouble() < accuracy) {
+            return question.getCorrectAnswer();
+        }
+        int offset = random.nextInt(1, MAX_WRONG_OFFSET + 1);
+        return question.getCorrectAnswer() + (random.nextBoolean() ? offset : -offset);
+    }
+
+    /**
+     * Bedenkzeit: log-normalverteilt um den Median des Bots
+     */
+    private long nextThinkMs() {
+        double factor = Math.exp(thinkSpread * ThreadLocalRandom.current().nextGaussian());
+        return Math.max(MIN_THINK_MS, Math.round(thinkMedianMs * factor));
+    }
+
+    private void schedule(long delayMs) {
+        gameHandler.scheduleForGame(game, this::step, delayMs, TimeUnit.MILLISECONDS);
+    }
+}
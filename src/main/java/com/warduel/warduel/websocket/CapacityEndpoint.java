@@ -0,0 +1,27 @@
+package com.warduel.warduel.websocket;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * CapacityEndpoint - /actuator/capacity
+ *
+ * Aktuelle Last und Limits des Knotens für Load Balancer und Monitoring
+ * (Zulassung an/aus, Spiele, Verbindungen, Scheduler-Verspätung, laufende Sends, Antwort-p99)
+ */
+@Component
+@Endpoint(id = "capacity")
+public class CapacityEndpoint {
+
+    private final AdmissionController admission;
+
+    public CapacityEndpoint(AdmissionController admission) {
+        this.admission = admission;
+    }
+
+    @ReadOperation
+    public AdmissionController.Capacity capacity() {
+        return admission.getCapacity();
+    }
+}
@@ -0,0 +1,106 @@
+package com.warduel.warduel.websocket;
+
+import com.warduel.warduel.config.GameConfiguration;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DailyTokenService - Signierte Spieler-Kennung für die Tages-Challenge
+ *
+ * Der Client bekommt mit dem ersten Ergebnis ein Token mit einer zufälligen Kennung,
+ * speichert es und schickt es bei jeder Tages-Verbindung mit (/game?mode=daily&player=TOKEN).
+ * Pro Tag nimmt die Rangliste eine Abgabe pro Kennung an. Die Signatur verhindert, dass
+ * ein Client fremde Kennungen vorgibt und damit andere sperrt. Wer das Token verwirft,
+ * bekommt eine neue Kennung - dagegen hilft nur das Limit pro IP (DailyChallengeService).
+ *
+ * Schlüssel aus game.daily-token-secret (WARDUEL_DAILY_TOKEN_SECRET): auf allen Knoten gleich
+ * gesetzt, gilt ein Token über Neustarts und Knoten hinweg. Ohne Secret wird ein zufälliger
+ * Schlüssel pro Prozess erzeugt - nach jedem Neustart bekommen alle Spieler neue Kennungen.
+ *
+ * Die Rangliste und die Liste der Kennungen, die heute schon abgegeben haben, liegen aber
+ * pro Knoten im Speicher: landet ein Spieler auf einem anderen Knoten oder nach einem Neustart,
+ * kann er dort erneut abgeben. "Eine Abgabe pro Tag" gilt also pro Knoten und Prozess.
+ */
+@Component
+@Slf4j
+public class DailyTokenService {
+
+    private static final long TOKEN_VALID_DAYS = 365;
+
+    // HS256 braucht mindestens 256 Bit
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final Key key;
+
+    public DailyTokenService(GameConfiguration gameConfig) {
+        this.key = signingKey(gameConfig.getDailyTokenSecret());
+    }
+
+    private static Key signingKey(@Nullable String secret) {
+        if(secret == null || secret.isBlank()) {
+            log.warn("No daily token secret configured (WARDUEL_DAILY_TOKEN_SECRET) - daily player tokens are only valid until the next restart");
+            return Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        }
+
+        byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+        if(bytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("game.daily-token-secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        return Keys.hmacShaKeyFor(bytes);
+    }
+
+    /**
+     * Neue zufällige Kennung
+     */
+    long newPlayerId() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * Stellt ein Token für eine Kennung aus
+     */
+    String issue(long playerId) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject(Long.toString(playerId))
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + TimeUnit.DAYS.toMillis(TOKEN_VALID_DAYS)))
+                .signWith(key)
+                .compact();
+    }
+
+    /**
+     * Prüft Signatur und Ablauf
+     * @return Kennung oder null wenn das Token fehlt, ungültig oder abgelaufen ist
+     */
+    @Nullable
+    Long verify(@Nullable String token) {
+        if(token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+            return claims.getSubject() != null ? Long.parseLong(claims.getSubject()) : null;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
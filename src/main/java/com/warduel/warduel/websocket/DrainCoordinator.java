@@ -0,0 +1,344 @@
+package com.warduel.warduel.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import com.warduel.warduel.config.GameConfiguration;
+import com.warduel.warduel.dto.ErrorMessage;
+import com.warduel.warduel.model.GameSession;
+import com.warduel.warduel.model.GameSession.GameStatus;
+import com.warduel.warduel.model.Player;
+import com.warduel.warduel.service.GameService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DrainCoordinator - Fährt einen Knoten herunter, ohne laufende Spiele abzubrechen
+ *
+ * Ausgelöst über /actuator/drain oder SIGTERM (Lifecycle-Stop vor dem Webserver):
+ *  - Zulassung zu, Readiness auf REFUSING_TRAFFIC, GameService nimmt keine Matches mehr an
+ *  - Wartende Spieler bekommen einen Hinweis und Close-Code 1012 (Service Restart) -
+ *    der Client verbindet sich neu und landet über den Load Balancer auf einem anderen Knoten
+ *  - Laufende Spiele (READY/RUNNING) spielen bis endGame weiter
+ *
+ * Sobald kein Spiel mehr läuft oder die Deadline erreicht ist, werden die restlichen
+ * Verbindungen (Ergebnis-Bildschirme) mit 1012 geschlossen und der Knoten fährt herunter.
+ *
+ * Der Hinweis geht über GameWebSocketHandler.sendFrame - während des Drains senden LobbyPresence
+ * und die Spiel-Timer weiter an dieselben Verbindungen.
+ */
+@Component
+@Slf4j
+public class DrainCoordinator implements SmartLifecycle {
+
+    static final String RESTART_NOTICE = "Server restarting - moving you to another server";
+
+    private static final String RESTART_NOTICE_KEY = "RESTARTING";
+    private static final long DRAIN_CHECK_INTERVAL_MS = 1000;
+    private static final long PROGRESS_LOG_INTERVAL_SECONDS = 5;
+    private static final int EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    /**
+     * Fortschritt des Drains (für den Drain-Endpoint)
+     */
+    public record DrainStatus(boolean draining, boolean finished, long elapsedSeconds, long deadlineSeconds,
+                              int activeGames, int redirectedPlayers, int connections) {
+    }
+
+    private final GameService gameService;
+    private final AdmissionController admission;
+    private final SessionRegistry sessionRegistry;
+    private final OutboundFrameEncoder frameEncoder;
+    private final SpectatorHub spectatorHub;
+    private final GameWebSocketHandler handler;
+    private final GameConfiguration gameConfig;
+    private final ConfigurableApplicationContext context;
+
+    // Eigener Thread für die Drain-Prüfung (nicht der Scheduler der Spiele)
+    private final ScheduledExecutorService drainer = Executors.newSingleThreadScheduledExecutor();
+
+    private final AtomicInteger redirectedPlayers = new AtomicInteger();
+
+    // Nur vom Drain-Thread benutzt
+    private long lastProgressLogSeconds = -PROGRESS_LOG_INTERVAL_SECONDS;
+
+    // Geschützt durch "this"
+    private boolean running;
+    private long drainStartedNanos;
+    private ScheduledFuture<?> drainCheck;
+    @Nullable
+    private Runnable onIdle;
+    private boolean shutdownWhenIdle;
+    private volatile boolean draining;
+    private volatile boolean finished;
+
+    public DrainCoordinator(GameService gameService, AdmissionController admission, SessionRegistry sessionRegistry,
+                            OutboundFrameEncoder frameEncoder, SpectatorHub spectatorHub, GameWebSocketHandler handler,
+                            GameConfiguration gameConfig, ConfigurableApplicationContext context) {
+        this.gameService = gameService;
+        this.admission = admission;
+        this.sessionRegistry = sessionRegistry;
+        this.frameEncoder = frameEncoder;
+        this.spectatorHub = spectatorHub;
+        this.handler = handler;
+        this.gameConfig = gameConfig;
+        this.context = context;
+    }
+
+    /**
+     * Drain über den Admin-Endpoint: Knoten fährt herunter sobald er leer ist
+     * (bzw. wenn game.drain-exit-when-idle=false nur Drain ohne Shutdown)
+     */
+    public synchronized DrainStatus startDrain() {
+        shutdownWhenIdle = gameConfig.isDrainExitWhenIdle();
+        beginDrain();
+        return getStatus();
+    }
+
+    public synchronized DrainStatus getStatus() {
+        long elapsed = draining ? TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - drainStartedNanos) : 0;
+        return new DrainStatus(draining, finished, elapsed, gameConfig.getDrainDeadlineSeconds(),
+                countActiveGames(), redirectedPlayers.get(), sessionRegistry.size());
+    }
+
+    public boolean isDraining() {
+        return draining;
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+    }
+
+    /**
+     * Synchroner Stop (ohne Callback): wartet, bis der Drain abgeschlossen ist -
+     * höchstens bis zur Deadline plus einem Prüfintervall
+     */
+    @Override
+    public void stop() {
+        CountDownLatch drained = new CountDownLatch(1);
+        stop(drained::countDown);
+        try {
+            long timeoutMs = TimeUnit.SECONDS.toMillis(gameConfig.getDrainDeadlineSeconds()) + DRAIN_CHECK_INTERVAL_MS;
+            if(!drained.await(timeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("Drain did not finish within {}s - stopping anyway", gameConfig.getDrainDeadlineSeconds());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * SIGTERM / Context-Shutdown: Drain starten und erst nach Abschluss weitermachen
+     * (läuft vor dem Stop des Webservers, Verbindungen bleiben bis dahin offen)
+     */
+    @Override
+    public synchronized void stop(Runnable callback) {
+        running = false;
+        if(finished) {
+            callback.run();
+            return;
+        }
+        // Mehrfacher Stop: alle Aufrufer werden benachrichtigt
+        Runnable previous = onIdle;
+        onIdle = (previous == null) ? callback : () -> {
+            previous.run();
+            callback.run();
+        };
+        shutdownWhenIdle = false;
+        beginDrain();
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Vor dem Graceful Shutdown des Webservers stoppen
+        return SmartLifecycle.DEFAULT_PHASE;
+    }
+
+    private void beginDrain() {
+        if(draining) {
+            return;
+        }
+        draining = true;
+        drainStartedNanos = System.nanoTime();
+
+        admission.startDrain();
+        gameService.startDrain();
+        log.info("Drain started - {} active games, deadline {}s", countActiveGames(), gameConfig.getDrainDeadlineSeconds());
+
+        drainCheck = drainer.scheduleWithFixedDelay(() -> {
+            try {
+                checkDrain();
+            } catch (Exception e) {
+                log.error("Error in drain check", e);
+            }
+        }, 0, DRAIN_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Ein Durchlauf: wartende Spieler umleiten, Fortschritt melden, Ende prüfen
+     */
+    private void checkDrain() {
+        redirectWaitingGames();
+
+        int active = countActiveGames();
+        long elapsed = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - drainStartedNanos);
+        boolean deadlinePassed = elapsed >= gameConfig.getDrainDeadlineSeconds();
+
+        if(active > 0 && !deadlinePassed) {
+            if(elapsed - lastProgressLogSeconds >= PROGRESS_LOG_INTERVAL_SECONDS) {
+                lastProgressLogSeconds = elapsed;
+                log.info("Draining - {} active games, {} connections, {}s elapsed", active, sessionRegistry.size(), elapsed);
+            }
+            return;
+        }
+
+        if(active > 0) {
+            log.warn("Drain deadline of {}s reached - {} games still running", gameConfig.getDrainDeadlineSeconds(), active);
+        } else {
+            log.info("Drain complete after {}s - node idle", elapsed);
+        }
+        finishDrain();
+    }
+
+    private void finishDrain() {
+        closeRemainingSessions();
+
+        Runnable callback;
+        boolean shutdown;
+        synchronized(this) {
+            finished = true;
+            drainCheck.cancel(false);
+            callback = onIdle;
+            onIdle = null;
+            shutdown = shutdownWhenIdle;
+        }
+
+        if(callback != null) {
+            callback.run();
+        } else if(shutdown) {
+            // Eigener Thread: context.close() wartet auf den Lifecycle-Stop dieses Beans
+            Thread shutdownThread = new Thread(context::close, "drain-shutdown");
+            shutdownThread.setDaemon(false);
+            shutdownThread.start();
+        }
+    }
+
+    /**
+     * Spieler in wartenden Spielen und Battle-Lobbys auf einen anderen Knoten schicken
+     */
+    private void redirectWaitingGames() {
+        for(GameSession game : gameService.getAllGames()) {
+            if(game.getStatus() == GameStatus.WAITING && gameService.evictGame(game)) {
+                redirectPlayers(game);
+                spectatorHub.closeGame(game.getGameId());
+            }
+        }
+    }
+
+    /**
+     * Nach dem Drain: alle noch offenen Spieler-Verbindungen mit 1012 schließen
+     */
+    private void closeRemainingSessions() {
+        for(SessionHandle handle : sessionRegistry.all()) {
+            WebSocketSession session = handle.getSession();
+            GameSession game = handle.getGame();
+            if(game != null && gameService.evictGame(game)) {
+                if(game.getStatus() != GameStatus.FINISHED) {
+                    game.endGame();
+                }
+                spectatorHub.closeGame(game.getGameId());
+            }
+            handle.unbind();
+            sendRestart(session);
+        }
+    }
+
+    private void redirectPlayers(GameSession game) {
+        for(Player player : game.getPlayers()) {
+            WebSocketSession session = player.getSession();
+            if(session == null) {
+                continue;
+            }
+
+            // Handle lösen, damit afterConnectionClosed keine Spiel-Logik mehr auslöst
+            SessionHandle handle = sessionRegistry.get(session);
+            if(handle != null && handle.getGame() == game) {
+                handle.unbind();
+            }
+            sendRestart(session);
+        }
+    }
+
+    /**
+     * Hinweis senden und mit 1012 schließen - geschlossen wird auch, wenn das Senden scheitert
+     */
+    private void sendRestart(WebSocketSession session) {
+        if(!session.isOpen()) {
+            return;
+        }
+        try {
+            handler.sendFrame(session, restartNotice(frameEncoder));
+        } catch (Exception e) {
+            log.debug("Error sending restart notice to {}: {}", session.getId(), e.getMessage());
+        } finally {
+            try {
+                session.close(CloseStatus.SERVICE_RESTARTED);
+                redirectedPlayers.incrementAndGet();
+            } catch (Exception e) {
+                log.debug("Error redirecting session {}: {}", session.getId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Hinweis an Spieler, die auf einen anderen Knoten umziehen (Frame wird gecacht)
+     */
+    static TextMessage restartNotice(OutboundFrameEncoder frameEncoder) throws JsonProcessingException {
+        return frameEncoder.encodeCached(RESTART_NOTICE_KEY, () -> new ErrorMessage(RESTART_NOTICE));
+    }
+
+    private int countActiveGames() {
+        int active = 0;
+        for(GameSession game : gameService.getAllGames()) {
+            GameStatus status = game.getStatus();
+            if(status == GameStatus.READY || status == GameStatus.RUNNING) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    @PreDestroy
+    public void cleanup() {
+        drainer.shutdown();
+        try {
+            if(!drainer.awaitTermination(EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                drainer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            drainer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
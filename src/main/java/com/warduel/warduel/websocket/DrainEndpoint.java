@@ -0,0 +1,33 @@
+package com.warduel.warduel.websocket;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * DrainEndpoint - /actuator/drain
+ *
+ * GET: Fortschritt des Drains (laufende Spiele, umgeleitete Spieler, verstrichene Zeit)
+ * POST: Drain starten - keine neuen Matches, laufende Spiele zu Ende spielen, dann herunterfahren
+ */
+@Component
+@Endpoint(id = "drain")
+public class DrainEndpoint {
+
+    private final DrainCoordinator drainCoordinator;
+
+    public DrainEndpoint(DrainCoordinator drainCoordinator) {
+        this.drainCoordinator = drainCoordinator;
+    }
+
+    @ReadOperation
+    public DrainCoordinator.DrainStatus status() {
+        return drainCoordinator.getStatus();
+    }
+
+    @WriteOperation
+    public DrainCoordinator.DrainStatus drain() {
+        return drainCoordinator.startDrain();
+    }
+}
@@ -0,0 +1,249 @@
+package com.warduel.warduel.websocket;
+
+import com.warduel.warduel.config.GameConfiguration;
+import com.warduel.warduel.dto.ErrorMessage;
+import com.warduel.warduel.model.GameSession;
+import com.warduel.warduel.model.GameSession.GameStatus;
+import com.warduel.warduel.model.Player;
+import com.warduel.warduel.service.GameService;
+import com.warduel.warduel.service.GameSessionPool;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GameLifecycleSweeper - Entfernt Spiele, die zu lange in einem Status hängen
+ *
+ * Wartende Spieler ohne Gegner, Ergebnis-Bildschirme die nie verlassen werden und
+ * liegengebliebene Spiele werden nach einer TTL pro Status benachrichtigt, getrennt
+ * und aus dem GameService entfernt. Der Speicher folgt damit der aktiven Last
+ * statt der Gesamtzahl der Besucher.
+ *
+ * Jeder Durchlauf prüft höchstens lifecycleSweepBatchSize Spiele und macht beim
+ * nächsten Mal dort weiter. Die Anzahl Spiele je Status wird dabei mitgezählt und
+ * nach jeder vollen Runde als Metrik veröffentlicht (warduel.games{status=...}).
+ *
+ * Der Hinweis geht über GameWebSocketHandler.sendFrame (Sendesperre pro Verbindung bzw.
+ * ResumeSeat) - LobbyPresence und Spiel-Timer können gleichzeitig an dieselbe Verbindung senden.
+ */
+@Component
+@Slf4j
+public class GameLifecycleSweeper {
+
+    private static final int EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final GameService gameService;
+    private final GameSessionPool gamePool;
+    private final GameConfiguration gameConfig;
+    private final OutboundFrameEncoder frameEncoder;
+    private final SessionRegistry sessionRegistry;
+    private final SpectatorHub spectatorHub;
+    private final GameWebSocketHandler handler;
+
+    // Eigener Thread (nicht der Scheduler der Spiele)
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor();
+
+    // Position in der Spiele-Map zwischen zwei Durchläufen (nur vom Sweeper-Thread benutzt)
+    private Iterator<GameSession> cursor;
+    private final Map<GameStatus, Long> countingRound = new EnumMap<>(GameStatus.class);
+
+    // Anzahl Spiele je Status aus der letzten vollständigen Runde
+    private final Map<GameStatus, AtomicLong> gameCounts = new EnumMap<>(GameStatus.class);
+    private final Map<GameStatus, Counter> evictedCounters = new EnumMap<>(GameStatus.class);
+
+    public GameLifecycleSweeper(GameService gameService, GameSessionPool gamePool, GameConfiguration gameConfig, OutboundFrameEncoder frameEncoder,
+                                SessionRegistry sessionRegistry, SpectatorHub spectatorHub, GameWebSocketHandler handler,
+                                MeterRegistry meterRegistry) {
+        this.gameService = gameService;
+        this.gamePool = gamePool;
+        this.gameConfig = gameConfig;
+        this.frameEncoder = frameEncoder;
+        this.sessionRegistry = sessionRegistry;
+        this.spectatorHub = spectatorHub;
+        this.handler = handler;
+
+        for(GameStatus status : GameStatus.values()) {
+            AtomicLong count = new AtomicLong();
+            gameCounts.put(status, count);
+            meterRegistry.gauge("warduel.games", Tags.of("status", status.name()), count, AtomicLong::get);
+            evictedCounters.put(status, Counter.builder("warduel.games.evicted")
+                    .description("Games removed by the lifecycle sweeper")
+                    .tag("status", status.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        long interval = gameConfig.getLifecycleSweepIntervalMs();
+        sweeper.scheduleWithFixedDelay(() -> {
+            try {
+                sweep();
+            } catch (Exception e) {
+                log.error("Error in lifecycle sweep", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void cleanup() {
+        sweeper.shutdown();
+        try {
+            if(!sweeper.awaitTermination(EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                sweeper.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            sweeper.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Anzahl Spiele je Status (Stand der letzten vollständigen Runde)
+     */
+    public Map<GameStatus, Long> getGameCounts() {
+        Map<GameStatus, Long> counts = new EnumMap<>(GameStatus.class);
+        gameCounts.forEach((status, count) -> counts.put(status, count.get()));
+        return counts;
+    }
+
+    /**
+     * Ein Durchlauf: prüft bis zu lifecycleSweepBatchSize Spiele ab der letzten Position
+     */
+    private void sweep() {
+        long now = System.nanoTime();
+        int budget = gameConfig.getLifecycleSweepBatchSize();
+
+        // Spiele nach der Quarantäne zurücksetzen, auch wenn gerade niemand ein Match startet
+        gamePool.recycleExpired();
+
+        if(cursor == null) {
+            cursor = gameService.getAllGames().iterator();
+            countingRound.clear();
+        }
+
+        while(budget-- > 0) {
+            if(!cursor.hasNext()) {
+                publishCounts();
+                cursor = null;
+                return;
+            }
+
+            GameSession game = cursor.next();
+            GameStatus status = game.getStatus();
+            countingRound.merge(status, 1L, Long::sum);
+
+            long ttl = ttlSeconds(game, status);
+            if(game.getSecondsInStatus(now) > ttl) {
+                evict(game, status);
+            }
+        }
+    }
+
+    private void publishCounts() {
+        for(GameStatus status : GameStatus.values()) {
+            gameCounts.get(status).set(countingRound.getOrDefault(status, 0L));
+        }
+    }
+
+    /**
+     * TTL für ein Spiel im angegebenen Status
+     */
+    private long ttlSeconds(GameSession game, GameStatus status) {
+        return switch(status) {
+            case WAITING -> gameConfig.getWaitingTtlSeconds();
+            case READY -> gameConfig.getReadyTtlSeconds();
+            case RUNNING -> game.getDurationSeconds() + gameConfig.getRunningGraceSeconds();
+            case FINISHED -> gameConfig.getFinishedTtlSeconds();
+        };
+    }
+
+    /**
+     * Entfernt ein abgelaufenes Spiel: Zuordnungen lösen, Spieler benachrichtigen und trennen
+     */
+    private void evict(GameSession game, GameStatus status) {
+        if(!gameService.evictGame(game)) {
+            return;
+        }
+        evictedCounters.get(status).increment();
+
+        if(status != GameStatus.FINISHED) {
+            game.endGame();
+        }
+
+        TextMessage notice = noticeFor(status);
+        for(Player player : game.getPlayers()) {
+            WebSocketSession session = player.getSession();
+            if(session == null) {
+                continue;
+            }
+
+            // Handle lösen, damit afterConnectionClosed keine Spiel-Logik mehr auslöst
+            SessionHandle handle = sessionRegistry.get(session);
+            if(handle != null && handle.getGame() == game) {
+                handle.unbind();
+            }
+
+            if(session.isOpen()) {
+                notifyAndClose(session, notice);
+            }
+        }
+
+        spectatorHub.closeGame(game.getGameId());
+    }
+
+    /**
+     * Hinweis senden und trennen - geschlossen wird auch, wenn das Senden scheitert
+     * (das Spiel ist schon entfernt, die Verbindung darf nicht ohne Spiel offen bleiben)
+     */
+    private void notifyAndClose(WebSocketSession session, TextMessage notice) {
+        try {
+            if(notice != null) {
+                handler.sendFrame(session, notice);
+            }
+        } catch (Exception e) {
+            log.debug("Error sending expiry notice to {}: {}", session.getId(), e.getMessage());
+        } finally {
+            try {
+                session.close(CloseStatus.NORMAL);
+            } catch (Exception e) {
+                log.debug("Error closing expired session {}: {}", session.getId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Hinweis an die Spieler, warum sie getrennt werden (Frame wird gecacht)
+     */
+    private TextMessage noticeFor(GameStatus status) {
+        String text = switch(status) {
+            case WAITING -> "No opponent found - please try again";
+            case READY, RUNNING -> "Game expired";
+            case FINISHED -> "Session expired";
+        };
+
+        try {
+            return frameEncoder.encodeCached("EXPIRED:" + status, () -> new ErrorMessage(text));
+        } catch (Exception e) {
+            log.error("Error encoding expiry notice", e);
+            return null;
+        }
+    }
+}
@@ -5,26 +5,45 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.warduel.warduel.config.GameConfiguration;
 import com.warduel.warduel.dto.*;
 import com.warduel.warduel.model.*;
+import com.warduel.warduel.service.DailyChallengeService;
+import com.warduel.warduel.service.GameEventLog;
 import com.warduel.warduel.service.GameService;
+import com.warduel.warduel.service.PracticeService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.PongMessage;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
-import java.time.Instant;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Component
 @Slf4j
@@ -33,50 +52,122 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
     private final GameService gameService;
     private final GameConfiguration gameConfig;
     private final ObjectMapper objectMapper;
+    private final OutboundFrameEncoder frameEncoder;
+    private final SpectatorHub spectatorHub;
+    private final SessionRegistry sessionRegistry;
+    private final ResumeTokenService resumeTokens;
+    private final AdmissionController admission;
+    private final PracticeService practiceService;
+    private final DailyChallengeService dailyChallenge;
+    private final DailyTokenService dailyTokens;
+    private final GameEventLog events;
+
+    // Fertiger Top-Listen-Frame der Tages-Challenge - neu serialisiert nur wenn sich die Top-Liste ändert
+    private record DailyTopFrame(LocalDate date, long version, TextMessage frame) {
+    }
+    private final AtomicReference<DailyTopFrame> dailyTopFrame = new AtomicReference<>();
+    private final Timer rttTimer;
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(5);
 
+    // Führt die Spiel-Aufgaben aus: direkt auf dem Scheduler-Thread oder (Java 21 mit
+    // spring.threads.virtual.enabled=true) auf je einem virtuellen Thread - der Scheduler
+    // plant dann nur noch, blockierende Sends halten ihn nicht mehr auf
+    private final Executor gameTasks;
+
     // SECURITY: Rate limiting - max messages per second per player
     private static final int MAX_MESSAGES_PER_SECOND = 10;
-    private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
 
-    // Connection timeout tracking
+    // Connection timeout tracking (Textnachrichten und Pongs zählen als Lebenszeichen)
     private static final long CONNECTION_TIMEOUT_SECONDS = 10;
     private static final long CONNECTION_CHECK_INTERVAL_SECONDS = 3;
-    private final Map<String, Instant> lastMessageTime = new ConcurrentHashMap<>();
+
+    // Server-Ping: im laufenden Spiel häufiger (schnelle Timeout-Erkennung), sonst seltener
+    private static final long KEEPALIVE_SWEEP_INTERVAL_MS = 1000;
+    private static final long PING_INTERVAL_IN_GAME_MS = 2000;
+    private static final long PING_INTERVAL_IDLE_MS = 5000;
+
+    // Exakter Payload des JSON-Heartbeats älterer Clients (Fast Path ohne JSON-Parsing)
+    private static final String LEGACY_HEARTBEAT_PAYLOAD = "{\"type\":\"HEARTBEAT\"}";
 
     // Game timing constants
-    private static final int COUNTDOWN_DURATION_SECONDS = 3;
+    static final int COUNTDOWN_DURATION_SECONDS = 3;
     private static final long REMATCH_DELAY_SECONDS = 1;
 
-    // Validation constants
-    private static final int MAX_ANSWER_VALUE = 1_000_000;
+    // Query-Parameter für den Battle-Modus: /game?mode=battle
+    private static final String MODE_PARAM = "mode";
+    private static final String BATTLE_MODE = "battle";
+    private static final String PRACTICE_MODE = "practice";
+    private static final String DAILY_MODE = "daily";
 
-    // Executor service constants
-    private static final int EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS = 5;
+    // Cache-Key des Fragen-Frames der Tages-Challenge (+ Datum)
+    private static final String DAILY_SET_KEY = "DAILY_SET:";
 
-    private static class RateLimiter {
-        private final AtomicInteger messageCount = new AtomicInteger(0);
-        private volatile Instant windowStart = Instant.now();
+    // Query-Parameter mit der Spieler-Kennung der Tages-Challenge: /game?mode=daily&player=TOKEN
+    private static final String DAILY_PLAYER_PARAM = "player";
 
-        public boolean allowMessage() {
-            Instant now = Instant.now();
+    // Query-Parameter für die Wiederaufnahme: /game?resume=TOKEN&seq=N (Token übernimmt das HandshakeGate)
+    private static final String SEQ_PARAM = "seq";
 
-            // Reset window if more than 1 second has passed
-            if(now.isAfter(windowStart.plusSeconds(1))) {
-                windowStart = now;
-                messageCount.set(0);
-            }
+    // Query-Parameter zum Abbestellen der Lobby-Anzeige: /game?presence=off
+    private static final String PRESENCE_PARAM = "presence";
+    private static final String PRESENCE_OFF = "off";
 
-            // Check if under limit
-            int count = messageCount.incrementAndGet();
-            return count <= MAX_MESSAGES_PER_SECOND;
-        }
-    }
+    // Validation constants
+    private static final int MAX_ANSWER_VALUE = 1_000_000;
+
+    // Executor service constants
+    private static final int EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS = 5;
+    private static final String VIRTUAL_THREAD_PREFIX = "game-task-";
 
-    public GameWebSocketHandler(GameService gameService, GameConfiguration gameConfig, ObjectMapper objectMapper) {
+    public GameWebSocketHandler(GameService gameService, GameConfiguration gameConfig, ObjectMapper objectMapper,
+                                OutboundFrameEncoder frameEncoder, SpectatorHub spectatorHub, SessionRegistry sessionRegistry,
+                                ResumeTokenService resumeTokens, AdmissionController admission, PracticeService practiceService,
+                                DailyChallengeService dailyChallenge, DailyTokenService dailyTokens, GameEventLog events,
+                                MeterRegistry meterRegistry, Environment environment) {
         this.gameService = gameService;
         this.gameConfig = gameConfig;
         this.objectMapper = objectMapper;
+        this.frameEncoder = frameEncoder;
+        this.spectatorHub = spectatorHub;
+        this.sessionRegistry = sessionRegistry;
+        this.resumeTokens = resumeTokens;
+        this.admission = admission;
+        this.practiceService = practiceService;
+        this.dailyChallenge = dailyChallenge;
+        this.dailyTokens = dailyTokens;
+        this.events = events;
+        this.rttTimer = Timer.builder("warduel.websocket.rtt")
+                .description("Round-trip time of server pings")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        meterRegistry.gauge("warduel.websocket.connections", sessionRegistry, SessionRegistry::size);
+
+        if(Threading.VIRTUAL.isActive(environment)) {
+            this.gameTasks = new VirtualThreadTaskExecutor(VIRTUAL_THREAD_PREFIX);
+            log.info("Game tasks run on virtual threads");
+        } else {
+            this.gameTasks = Runnable::run;
+        }
+    }
+
+    /**
+     * Startet den Keepalive-Sweep (sendet Pings an alle Verbindungen)
+     * Die Verspätung des Sweeps gegenüber seinem Takt dient als Lastsignal für die Zulassung
+     */
+    @PostConstruct
+    public void startKeepalive() {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(KEEPALIVE_SWEEP_INTERVAL_MS);
+        long firstRun = System.nanoTime() + intervalNanos;
+        AtomicLong sweeps = new AtomicLong();
+        scheduler.scheduleAtFixedRate(() -> {
+            try {
+                long planned = firstRun + sweeps.getAndIncrement() * intervalNanos;
+                admission.recordSchedulerLag(System.nanoTime() - planned);
+                sendKeepalivePings();
+            } catch (Exception e) {
+                log.error("Error in keepalive sweep", e);
+            }
+        }, KEEPALIVE_SWEEP_INTERVAL_MS, KEEPALIVE_SWEEP_INTERVAL_MS, TimeUnit.MILLISECONDS);
     }
 
     // cleanup to avoid thread pool resource leak
@@ -97,36 +188,55 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
      * Starts connection timeout checker for a game
      */
     private void startConnectionMonitor(GameSession game) {
-        scheduler.scheduleAtFixedRate(() -> {
-            try {
-                if(game.getStatus() != GameSession.GameStatus.RUNNING) {
-                    return; // Only monitor running games
-                }
+        long generation = game.getGeneration();
+        AtomicReference<ScheduledFuture<?>> monitor = new AtomicReference<>();
+        // Auf virtuellen Threads überlappen sich Durchläufe sonst, wenn ein Close hängt
+        AtomicBoolean checking = new AtomicBoolean();
+        monitor.set(scheduler.scheduleAtFixedRate(() -> {
+            if(checking.compareAndSet(false, true)) {
+                gameTasks.execute(() -> {
+                    try {
+                        checkConnections(game, generation, monitor);
+                    } finally {
+                        checking.set(false);
+                    }
+                });
+            }
+        }, CONNECTION_CHECK_INTERVAL_SECONDS, CONNECTION_CHECK_INTERVAL_SECONDS, TimeUnit.SECONDS));
+    }
 
-                Instant now = Instant.now();
+    /**
+     * Ein Durchlauf der Verbindungsüberwachung eines Spiels
+     */
+    private void checkConnections(GameSession game, long generation, AtomicReference<ScheduledFuture<?>> monitor) {
+        try {
+            if(game.getGeneration() != generation || game.getStatus() != GameSession.GameStatus.RUNNING) {
+                // Only monitor running games - beenden, sonst hält die Task das Spiel für immer fest
+                // (bzw. das recycelte Objekt für ein fremdes Match)
+                ScheduledFuture<?> self = monitor.get();
+                if(self != null) {
+                    self.cancel(false);
+                }
+                return;
+            }
 
-                // Check both players
-                Player player1 = game.getPlayer1();
-                Player player2 = game.getPlayer2();
+            long now = System.nanoTime();
 
-                if(player1 != null) {
-                    checkPlayerConnection(player1, now, game);
-                }
-                if(player2 != null) {
-                    checkPlayerConnection(player2, now, game);
-                }
-            } catch (Exception e) {
-                log.error("Error in connection monitor", e);
+            // Check all players
+            for(Player player : game.getPlayers()) {
+                checkPlayerConnection(player, now, game);
             }
-        }, CONNECTION_CHECK_INTERVAL_SECONDS, CONNECTION_CHECK_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.error("Error in connection monitor", e);
+        }
     }
 
-    private void checkPlayerConnection(Player player, Instant now, GameSession game) {
+    private void checkPlayerConnection(Player player, long now, GameSession game) {
         String playerId = player.getPlayerId();
-        Instant lastMessage = lastMessageTime.get(playerId);
+        SessionHandle handle = (player.getSession() != null) ? sessionRegistry.get(player.getSession()) : null;
 
-        if(lastMessage != null) {
-            long secondsSinceLastMessage = now.getEpochSecond() - lastMessage.getEpochSecond();
+        if(handle != null) {
+            long secondsSinceLastMessage = handle.getKeepalive().secondsSinceLastSeen(now);
 
             if(secondsSinceLastMessage > CONNECTION_TIMEOUT_SECONDS) {
                 log.warn("Player {} timed out - no message in {} seconds", playerId, secondsSinceLastMessage);
@@ -143,23 +253,115 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
         }
     }
 
+    /**
+     * Sendet native Pings an alle Verbindungen, deren Intervall abgelaufen ist
+     */
+    private void sendKeepalivePings() {
+        long now = System.nanoTime();
+
+        for(SessionHandle handle : sessionRegistry.all()) {
+            WebSocketSession session = handle.getSession();
+            if(!session.isOpen()) {
+                continue;
+            }
+
+            SessionKeepalive keepalive = handle.getKeepalive();
+            GameSession game = handle.getGame();
+            boolean inGame = game != null && game.getStatus() == GameSession.GameStatus.RUNNING;
+            long intervalMs = inGame ? PING_INTERVAL_IN_GAME_MS : PING_INTERVAL_IDLE_MS;
+
+            if(!keepalive.isPingDue(now, TimeUnit.MILLISECONDS.toNanos(intervalMs))) {
+                continue;
+            }
+
+            try {
+                handle.send(new PingMessage(keepalive.nextPingPayload(now)));
+            } catch (Exception e) {
+                log.debug("Failed to send ping to session {}: {}", session.getId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Pong vom Client: Lebenszeichen + RTT-Messung, ohne Anwendungsschicht
+     */
+    @Override
+    protected void handlePongMessage(WebSocketSession session, PongMessage message) {
+        SessionHandle handle = sessionRegistry.get(session);
+        if(handle == null) {
+            return;
+        }
+
+        long rtt = handle.getKeepalive().onPong(message.getPayload(), System.nanoTime());
+        if(rtt >= 0) {
+            rttTimer.record(rtt, TimeUnit.NANOSECONDS);
+        }
+    }
+
     /**
      * Wird aufgerufen wenn neuer Client verbindet
      */
     @Override
     public void afterConnectionEstablished(WebSocketSession session) {
-        log.info("New WebSocket connection: {}", session.getId());
+        events.log(GameEventLog.Event.CONNECTION_OPENED, "session", session.getId());
 
         try {
             String playerId = session.getId();
+            MultiValueMap<String, String> params = queryParams(session);
+            String resumeToken = HandshakeGate.resumeToken(session.getAttributes());
+
+            // Überlast: neue Spieler sofort abweisen (Wiederaufnahmen laufender Spiele immer zulassen)
+            if(resumeToken == null && !admission.tryAdmit()) {
+                if(admission.isDraining()) {
+                    rejectRestarting(session);
+                } else {
+                    rejectBusy(session);
+                }
+                return;
+            }
+
+            // Handle an der Session: Keepalive, Rate Limiter, später Spiel + Slot
+            SessionHandle handle = sessionRegistry.register(session,
+                    new SessionKeepalive(session, System.nanoTime()), new RateLimiter(MAX_MESSAGES_PER_SECOND));
+            if(PRESENCE_OFF.equalsIgnoreCase(params.getFirst(PRESENCE_PARAM))) {
+                handle.muteLobbyStats();
+            }
+
+            // Wiederaufnahme nach Verbindungsabbruch statt neuem Matchmaking
+            if(resumeToken != null) {
+                resumeSession(handle, resumeToken, params.getFirst(SEQ_PARAM));
+                return;
+            }
 
-            // Track connection time
-            lastMessageTime.put(playerId, Instant.now());
+            // Übungsmodus: kein Matchmaking, die Runde läuft im Client
+            String mode = params.getFirst(MODE_PARAM);
+            if(PRACTICE_MODE.equalsIgnoreCase(mode)) {
+                startPracticeRound(handle);
+                return;
+            }
+            if(DAILY_MODE.equalsIgnoreCase(mode)) {
+                startDailyRound(handle, params.getFirst(DAILY_PLAYER_PARAM));
+                return;
+            }
+
+            GameSession game = BATTLE_MODE.equalsIgnoreCase(mode)
+                    ? gameService.joinBattle(session)
+                    : gameService.joinGame(session);
 
-            GameSession game = gameService.joinGame(session);
+            // Einmaliger Lookup beim Beitreten - danach nur noch über den Slot
+            Player player = game.getPlayer(playerId);
+            if(player != null) {
+                handle.bind(game, player);
+            }
 
-            // Wenn Spiel voll ist, starte es
-            if(game.isFull()) {
+            // Neuer Battle-Raum: Lobby-Wartezeit starten
+            if(game.getMode() == GameSession.GameMode.BATTLE && game.getPlayerCount() == 1
+                    && game.getStatus() == GameSession.GameStatus.WAITING) {
+                scheduleBattleLobbyTimeout(game);
+            }
+
+            // Wenn Spiel bereit ist (Duell voll bzw. Battle-Raum gestartet), starte es - genau einmal
+            if(game.getStatus() != GameSession.GameStatus.WAITING && game.tryLaunch()) {
                 startGame(game);
             }
 
@@ -173,6 +375,34 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
         }
     }
 
+    /**
+     * Weist eine Verbindung bei Überlast ab: ein vorgefertigter Frame, dann 1013 (Try Again Later)
+     * Die Session wird gar nicht erst registriert
+     */
+    private void rejectBusy(WebSocketSession session) {
+        int retryAfter = admission.getRetryAfterSeconds();
+        try {
+            TextMessage frame = frameEncoder.encodeCached("BUSY:" + retryAfter,
+                    () -> new ErrorMessage("Server busy - retry in " + retryAfter + " seconds"));
+            session.sendMessage(frame);
+            session.close(CloseStatus.SERVICE_OVERLOAD);
+        } catch (IOException e) {
+            log.debug("Failed to reject session {}: {}", session.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Weist eine Verbindung im Drain-Modus ab: Client verbindet sich neu und landet auf einem anderen Knoten
+     */
+    private void rejectRestarting(WebSocketSession session) {
+        try {
+            session.sendMessage(DrainCoordinator.restartNotice(frameEncoder));
+            session.close(CloseStatus.SERVICE_RESTARTED);
+        } catch (IOException e) {
+            log.debug("Failed to reject session {}: {}", session.getId(), e.getMessage());
+        }
+    }
+
     /**
      * Verarbeitet eingehende Nachrichten
      */
@@ -181,36 +411,63 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
         String playerId = session.getId();
         String payload = message.getPayload();
 
+        SessionHandle handle = sessionRegistry.get(session);
+        if(handle == null) {
+            return; // Verbindung wird gerade abgebaut
+        }
+
         // Update last message time for timeout detection
-        lastMessageTime.put(playerId, Instant.now());
+        handle.getKeepalive().markAlive(System.nanoTime());
+
+        // Heartbeat älterer Clients: nur Lebenszeichen, kein Rate Limit / Parsing / Logging
+        if(LEGACY_HEARTBEAT_PAYLOAD.equals(payload)) {
+            return;
+        }
 
         // SECURITY: Rate limiting check
-        RateLimiter limiter = rateLimiters.computeIfAbsent(playerId, k -> new RateLimiter());
-        if(!limiter.allowMessage()) {
+        if(!handle.getRateLimiter().allowMessage()) {
             log.warn("Rate limit exceeded for player {}", playerId);
             sendError(session, "Too many messages - slow down!");
             return;
         }
 
-        log.info("Received message from {}: {}", playerId, payload);
-
         try {
             BaseMessage baseMsg = objectMapper.readValue(payload, BaseMessage.class);
+            events.log(GameEventLog.Event.MESSAGE_RECEIVED, "player", playerId, "type", baseMsg.getType());
 
             switch(baseMsg.getType()) {
                 case "ANSWER":
-                    handleAnswer(session, payload);
+                    long answerStart = System.nanoTime();
+                    handleAnswer(handle, payload);
+                    admission.recordAnswerLatency(System.nanoTime() - answerStart);
                     break;
                 case "REMATCH":
-                    handleRematch(session);
+                    handleRematch(handle);
                     break;
                 case "FORFEIT":
-                    handleForfeit(session);
+                    handleForfeit(handle);
                     break;
                 case "HEARTBEAT":
                     // Just update last message time to keep connection alive
                     // No other action needed
                     break;
+                case "PRACTICE_SUBMIT":
+                    if(handle.isDaily()) {
+                        handleDailySubmit(handle, payload);
+                    } else {
+                        handlePracticeSubmit(handle, payload);
+                    }
+                    break;
+                case "JOIN_GAME":
+                    // Übungsverbindung: nächste Runde ohne neue Verbindung
+                    if(handle.isPractice()) {
+                        startPracticeRound(handle);
+                    } else if(handle.isDaily()) {
+                        resendDailySet(handle);
+                    } else {
+                        log.warn("JOIN_GAME outside practice mode from {}", playerId);
+                    }
+                    break;
                 default:
                     log.warn("Unknown message type: {}", baseMsg.getType());
             }
@@ -220,11 +477,142 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
         }
     }
 
+    /**
+     * Übungsmodus: neue Runde ausgeben - alle Fragen in einem Frame, bis zur Abgabe keine weiteren
+     */
+    private void startPracticeRound(SessionHandle handle) throws IOException {
+        PracticeService.Round round = practiceService.newRound();
+        List<String> questions = practiceService.questions(round).stream()
+                .map(Question::getQuestionText)
+                .toList();
+        handle.startPractice(round);
+        sendMessage(handle.getSession(), new PracticeSetMessage(questions, round.durationSeconds()));
+    }
+
+    /**
+     * Übungsmodus: alle Antworten einer Runde auf einmal prüfen
+     */
+    private void handlePracticeSubmit(SessionHandle handle, String payload) throws IOException {
+        WebSocketSession session = handle.getSession();
+        PracticeSubmitMessage submit = objectMapper.readValue(payload, PracticeSubmitMessage.class);
+
+        PracticeService.Round round = handle.takePracticeRound();
+        if(round == null) {
+            sendError(session, "No practice round in progress");
+            return;
+        }
+
+        PracticeService.Verdict verdict = practiceService.verify(round, submit.getAnswers(), submit.getTimes(),
+                System.nanoTime());
+        if(!verdict.verified()) {
+            events.log(GameEventLog.Event.RESULT_REJECTED, "player", handle.getPlayerId(), "mode", PRACTICE_MODE,
+                    "answered", verdict.answered(), "reason", verdict.reason());
+        }
+        sendMessage(session, new PracticeResultMessage(verdict.verified(), verdict.score(), verdict.answered(),
+                verdict.questionCount(), verdict.reason()));
+    }
+
+    /**
+     * Tages-Challenge: eine Runde pro Verbindung, der Fragen-Frame ist für alle Spieler des Tages derselbe
+     * Ohne gültiges Token bekommt der Spieler eine neue Kennung (das Token kommt mit dem Ergebnis).
+     * Hat die Kennung heute schon abgegeben, gibt es keine Runde mehr, nur die Top-Liste.
+     */
+    private void startDailyRound(SessionHandle handle, @Nullable String token) throws IOException {
+        DailyChallengeService.Challenge challenge = dailyChallenge.current();
+        Long known = dailyTokens.verify(token);
+        long dailyPlayerId = (known != null) ? known : dailyTokens.newPlayerId();
+
+        if(challenge.hasPlayed(dailyPlayerId)) {
+            handle.startDaily(null, dailyPlayerId);
+            sendError(handle.getSession(), DailyChallengeService.ALREADY_PLAYED);
+            sendFrame(handle.getSession(), dailyTopFrame(challenge));
+            return;
+        }
+
+        handle.startDaily(dailyChallenge.newRound(challenge), dailyPlayerId);
+        sendFrame(handle.getSession(), dailySetFrame(challenge));
+    }
+
+    /**
+     * JOIN_GAME auf einer Tages-Verbindung: läuft die Runde noch, dieselben Fragen erneut senden
+     * (die Runde selbst bleibt, ihre Startzeit auch) - nach der Abgabe gibt es keine zweite
+     */
+    private void resendDailySet(SessionHandle handle) throws IOException {
+        if(!handle.hasPracticeRound()) {
+            sendError(handle.getSession(), DailyChallengeService.ALREADY_PLAYED);
+            return;
+        }
+        sendFrame(handle.getSession(), dailySetFrame(dailyChallenge.current()));
+    }
+
+    private TextMessage dailySetFrame(DailyChallengeService.Challenge challenge) throws IOException {
+        return frameEncoder.encodeCached(DAILY_SET_KEY + challenge.date(), () -> new DailySetMessage(
+                challenge.date().toString(),
+                challenge.questions().stream().map(Question::getQuestionText).toList(),
+                challenge.durationSeconds()));
+    }
+
+    /**
+     * Tages-Challenge: Abgabe prüfen und einsortieren, dann Platzierung + Top-Liste
+     */
+    private void handleDailySubmit(SessionHandle handle, String payload) throws IOException {
+        WebSocketSession session = handle.getSession();
+        PracticeSubmitMessage submit = objectMapper.readValue(payload, PracticeSubmitMessage.class);
+
+        PracticeService.Round round = handle.takePracticeRound();
+        if(round == null) {
+            sendError(session, DailyChallengeService.ALREADY_PLAYED);
+            return;
+        }
+
+        long dailyPlayerId = handle.getDailyPlayerId();
+        DailyChallengeService.Outcome outcome = dailyChallenge.submit(round, submit.getAnswers(), submit.getTimes(),
+                dailyPlayerId, HandshakeGate.clientIp(session.getAttributes()));
+        PracticeService.Verdict verdict = outcome.verdict();
+        DailyRanking.Placement placement = outcome.placement();
+        DailyResultMessage result;
+        if(placement == null) {
+            events.log(GameEventLog.Event.RESULT_REJECTED, "player", handle.getPlayerId(), "mode", DAILY_MODE,
+                    "answered", verdict.answered(), "reason", verdict.reason());
+            result = new DailyResultMessage(false, 0, verdict.answered(), verdict.questionCount(),
+                    0, 0, 0, verdict.reason());
+        } else {
+            result = new DailyResultMessage(true, verdict.score(), verdict.answered(), verdict.questionCount(),
+                    placement.rank(), placement.totalPlayers(), placement.percentile(), null);
+        }
+        // Auch nach einer Ablehnung: der Client merkt sich die Kennung für die nächsten Tage
+        result.setToken(dailyTokens.issue(dailyPlayerId));
+        sendMessage(session, result);
+        if(placement != null) {
+            sendFrame(session, dailyTopFrame(outcome.challenge()));
+        }
+    }
+
+    /**
+     * Top-Liste als fertiger Frame - nur nach einer Änderung neu serialisiert
+     */
+    private TextMessage dailyTopFrame(DailyChallengeService.Challenge challenge) throws IOException {
+        DailyRanking ranking = challenge.ranking();
+        long version = ranking.getTopVersion();
+        DailyTopFrame cached = dailyTopFrame.get();
+        if(cached != null && cached.date().equals(challenge.date()) && cached.version() >= version) {
+            return cached.frame();
+        }
+
+        List<DailyTopEntry> entries = ranking.top().stream()
+                .map(entry -> new DailyTopEntry(entry.rank(), entry.score(), entry.timeMs()))
+                .toList();
+        TextMessage frame = frameEncoder.encode(new DailyTopMessage(challenge.date().toString(), entries));
+        dailyTopFrame.set(new DailyTopFrame(challenge.date(), version, frame));
+        return frame;
+    }
+
     /**
      * Verarbeitet Antworten
      */
-    private void handleAnswer(WebSocketSession session, String payload) throws IOException {
-        String playerId = session.getId();
+    private void handleAnswer(SessionHandle handle, String payload) throws IOException {
+        WebSocketSession session = handle.getSession();
+        String playerId = handle.getPlayerId();
         AnswerMessage answerMsg = objectMapper.readValue(payload, AnswerMessage.class);
 
         // SECURITY: Validate answer bounds to prevent extreme values
@@ -234,7 +622,16 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
             return;
         }
 
-        GameSession game = gameService.getGameByPlayerId(playerId);
+        // Spieler und Gegner direkt über den Slot
+        submitAnswer(session, handle.getGame(), handle.getPlayer(), answerMsg.getAnswer());
+    }
+
+    /**
+     * Wertet eine Antwort aus und schickt Ergebnis + nächste Frage (Spieler-Verbindung oder Bot)
+     */
+    void submitAnswer(WebSocketSession session, @Nullable GameSession game, @Nullable Player player,
+                      int answer) throws IOException {
+        String playerId = session.getId();
         if(game == null || game.getStatus() != GameSession.GameStatus.RUNNING) {
             sendError(session, "Game not found or not active");
             return;
@@ -247,14 +644,11 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
             return;
         }
 
-        // Finde Spieler
-        Player player = findPlayerById(game, playerId);
-        Player opponent = findOpponentById(game, playerId);
-
         if(player == null) {
             sendError(session, "Player not found");
             return;
         }
+        Player opponent = game.getOpponent(player);
 
         int currentQuestionIndex = player.getCurrentQuestionIndex();
 
@@ -275,44 +669,64 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
             return;
         }
 
-        boolean correct = currentQuestion.isCorrect(answerMsg.getAnswer());
+        boolean correct = currentQuestion.isCorrect(answer);
 
         if(correct) {
             player.incrementScore();
+            game.onScoreChanged(player);
         }
 
-        // Sende Score Update an beide Spieler
-        sendScoreUpdate(player, opponent, correct);
+        // Battle-Raum: kein einzelner Gegner - Rangliste wird gebündelt an alle gesendet
+        if(game.getMode() == GameSession.GameMode.BATTLE) {
+            player.nextQuestion();
+            sendBattleAnswerResult(player, correct, game, game.getCurrentQuestionForPlayer(player));
+            if(correct) {
+                queueLeaderboardFlush(game);
+            }
+            return;
+        }
+
+        // Gegner bekommt den neuen Punktestand gebündelt (max. ein Update pro Flush-Intervall)
         if(opponent != null) {
-            sendScoreUpdate(opponent, player, false);
+            queueScoreUpdate(game, opponent, player);
         }
 
         // Prüfe vorzeitigen Sieg (wenn aktiviert)
         if(gameConfig.hasWinScore() && player.getScore() >= gameConfig.getWinScore()) {
-            log.info("Player {} reached {} points! Ending game immediately", playerId, gameConfig.getWinScore());
-            endGame(game);
+            sendAnswerResult(player, opponent, correct, game, null);
+            endGame(game, "win-score");
             return;  // Wichtig: Keine weitere Frage senden!
         }
 
         // Nächste Frage
         player.nextQuestion();
 
-        Question nextQuestion = game.getCurrentQuestionForPlayer(player);
-        if(nextQuestion != null) {
-            sendNextQuestion(player, game);
-        }
+        // Ergebnis + Punktestand + nächste Frage in EINEM Frame an den Spieler
+        sendAnswerResult(player, opponent, correct, game, game.getCurrentQuestionForPlayer(player));
+
+        spectatorHub.publish(game);
     }
 
     /**
      * Verarbeitet Rematch-Anfrage
      */
-    private void handleRematch(WebSocketSession session) throws IOException, InterruptedException {
-        String playerId = session.getId();
+    private void handleRematch(SessionHandle handle) throws IOException, InterruptedException {
+        WebSocketSession session = handle.getSession();
+        String playerId = handle.getPlayerId();
 
         // CRITICAL: Check if opponent is still connected before allowing rematch
-        GameSession game = gameService.getGameByPlayerId(playerId);
+        GameSession game = handle.getGame();
+        if(game != null && game.getMode() == GameSession.GameMode.BATTLE) {
+            sendError(session, "Rematch not available in battle mode");
+            return;
+        }
+        // Knoten wird heruntergefahren - keine neuen Runden mehr
+        if(gameService.isDraining()) {
+            sendError(session, "Rematch not available - server restarting");
+            return;
+        }
         if(game != null) {
-            Player opponent = findOpponentById(game, playerId);
+            Player opponent = handle.getOpponent();
             if(opponent == null || opponent.getSession() == null || !opponent.getSession().isOpen()) {
                 log.warn("Rematch rejected - opponent disconnected");
                 sendError(session, "Opponent left");
@@ -329,7 +743,7 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
                 sendToAllPlayers(game, msg);
 
                 // Schedule rematch start after delay (give players time to see message)
-                scheduler.schedule(() -> {
+                scheduleForGame(game, () -> {
                     try {
                         startGame(game, false); // Skip countdown for rematch
                     } catch (Exception e) {
@@ -338,35 +752,48 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
                 }, REMATCH_DELAY_SECONDS, TimeUnit.SECONDS);
             }
         } else {
-            // Warte auf Gegner
-            RematchMessage msg = new RematchMessage(true, false, "Waiting for opponent...");
-            sendMessage(session, msg);
+            // Warte auf Gegner (konstanter Frame, wird nur einmal serialisiert)
+            TextMessage frame = frameEncoder.encodeCached("REMATCH_WAITING",
+                    () -> new RematchMessage(true, false, "Waiting for opponent..."));
+            sendFrame(session, frame);
         }
     }
 
     /**
      * Verarbeitet Forfeit (Spieler gibt auf)
      */
-    private void handleForfeit(WebSocketSession session) throws IOException {
-        String playerId = session.getId();
-        log.info("Player {} forfeited the game", playerId);
+    private void handleForfeit(SessionHandle handle) throws IOException {
+        WebSocketSession session = handle.getSession();
+        String playerId = handle.getPlayerId();
 
-        GameSession game = gameService.getGameByPlayerId(playerId);
+        GameSession game = handle.getGame();
         if(game == null || game.getStatus() != GameSession.GameStatus.RUNNING) {
             log.warn("Cannot forfeit - game not found or not running");
             return;
         }
 
-        Player opponent = findOpponentById(game, playerId);
-        Player forfeitingPlayer = findPlayerById(game, playerId);
+        // Battle-Raum: nur der Spieler selbst scheidet aus, das Spiel läuft weiter
+        if(game.getMode() == GameSession.GameMode.BATTLE) {
+            Player player = handle.getPlayer();
+            handle.unbind();
+            leaveBattle(game, playerId, player);
+            return;
+        }
+
+        Player forfeitingPlayer = handle.getPlayer();
+        Player opponent = handle.getOpponent();
 
         // End the game
         game.endGame();
+        events.log(GameEventLog.Event.GAME_OVER, "game", game.getGameId(), "mode", game.getMode(), "reason", "forfeit",
+                "loser", playerId, "loserScore", forfeitingPlayer != null ? forfeitingPlayer.getScore() : 0,
+                "winner", opponent != null ? opponent.getPlayerId() : null,
+                "winnerScore", opponent != null ? opponent.getScore() : 0);
 
         // Send game over to BOTH players
         try {
             // 1. Send to opponent (they win)
-            if(opponent != null && opponent.getSession() != null && opponent.getSession().isOpen()) {
+            if(isReachable(opponent)) {
                 GameOverMessage opponentMsg = new GameOverMessage(
                         opponent.getScore(),
                         0,  // Forfeiting player gets 0
@@ -375,7 +802,6 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
                         opponent.getDisplayName()
                 );
                 sendMessage(opponent.getSession(), opponentMsg);
-                log.info("FORFEIT_OPPONENT_WINS player={} youWon=true", opponent.getPlayerId());
             }
 
             // 2. Send to forfeiting player (they lose)
@@ -391,14 +817,12 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
                         opponent != null ? opponent.getDisplayName() : "Opponent"
                 );
                 sendMessage(session, forfeitMsg);
-                log.info("FORFEIT_PLAYER_LOSES player={} youWon=false yourScore={} opponentScore={}",
-                    playerId, forfeitScore, opponentScore);
             } else {
                 log.error("FORFEIT_SEND_FAILED player={} forfeitingPlayerExists={} sessionOpen={}",
                     playerId, forfeitingPlayer != null, session.isOpen());
             }
 
-            log.info("FORFEIT_COMPLETED game={}", game.getGameId());
+            spectatorHub.publish(game, opponent != null ? opponent.getDisplayName() : null);
 
         } catch (Exception e) {
             log.error("FORFEIT_ERROR game={}", game.getGameId(), e);
@@ -411,121 +835,193 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
     @Override
     public void afterConnectionClosed(WebSocketSession session, @Nullable CloseStatus status) {
 
-        String playerId = session.getId();
-        log.info("WebSocket connection closed: {} - Status: {}", playerId, status);
+        events.log(GameEventLog.Event.CONNECTION_CLOSED, "session", session.getId(),
+                "code", status != null ? status.getCode() : null);
 
-        // SECURITY: Clean up rate limiter and timeout tracker to prevent memory leak
-        rateLimiters.remove(playerId);
-        lastMessageTime.remove(playerId);
+        // SECURITY: Clean up handle (rate limiter + timeout tracker) to prevent memory leak
+        SessionHandle handle = sessionRegistry.unregister(session);
+        if(handle == null) {
+            return;
+        }
+        SessionKeepalive keepalive = handle.getKeepalive();
+        if(keepalive.getSmoothedRttNanos() >= 0) {
+            log.debug("Session {} closed - smoothed RTT {} ms", session.getId(),
+                    TimeUnit.NANOSECONDS.toMillis(keepalive.getSmoothedRttNanos()));
+        }
 
-        GameSession game = gameService.getGameByPlayerId(playerId);
-        if(game != null) {
-            Player opponent = gameService.getOpponent(game, playerId);
+        String playerId = handle.getPlayerId();
+        GameSession game = handle.getGame();
+        if(game == null) {
+            return;
+        }
 
-            // Entferne Spieler
-            gameService.removePlayer(playerId);
+        // Laufendes Spiel: Platz eine Gnadenfrist lang für eine Wiederaufnahme halten
+        ResumeSeat seat = ResumeSeat.of(session);
+        if(seat != null) {
+            boolean hold = game.getStatus() == GameSession.GameStatus.RUNNING && gameConfig.getResumeGraceSeconds() > 0;
+            long epoch = seat.onConnectionClosed(session, hold);
+            if(epoch == ResumeSeat.HANDED_OVER) {
+                // Eine neue Verbindung hat den Platz bereits übernommen
+                handle.unbind();
+                return;
+            }
+            if(epoch != ResumeSeat.RELEASED) {
+                handle.unbind();
+                scheduleResumeExpiry(game, playerId, seat, epoch);
+                log.info("Holding seat of player {} in game {} for {}s", playerId, game.getGameId(),
+                        gameConfig.getResumeGraceSeconds());
+                return;
+            }
+        }
 
-            GameSession.GameStatus gameStatus = game.getStatus();
+        Player disconnectedPlayer = handle.getPlayer();
+        handle.unbind();
 
-            // If game finished naturally and someone leaves, notify opponent (disable rematch)
-            if(gameStatus == GameSession.GameStatus.FINISHED) {
-                log.info("Game {} already finished - player {} left result screen", game.getGameId(), playerId);
+        if(game.getMode() == GameSession.GameMode.BATTLE) {
+            leaveBattle(game, playerId, disconnectedPlayer);
+        } else {
+            handleDuelDisconnect(game, playerId, disconnectedPlayer, game.getOpponent(disconnectedPlayer));
+        }
+    }
 
-                // Notify opponent that player left (disables rematch button)
-                if(opponent != null && opponent.getSession() != null && opponent.getSession().isOpen()) {
-                    try {
-                        ErrorMessage msg = new ErrorMessage("Opponent left");
-                        sendMessage(opponent.getSession(), msg);
-                        log.info("Notified opponent {} that player left result screen", opponent.getPlayerId());
-                    } catch (Exception e) {
-                        log.error("Error notifying opponent of disconnect from result screen", e);
-                    }
-                }
-                return;
-            }
+    /**
+     * Spieler hat ein Duell verlassen (Verbindung weg, ggf. nach Ablauf der Gnadenfrist)
+     */
+    private void handleDuelDisconnect(GameSession game, String playerId,
+                                      @Nullable Player disconnectedPlayer, @Nullable Player opponent) {
+        // Entferne Spieler
+        gameService.removePlayer(playerId);
+
+        // Spiel existiert nicht mehr - Zuschauer trennen
+        if(game.isEmpty()) {
+            spectatorHub.closeGame(game.getGameId());
+        }
 
-            // WICHTIG: Behandle Disconnection je nach Game Status
-            if(gameStatus == GameSession.GameStatus.RUNNING) {
-                // Check if actual gameplay occurred (at least one question answered)
-                Player disconnectedPlayer = findPlayerById(game, playerId);
+        GameSession.GameStatus gameStatus = game.getStatus();
 
-                boolean gameplayStarted = false;
-                if(disconnectedPlayer != null && opponent != null) {
-                    // Check if any player has progressed past first question
-                    gameplayStarted = disconnectedPlayer.getCurrentQuestionIndex() > 0 || opponent.getCurrentQuestionIndex() > 0;
+        // If game finished naturally and someone leaves, notify opponent (disable rematch)
+        if(gameStatus == GameSession.GameStatus.FINISHED) {
+            log.debug("Game {} already finished - player {} left result screen", game.getGameId(), playerId);
+
+            // Notify opponent that player left (disables rematch button)
+            if(isReachable(opponent)) {
+                try {
+                    ErrorMessage msg = new ErrorMessage("Opponent left");
+                    sendMessage(opponent.getSession(), msg);
+                } catch (Exception e) {
+                    log.error("Error notifying opponent of disconnect from result screen", e);
                 }
+            }
+            return;
+        }
 
-                if(gameplayStarted) {
-                    // Actual gameplay occurred - opponent wins
-                    try {
-                        game.endGame();
-                        log.info("Game {} ended because player {} disconnected during RUNNING (gameplay started)", game.getGameId(), playerId);
-
-                        // Informiere Gegner mit Game Over
-                        if(opponent != null && opponent.getSession() != null && opponent.getSession().isOpen()) {
-                            String disconnectedPlayerName = disconnectedPlayer != null ?
-                                disconnectedPlayer.getDisplayName() : "Opponent";
-                            String disconnectMsg = disconnectedPlayerName + " disconnected";
-
-                            GameOverMessage msg = new GameOverMessage(
-                                    opponent.getScore(),
-                                    0,  // Disconnected player gets 0
-                                    true,  // Opponent wins
-                                    false,  // Not a draw
-                                    opponent.getDisplayName(),
-                                    disconnectMsg
-                            );
-                            sendMessage(opponent.getSession(), msg);
-                            log.info("Game over sent to opponent {} - disconnect message: {}", opponent.getPlayerId(), disconnectMsg);
-                        }
-                    } catch (Exception e) {
-                        log.error("Error ending game", e);
-                    }
-                } else {
-                    // Game just started, no questions answered yet - opponent still wins by forfeit
-                    try {
-                        game.endGame();
-                        log.info("Game {} ended - player {} disconnected early (no questions answered)", game.getGameId(), playerId);
-
-                        // Send GAME_OVER to opponent (they win by default)
-                        if(opponent != null && opponent.getSession() != null && opponent.getSession().isOpen()) {
-                            String disconnectedPlayerName = disconnectedPlayer != null ?
-                                disconnectedPlayer.getDisplayName() : "Opponent";
-
-                            GameOverMessage msg = new GameOverMessage(
-                                    opponent.getScore(),
-                                    0,  // Disconnected player gets 0
-                                    true,  // Opponent wins
-                                    false,  // Not a draw
-                                    opponent.getDisplayName(),
-                                    disconnectedPlayerName + " disconnected"
-                            );
-                            sendMessage(opponent.getSession(), msg);
-                            log.info("Game over sent to opponent {} - early disconnect win", opponent.getPlayerId());
-                        }
-                    } catch (Exception e) {
-                        log.error("Error ending game after early disconnect", e);
+        // WICHTIG: Behandle Disconnection je nach Game Status
+        if(gameStatus == GameSession.GameStatus.RUNNING) {
+            // Check if actual gameplay occurred (at least one question answered)
+            boolean gameplayStarted = false;
+            if(disconnectedPlayer != null && opponent != null) {
+                // Check if any player has progressed past first question
+                gameplayStarted = disconnectedPlayer.getCurrentQuestionIndex() > 0 || opponent.getCurrentQuestionIndex() > 0;
+            }
+
+            if(gameplayStarted) {
+                // Actual gameplay occurred - opponent wins
+                try {
+                    game.endGame();
+                    logDisconnectGameOver(game, playerId, disconnectedPlayer, opponent, false);
+
+                    // Informiere Gegner mit Game Over
+                    if(isReachable(opponent)) {
+                        String disconnectedPlayerName = disconnectedPlayer != null ?
+                            disconnectedPlayer.getDisplayName() : "Opponent";
+                        String disconnectMsg = disconnectedPlayerName + " disconnected";
+
+                        GameOverMessage msg = new GameOverMessage(
+                                opponent.getScore(),
+                                0,  // Disconnected player gets 0
+                                true,  // Opponent wins
+                                false,  // Not a draw
+                                opponent.getDisplayName(),
+                                disconnectMsg
+                        );
+                        sendMessage(opponent.getSession(), msg);
                     }
+                } catch (Exception e) {
+                    log.error("Error ending game", e);
                 }
-            } else if(gameStatus == GameSession.GameStatus.READY || gameStatus == GameSession.GameStatus.WAITING) {
-                // Spiel noch nicht gestartet (Countdown oder Warteschlange) - Abbrechen
+            } else {
+                // Game just started, no questions answered yet - opponent still wins by forfeit
                 try {
                     game.endGame();
-                    log.info("Game {} cancelled because player {} left during {}", game.getGameId(), playerId, gameStatus);
-
-                    // Informiere Gegner dass Spiel abgebrochen wurde
-                    if(opponent != null && opponent.getSession() != null && opponent.getSession().isOpen()) {
-                        ErrorMessage msg = new ErrorMessage("Opponent left the queue");
+                    logDisconnectGameOver(game, playerId, disconnectedPlayer, opponent, true);
+
+                    // Send GAME_OVER to opponent (they win by default)
+                    if(isReachable(opponent)) {
+                        String disconnectedPlayerName = disconnectedPlayer != null ?
+                            disconnectedPlayer.getDisplayName() : "Opponent";
+
+                        GameOverMessage msg = new GameOverMessage(
+                                opponent.getScore(),
+                                0,  // Disconnected player gets 0
+                                true,  // Opponent wins
+                                false,  // Not a draw
+                                opponent.getDisplayName(),
+                                disconnectedPlayerName + " disconnected"
+                        );
                         sendMessage(opponent.getSession(), msg);
-                        log.info("Error message sent to opponent {} - game cancelled", opponent.getPlayerId());
                     }
                 } catch (Exception e) {
-                    log.error("Error cancelling game", e);
+                    log.error("Error ending game after early disconnect", e);
                 }
             }
+
+            spectatorHub.publish(game, opponent != null ? opponent.getDisplayName() : null);
+        } else if(gameStatus == GameSession.GameStatus.READY || gameStatus == GameSession.GameStatus.WAITING) {
+            // Spiel noch nicht gestartet (Countdown oder Warteschlange) - Abbrechen
+            try {
+                game.endGame();
+                events.log(GameEventLog.Event.GAME_CANCELLED, "game", game.getGameId(), "player", playerId,
+                        "status", gameStatus);
+
+                // Informiere Gegner dass Spiel abgebrochen wurde
+                if(isReachable(opponent)) {
+                    ErrorMessage msg = new ErrorMessage("Opponent left the queue");
+                    sendMessage(opponent.getSession(), msg);
+                }
+            } catch (Exception e) {
+                log.error("Error cancelling game", e);
+            }
+        }
+    }
+
+    /**
+     * Spielende durch Verbindungsabbruch - der verbliebene Spieler gewinnt
+     * @param early true wenn noch keine Frage beantwortet war
+     */
+    private void logDisconnectGameOver(GameSession game, String playerId, @Nullable Player disconnectedPlayer,
+                                       @Nullable Player opponent, boolean early) {
+        events.log(GameEventLog.Event.GAME_OVER, "game", game.getGameId(), "mode", game.getMode(), "reason", "disconnect",
+                "early", early, "loser", playerId, "loserScore", disconnectedPlayer != null ? disconnectedPlayer.getScore() : 0,
+                "winner", opponent != null ? opponent.getPlayerId() : null,
+                "winnerScore", opponent != null ? opponent.getScore() : 0);
+    }
+
+    /**
+     * Startet ein Spiel, das außerhalb eines Verbindungsaufbaus voll geworden ist (Bot-Gegner) - genau einmal
+     */
+    void launchMatchedGame(GameSession game) throws IOException {
+        if(game.getStatus() != GameSession.GameStatus.WAITING && game.tryLaunch()) {
+            startGame(game);
         }
     }
 
+    /**
+     * Spieler ohne Verbindung (Bot) verlässt sein Duell - wie ein Verbindungsabbruch
+     */
+    void leaveDuel(GameSession game, Player player) {
+        handleDuelDisconnect(game, player.getPlayerId(), player, game.getOpponent(player));
+    }
+
     /**
      * Startet das Spiel
      */
@@ -537,11 +1033,8 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
      * Startet das Spiel mit optionalem Countdown
      */
     private void startGame(GameSession game, boolean showCountdown) throws IOException {
-        Player player1 = game.getPlayer1();
-        Player player2 = game.getPlayer2();
-
         if(showCountdown) {
-            log.info("Game {} starting countdown with {} questions", game.getGameId(), game.getQuestions().size());
+            log.debug("Game {} starting countdown with {} questions", game.getGameId(), game.getQuestions().size());
 
             // Tips to show during countdown
             String[] tips = {
@@ -556,10 +1049,11 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
             // Send countdown messages asynchronously
             for(int i = COUNTDOWN_DURATION_SECONDS; i >= 1; i--) {
                 final int countdown = i;
-                scheduler.schedule(() -> {
+                scheduleForGame(game, () -> {
                     try {
-                        CountdownMessage countdownMsg = new CountdownMessage(countdown, randomTip);
-                        sendToAllPlayers(game, countdownMsg);
+                        TextMessage countdownFrame = frameEncoder.encodeCached("COUNTDOWN:" + countdown + ":" + randomTip,
+                                () -> new CountdownMessage(countdown, randomTip));
+                        sendToAllPlayers(game, countdownFrame);
                     } catch (Exception e) {
                         log.error("Error sending countdown message", e);
                     }
@@ -567,55 +1061,74 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
             }
 
             // Schedule game start after countdown finishes
-            scheduler.schedule(() -> {
+            scheduleForGame(game, () -> {
                 try {
-                    actuallyStartGame(game, player1, player2);
+                    actuallyStartGame(game);
                 } catch (Exception e) {
                     log.error("Error starting game after countdown", e);
                 }
             }, COUNTDOWN_DURATION_SECONDS, TimeUnit.SECONDS);
 
         } else {
-            log.info("Game {} starting immediately (rematch)", game.getGameId());
-            actuallyStartGame(game, player1, player2);
+            log.debug("Game {} starting immediately (rematch)", game.getGameId());
+            actuallyStartGame(game);
         }
     }
 
     /**
      * Actually starts the game (called after countdown or immediately for rematch)
      */
-    private void actuallyStartGame(GameSession game, Player player1, Player player2) {
+    private void actuallyStartGame(GameSession game) {
         try {
-            // CRITICAL: Check if both players are still connected before starting
+            // CRITICAL: Check if players are still connected before starting
             // (prevents race condition if player disconnects during countdown)
             if(game.getStatus() == GameSession.GameStatus.FINISHED) {
-                log.info("Game {} already finished - not starting", game.getGameId());
+                log.debug("Game {} already finished - not starting", game.getGameId());
                 return;
             }
 
-            boolean player1Connected = player1 != null && player1.getSession() != null && player1.getSession().isOpen();
-            boolean player2Connected = player2 != null && player2.getSession() != null && player2.getSession().isOpen();
+            List<Player> players = game.getPlayers();
+            long connected = players.stream().filter(this::isConnected).count();
 
-            if(!player1Connected || !player2Connected) {
-                log.warn("Game {} cannot start - player disconnected during countdown (p1={}, p2={})",
-                        game.getGameId(), player1Connected, player2Connected);
+            // Duell braucht beide Spieler, ein Battle-Raum mindestens einen
+            boolean canStart = game.getMode() == GameSession.GameMode.BATTLE
+                    ? connected > 0
+                    : connected == GameSession.DUEL_CAPACITY;
+            if(!canStart) {
+                log.warn("Game {} cannot start - player disconnected during countdown ({}/{} connected)",
+                        game.getGameId(), connected, players.size());
                 return;
             }
 
             // NOW start the game (status changes to RUNNING)
             game.startGame();
-            log.info("Game {} officially started", game.getGameId());
+            log.debug("Game {} officially started", game.getGameId());
 
-            // Reset last message time for both players since countdown doesn't send messages
-            lastMessageTime.put(player1.getPlayerId(), Instant.now());
-            lastMessageTime.put(player2.getPlayerId(), Instant.now());
+            // Reset last message time for all players since countdown doesn't send messages
+            for(Player player : players) {
+                markAlive(player);
+            }
+
+            // Wiederaufnahme-Token vor der ersten Frage (ab hier wird jeder Frame nummeriert)
+            issueResumeSeats(game, players);
 
             // Send FULL duration to clients (not remaining seconds which would be less due to countdown delay)
             long fullDuration = game.getDurationSeconds();
 
-            // Sende erste Frage an beide Spieler mit gleicher Zeit
-            sendNextQuestion(player1, game, fullDuration);
-            sendNextQuestion(player2, game, fullDuration);
+            if(game.getMode() == GameSession.GameMode.BATTLE) {
+                // Alle haben dieselbe erste Frage - ein Frame für den ganzen Raum
+                Question first = game.getQuestions().isEmpty() ? null : game.getQuestions().get(0);
+                if(first != null) {
+                    sendToAllPlayers(game, new QuestionMessage(first.getQuestionText(), 1, fullDuration));
+                }
+                queueLeaderboardFlush(game);
+            } else {
+                // Sende erste Frage an beide Spieler mit gleicher Zeit
+                for(Player player : players) {
+                    sendNextQuestion(player, game, fullDuration);
+                }
+                spectatorHub.publish(game);
+            }
 
             // Starte Timer
             startGameTimer(game);
@@ -627,18 +1140,11 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
         }
     }
 
-    /**
-     * Sendet nächste Frage an Spieler
-     */
-    private void sendNextQuestion(Player player, GameSession game) throws IOException {
-        sendNextQuestion(player, game, game.getRemainingSeconds());
-    }
-
     /**
      * Sendet nächste Frage an Spieler mit spezifischer verbleibender Zeit
      */
     private void sendNextQuestion(Player player, GameSession game, long remainingSeconds) throws IOException {
-        if(player == null || player.getSession() == null || !player.getSession().isOpen()) {
+        if(!isReachable(player)) {
             log.warn("Cannot send question - player session is null or closed");
             return;
         }
@@ -664,7 +1170,7 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
      * Sendet Score Update
      */
     private void sendScoreUpdate(Player player, Player opponent, Boolean correct) throws IOException {
-        if(player == null || player.getSession() == null || !player.getSession().isOpen()) {
+        if(!isReachable(player)) {
             return;
         }
 
@@ -679,13 +1185,332 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
         sendMessage(player.getSession(), msg);
     }
 
+    /**
+     * Merkt ein Score Update für den Spieler vor und plant einen Flush für das Spiel
+     * Mehrere Antworten innerhalb des Intervalls führen zu nur einer Nachricht mit dem neuesten Stand
+     */
+    private void queueScoreUpdate(GameSession game, Player player, Player opponent) throws IOException {
+        long flushIntervalMs = gameConfig.getScoreFlushIntervalMs();
+        if(flushIntervalMs <= 0) {
+            sendScoreUpdate(player, opponent, false);
+            return;
+        }
+
+        player.markScoreUpdatePending();
+
+        if(game.tryScheduleScoreFlush()) {
+            scheduleForGame(game, () -> {
+                try {
+                    flushScoreUpdates(game);
+                } catch (Exception e) {
+                    log.error("Error flushing score updates for game {}", game.getGameId(), e);
+                }
+            }, flushIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Sendet alle vorgemerkten Score Updates eines Spiels mit dem aktuellen Stand
+     * Nach Spielende entfällt der Flush - GAME_OVER enthält bereits die finalen Punktestände
+     */
+    private void flushScoreUpdates(GameSession game) throws IOException {
+        // Erst freigeben, dann senden - Antworten während des Sendens planen einen neuen Flush
+        game.clearScoreFlushScheduled();
+
+        boolean running = game.getStatus() == GameSession.GameStatus.RUNNING;
+
+        for(Player player : game.getPlayers()) {
+            if(player.takeScoreUpdatePending() && running) {
+                sendScoreUpdate(player, game.getOpponent(player), false);
+            }
+        }
+    }
+
+    // ==================== BATTLE ====================
+
+    /**
+     * Query-Parameter der Verbindung (/game?mode=battle, /game?resume=...&seq=...)
+     */
+    private MultiValueMap<String, String> queryParams(WebSocketSession session) {
+        URI uri = session.getUri();
+        if(uri == null) {
+            return new LinkedMultiValueMap<>();
+        }
+        return UriComponentsBuilder.fromUri(uri).build().getQueryParams();
+    }
+
+    /**
+     * Startet den Raum nach Ablauf der Lobby-Wartezeit mit den anwesenden Spielern
+     */
+    private void scheduleBattleLobbyTimeout(GameSession room) {
+        scheduleForGame(room, () -> {
+            try {
+                if(gameService.expireBattleLobby(room) && room.tryLaunch()) {
+                    startGame(room);
+                }
+            } catch (Exception e) {
+                log.error("Error starting battle room {}", room.getGameId(), e);
+            }
+        }, gameConfig.getBattleLobbyWaitSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Antwort-Ergebnis im Battle-Raum: eigener Platz und Bestwert statt Gegner-Punkte
+     * Rang und Bestwert kommen aus der Rangliste - O(log n) statt Sortieren des Raums
+     */
+    private void sendBattleAnswerResult(Player player, boolean correct, GameSession game,
+                                        @Nullable Question nextQuestion) throws IOException {
+        if(!isReachable(player)) {
+            return;
+        }
+
+        Standings standings = game.getStandings();
+
+        AnswerResultMessage msg;
+        if(nextQuestion != null) {
+            msg = new AnswerResultMessage(
+                    correct,
+                    player.getScore(),
+                    0,
+                    nextQuestion.getQuestionText(),
+                    player.getCurrentQuestionIndex() + 1,
+                    game.getRemainingSeconds()
+            );
+        } else {
+            msg = new AnswerResultMessage(correct, player.getScore(), 0);
+        }
+        msg.setYourRank(standings.rankOf(player));
+        msg.setTopScore(standings.topScore());
+
+        sendMessage(player.getSession(), msg);
+    }
+
+    /**
+     * Plant einen Ranglisten-Flush für den Raum (max. einer pro Intervall)
+     */
+    private void queueLeaderboardFlush(GameSession game) {
+        if(game.tryScheduleScoreFlush()) {
+            scheduleForGame(game, () -> {
+                try {
+                    flushLeaderboard(game);
+                } catch (Exception e) {
+                    log.error("Error flushing leaderboard for game {}", game.getGameId(), e);
+                }
+            }, gameConfig.getBattleLeaderboardIntervalMs(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Sendet die geänderten Zeilen der Top-Liste an den ganzen Raum (ein Frame für alle)
+     */
+    private void flushLeaderboard(GameSession game) throws IOException {
+        game.clearScoreFlushScheduled();
+
+        Standings.TopDelta delta = game.getStandings().publishTop(gameConfig.getBattleLeaderboardSize());
+        if(delta == null) {
+            return;
+        }
+
+        List<LeaderboardEntry> changed = new ArrayList<>(delta.changed().size());
+        for(Standings.Row row : delta.changed()) {
+            changed.add(new LeaderboardEntry(row.position(), row.rank(), row.player().getDisplayName(), row.score()));
+        }
+
+        sendToAllPlayers(game, new LeaderboardMessage(changed, delta.size(), delta.totalPlayers()));
+    }
+
+    /**
+     * Spieler verlässt den Battle-Raum (Aufgeben oder Verbindungsabbruch)
+     * Das Spiel läuft für alle anderen weiter
+     */
+    private void leaveBattle(GameSession game, String playerId, @Nullable Player player) {
+        GameSession.GameStatus status = game.getStatus();
+
+        // Aufgeben: Spieler bekommt noch seinen Endstand
+        if(status == GameSession.GameStatus.RUNNING && isConnected(player)) {
+            try {
+                Player leader = game.getStandings().leader();
+                sendMessage(player.getSession(), new GameOverMessage(
+                        player.getScore(),
+                        game.getStandings().topScore(),
+                        false,
+                        false,
+                        leader != null ? leader.getDisplayName() : null
+                ));
+            } catch (Exception e) {
+                log.debug("Error sending GameOver to leaving player {}", playerId, e);
+            }
+        }
+
+        gameService.removePlayer(playerId);
+
+        if(status == GameSession.GameStatus.RUNNING) {
+            if(game.isEmpty()) {
+                game.endGame();
+                events.log(GameEventLog.Event.GAME_OVER, "game", game.getGameId(), "mode", game.getMode(),
+                        "reason", "abandoned", "players", 0);
+            } else {
+                queueLeaderboardFlush(game);
+            }
+        }
+    }
+
+    /**
+     * Sendet Antwort-Ergebnis, beide Punktestände und die nächste Frage in einer Nachricht
+     * @param nextQuestion nächste Frage oder null wenn keine weitere Frage folgt
+     */
+    private void sendAnswerResult(Player player, Player opponent, boolean correct,
+                                  GameSession game, @Nullable Question nextQuestion) throws IOException {
+        if(!isReachable(player)) {
+            return;
+        }
+
+        int opponentScore = (opponent != null) ? opponent.getScore() : 0;
+
+        AnswerResultMessage msg;
+        if(nextQuestion != null) {
+            msg = new AnswerResultMessage(
+                    correct,
+                    player.getScore(),
+                    opponentScore,
+                    nextQuestion.getQuestionText(),
+                    player.getCurrentQuestionIndex() + 1,
+                    game.getRemainingSeconds()
+            );
+        } else {
+            msg = new AnswerResultMessage(correct, player.getScore(), opponentScore);
+        }
+
+        sendMessage(player.getSession(), msg);
+    }
+
+    // ==================== RESUME ====================
+
+    /**
+     * Gibt jedem verbundenen Spieler einen Platz mit Replay-Puffer und schickt ihm sein Token
+     */
+    private void issueResumeSeats(GameSession game, List<Player> players) {
+        long graceSeconds = gameConfig.getResumeGraceSeconds();
+        if(graceSeconds <= 0) {
+            return;
+        }
+
+        long validSeconds = game.getDurationSeconds() + graceSeconds;
+        for(Player player : players) {
+            if(!isConnected(player) || LocalSession.isLocal(player.getSession())) {
+                continue;
+            }
+            ResumeSeat seat = new ResumeSeat(player, player.getSession(), gameConfig.getResumeReplayBufferSize());
+            String token = resumeTokens.issue(player.getPlayerId(), game.getGameId(), seat.getId(), validSeconds);
+            try {
+                // Vor attach() senden - das Token selbst zählt nicht zur Nummerierung
+                sendMessage(player.getSession(), new SessionMessage(token, graceSeconds));
+            } catch (IOException e) {
+                log.debug("Failed to send resume token to player {}: {}", player.getPlayerId(), e.getMessage());
+            }
+            seat.attach();
+        }
+    }
+
+    /**
+     * Gibt den gehaltenen Platz nach der Gnadenfrist auf - wie ein normaler Verbindungsabbruch
+     */
+    private void scheduleResumeExpiry(GameSession game, String playerId, ResumeSeat seat, long epoch) {
+        scheduleForGame(game, () -> {
+            try {
+                if(!seat.expire(epoch) || gameService.getGameByPlayerId(playerId) != game) {
+                    return;
+                }
+                log.info("Player {} did not resume game {} in time", playerId, game.getGameId());
+
+                Player player = seat.getPlayer();
+                if(game.getMode() == GameSession.GameMode.BATTLE) {
+                    leaveBattle(game, playerId, player);
+                } else {
+                    handleDuelDisconnect(game, playerId, player, game.getOpponent(player));
+                }
+            } catch (Exception e) {
+                log.error("Error releasing seat of player {}", playerId, e);
+            }
+        }, gameConfig.getResumeGraceSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Neue Verbindung übernimmt einen gehaltenen (oder noch halb offenen) Platz
+     * und bekommt alle Frames nach seq nachgeliefert
+     */
+    private void resumeSession(SessionHandle handle, String token, @Nullable String seqParam) throws IOException {
+        WebSocketSession session = handle.getSession();
+        ResumeTokenService.ResumeClaims claims = resumeTokens.verify(token);
+        long clientSeq = parseSeq(seqParam);
+
+        GameSession game = (claims != null) ? gameService.getGameByPlayerId(claims.playerId()) : null;
+        Player player = (game != null && game.getGameId().equals(claims.gameId()))
+                ? game.getPlayer(claims.playerId()) : null;
+        WebSocketSession previous = (player != null) ? player.getSession() : null;
+        ResumeSeat seat = ResumeSeat.of(previous);
+
+        if(seat == null || seat.getId() != claims.seatId() || clientSeq < 0) {
+            rejectResume(session);
+            return;
+        }
+
+        handle.bind(game, player);
+        if(!seat.resume(session, clientSeq, frameEncoder.encode(new ResumedMessage(clientSeq)))) {
+            handle.unbind();
+            rejectResume(session);
+            return;
+        }
+        log.info("Player {} resumed game {} on session {} (from seq {})",
+                claims.playerId(), game.getGameId(), session.getId(), clientSeq);
+
+        // Halb offene alte Verbindung schließen (ihr afterConnectionClosed sieht den Platz als übergeben)
+        if(previous != session && previous.isOpen()) {
+            try {
+                previous.close(CloseStatus.NORMAL);
+            } catch (Exception e) {
+                log.debug("Error closing superseded session {}", previous.getId(), e);
+            }
+        }
+    }
+
+    private void rejectResume(WebSocketSession session) throws IOException {
+        log.info("Resume rejected for session {}", session.getId());
+        sendError(session, "Resume failed");
+        session.close(CloseStatus.NORMAL);
+    }
+
+    private long parseSeq(@Nullable String seqParam) {
+        if(seqParam == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(seqParam);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Plant eine verzögerte Aufgabe für ein Spiel (ausgeführt über gameTasks)
+     * Entfällt, wenn das GameSession-Objekt bis dahin recycelt wurde (anderes Match im selben Objekt)
+     */
+    void scheduleForGame(GameSession game, Runnable task, long delay, TimeUnit unit) {
+        long generation = game.getGeneration();
+        scheduler.schedule(() -> gameTasks.execute(() -> {
+            if(game.getGeneration() == generation) {
+                task.run();
+            }
+        }), delay, unit);
+    }
+
     /**
      * Startet Game Timer
      */
     private void startGameTimer(GameSession game) {
-        scheduler.schedule(() -> {
+        scheduleForGame(game, () -> {
             try {
-                endGame(game);
+                endGame(game, "time");
             } catch (Exception e) {
                 log.error("Error ending game", e);
             }
@@ -694,50 +1519,67 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
 
     /**
      * Beendet das Spiel
+     * @param reason Anlass für das Ereignis-Log ("time", "win-score")
      */
-    private void endGame(GameSession game) throws IOException {
+    private void endGame(GameSession game, String reason) throws IOException {
         game.endGame();
 
+        String winnerName = game.determineWinner();
+        boolean isDraw = game.isDraw();
+
+        if(game.getMode() == GameSession.GameMode.BATTLE) {
+            events.log(GameEventLog.Event.GAME_OVER, "game", game.getGameId(), "mode", game.getMode(), "reason", reason,
+                    "players", game.getPlayerCount(), "winner", winnerName, "winnerScore", game.getStandings().topScore());
+
+            // Endstand der Rangliste vor GAME_OVER, damit der Client ihn noch anzeigt
+            flushLeaderboard(game);
+            for(Player player : game.getPlayers()) {
+                sendGameOver(player, game, winnerName, false);
+            }
+            return;
+        }
+
         Player player1 = game.getPlayer1();
         Player player2 = game.getPlayer2();
 
         int score1 = (player1 != null) ? player1.getScore() : 0;
         int score2 = (player2 != null) ? player2.getScore() : 0;
 
-        String winnerName = game.determineWinner();
-        boolean isDraw = game.isDraw();
+        events.log(GameEventLog.Event.GAME_OVER, "game", game.getGameId(), "mode", game.getMode(), "reason", reason,
+                "player1", player1 != null ? player1.getPlayerId() : null, "score1", score1,
+                "player2", player2 != null ? player2.getPlayerId() : null, "score2", score2,
+                "winner", winnerName, "draw", isDraw);
 
-        log.info("Game {} ended. Scores: {}={}, {}={}, Winner: {}, IsDraw: {}",
-                game.getGameId(),
-                (player1 != null ? player1.getDisplayName() : "null"), score1,
-                (player2 != null ? player2.getDisplayName() : "null"), score2,
-                winnerName, isDraw);
+        spectatorHub.publish(game, winnerName);
 
-        // Sende Game Over an beide Spieler
-        if(player1 != null) {
-            sendGameOver(player1, player2, winnerName, isDraw);
+        // Bei Unentschieden ist die Nachricht für beide identisch - nur einmal serialisieren
+        if(isDraw) {
+            sendToAllPlayers(game, new GameOverMessage(score1, score2, false, true, winnerName));
+            return;
         }
 
-        if(player2 != null) {
-            sendGameOver(player2, player1, winnerName, isDraw);
+        // Sende Game Over an alle Spieler
+        for(Player player : game.getPlayers()) {
+            sendGameOver(player, game, winnerName, isDraw);
         }
     }
 
     /**
      * Sendet Game Over an einen Spieler
      */
-    private void sendGameOver(Player player, Player opponent, String winnerName, boolean isDraw) throws IOException {
-        if(player == null || player.getSession() == null || !player.getSession().isOpen()) {
+    private void sendGameOver(Player player, GameSession game, String winnerName, boolean isDraw) throws IOException {
+        if(!isReachable(player)) {
             return;
         }
 
+        // Duell: Punkte des Gegners, Battle: Punkte des Siegers
+        Player opponent = game.getOpponent(player);
         int playerScore = player.getScore();
-        int opponentScore = (opponent != null) ? opponent.getScore() : 0;
+        int opponentScore = game.getMode() == GameSession.GameMode.BATTLE
+                ? game.getStandings().topScore()
+                : (opponent != null) ? opponent.getScore() : 0;
         boolean youWon = !isDraw && player.getDisplayName().equals(winnerName);
 
-        log.info("Sending GameOver to {}: yourScore={}, opponentScore={}, youWon={}, isDraw={}, winnerName={}",
-                player.getDisplayName(), playerScore, opponentScore, youWon, isDraw, winnerName);
-
         GameOverMessage msg = new GameOverMessage(
                 playerScore,
                 opponentScore,
@@ -750,44 +1592,59 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
     }
 
     /**
-     * Finds player by ID in a game session
+     * Setzt das Lebenszeichen einer Verbindung auf jetzt
      */
-    @Nullable
-    private Player findPlayerById(GameSession game, String playerId) {
-        if(game.getPlayer1() != null && game.getPlayer1().getPlayerId().equals(playerId)) {
-            return game.getPlayer1();
-        } else if(game.getPlayer2() != null && game.getPlayer2().getPlayerId().equals(playerId)) {
-            return game.getPlayer2();
+    private void markAlive(Player player) {
+        SessionHandle handle = (player.getSession() != null) ? sessionRegistry.get(player.getSession()) : null;
+        if(handle != null) {
+            handle.getKeepalive().markAlive(System.nanoTime());
         }
-        return null;
     }
 
     /**
-     * Finds opponent by player ID in a game session
+     * Sendet Nachricht an alle Spieler (wird nur einmal serialisiert)
      */
-    @Nullable
-    private Player findOpponentById(GameSession game, String playerId) {
-        if(game.getPlayer1() != null && game.getPlayer1().getPlayerId().equals(playerId)) {
-            return game.getPlayer2();
-        } else if(game.getPlayer2() != null && game.getPlayer2().getPlayerId().equals(playerId)) {
-            return game.getPlayer1();
-        }
-        return null;
+    private void sendToAllPlayers(GameSession game, BaseMessage message) throws IOException {
+        sendToAllPlayers(game, frameEncoder.encode(message));
     }
 
     /**
-     * Sendet Nachricht an alle Spieler
+     * Sendet einen fertigen Frame an alle Spieler
      */
-    private void sendToAllPlayers(GameSession game, BaseMessage message) throws IOException {
-        Player player1 = game.getPlayer1();
-        Player player2 = game.getPlayer2();
+    private void sendToAllPlayers(GameSession game, TextMessage frame) throws IOException {
+        IOException failure = null;
+        for(Player player : game.getPlayers()) {
+            if(isReachable(player)) {
+                try {
+                    sendFrame(player.getSession(), frame);
+                } catch (IOException e) {
+                    // Ein abgebrochener Empfänger darf den Rest des Raums nicht aufhalten
+                    failure = (failure == null) ? e : failure;
+                }
+            }
+        }
+        if(failure != null) {
+            throw failure;
+        }
+    }
+
+    private boolean isConnected(Player player) {
+        return player != null && player.getSession() != null && player.getSession().isOpen();
+    }
 
-        if(player1 != null && player1.getSession() != null && player1.getSession().isOpen()) {
-            sendMessage(player1.getSession(), message);
+    /**
+     * Verbindung offen oder Platz für eine Wiederaufnahme noch nicht aufgegeben
+     * (Frames an getrennte Spieler landen im Replay-Puffer)
+     */
+    private boolean isReachable(@Nullable Player player) {
+        if(player == null || player.getSession() == null) {
+            return false;
         }
-        if(player2 != null && player2.getSession() != null && player2.getSession().isOpen()) {
-            sendMessage(player2.getSession(), message);
+        if(player.getSession().isOpen()) {
+            return true;
         }
+        ResumeSeat seat = ResumeSeat.of(player.getSession());
+        return seat != null && seat.isResumable();
     }
 
     /**
@@ -802,10 +1659,46 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
      * Sendet Nachricht an Client
      */
     private void sendMessage(WebSocketSession session, BaseMessage message) throws IOException {
+        if(session != null && (session.isOpen() || ResumeSeat.of(session) != null)) {
+            sendFrame(session, frameEncoder.encode(message));
+        }
+    }
+
+    /**
+     * Sendet einen fertig serialisierten Frame an Client
+     * Frames sind unveränderlich und können an mehrere Sessions gesendet werden
+     * Einziger Sendeweg auch für andere Komponenten (LobbyPresence) - Sendesperre und Admission-Zählung
+     */
+    void sendFrame(WebSocketSession session, TextMessage frame) throws IOException {
+        admission.sendStarted();
+        try {
+            writeFrame(session, frame);
+        } finally {
+            admission.sendFinished();
+        }
+    }
+
+    private void writeFrame(WebSocketSession session, TextMessage frame) throws IOException {
+        // Spieler mit Platz: nummerieren, puffern und an die aktuelle Verbindung des Platzes senden
+        ResumeSeat seat = ResumeSeat.of(session);
+        if(seat != null) {
+            try {
+                seat.deliver(frame);
+            } catch (IOException e) {
+                log.warn("Failed to send message to session {}: {}", session.getId(), e.getMessage());
+                throw e;
+            }
+            return;
+        }
+
         if(session != null && session.isOpen()) {
             try {
-                String json = objectMapper.writeValueAsString(message);
-                session.sendMessage(new TextMessage(json));
+                SessionHandle handle = sessionRegistry.get(session);
+                if(handle != null) {
+                    handle.send(frame);
+                } else {
+                    session.sendMessage(frame);
+                }
             } catch (IOException e) {
                 // Session closed between isOpen() check and send - log and ignore
                 log.warn("Failed to send message to session {}: {}", session.getId(), e.getMessage());
@@ -0,0 +1,190 @@
+package com.warduel.warduel.websocket;
+
+import com.warduel.warduel.config.GameConfiguration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HandshakeGate - Schlanker Handshake für /game und /spectate ohne HttpSession
+ *
+ * Übernimmt nur die Attribute, die das Spiel braucht (Wiederaufnahme-Token,
+ * Protokollversion, Client-IP) und lehnt Verbindungsstürme pro IP schon im
+ * HTTP-Upgrade ab - bevor Session-Handle, Keepalive oder Spielzustand angelegt werden.
+ *
+ * Der Flood-Filter zählt Handshakes pro IP in einem festen Fenster. Abgelaufene
+ * Einträge werden höchstens einmal pro Fenster beim nächsten Handshake entfernt.
+ */
+@Component
+@Slf4j
+public class HandshakeGate implements HandshakeInterceptor {
+
+    // Attribut-Namen an der WebSocketSession
+    static final String CLIENT_IP_ATTRIBUTE = "warduel.ip";
+    static final String RESUME_TOKEN_ATTRIBUTE = "warduel.resume";
+    static final String PROTOCOL_ATTRIBUTE = "warduel.protocol";
+
+    // Query-Parameter: /game?v=1&resume=TOKEN
+    private static final String PROTOCOL_PARAM = "v";
+    private static final String RESUME_PARAM = "resume";
+    private static final int DEFAULT_PROTOCOL_VERSION = 1;
+
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    /**
+     * Handshakes einer IP im aktuellen Fenster (Fensterstart in System.nanoTime())
+     */
+    private static final class IpWindow {
+        private long windowStart;
+        private int count;
+
+        private IpWindow(long windowStart) {
+            this.windowStart = windowStart;
+        }
+    }
+
+    private final GameConfiguration gameConfig;
+    private final Map<String, IpWindow> windows = new ConcurrentHashMap<>();
+    private final Counter rejected;
+
+    private volatile long lastPurge = System.nanoTime();
+
+    public HandshakeGate(GameConfiguration gameConfig, MeterRegistry meterRegistry) {
+        this.gameConfig = gameConfig;
+        this.rejected = Counter.builder("warduel.handshake.rejected")
+                .description("WebSocket handshakes refused by the per-IP flood filter")
+                .register(meterRegistry);
+        meterRegistry.gauge("warduel.handshake.tracked.ips", windows, Map::size);
+    }
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String clientIp = clientIp(request);
+        long now = System.nanoTime();
+
+        if(!allow(clientIp, now)) {
+            rejected.increment();
+            log.debug("Handshake flood from {} - rejected", clientIp);
+            response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            response.getHeaders().set(RETRY_AFTER_HEADER,
+                    String.valueOf(Math.max(1, gameConfig.getHandshakeWindowMs() / 1000)));
+            return false;
+        }
+
+        MultiValueMap<String, String> params = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams();
+        attributes.put(CLIENT_IP_ATTRIBUTE, clientIp);
+        attributes.put(PROTOCOL_ATTRIBUTE, parseProtocol(params.getFirst(PROTOCOL_PARAM)));
+        String resumeToken = params.getFirst(RESUME_PARAM);
+        if(resumeToken != null) {
+            attributes.put(RESUME_TOKEN_ATTRIBUTE, resumeToken);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, @Nullable Exception exception) {
+        // Nichts zu tun
+    }
+
+    /**
+     * Wiederaufnahme-Token aus dem Handshake (null bei normalem Matchmaking)
+     */
+    @Nullable
+    static String resumeToken(Map<String, Object> attributes) {
+        return (String) attributes.get(RESUME_TOKEN_ATTRIBUTE);
+    }
+
+    /**
+     * Client-IP aus dem Handshake ("unknown" wenn die Verbindung nicht durch das Gate kam)
+     */
+    static String clientIp(Map<String, Object> attributes) {
+        Object ip = attributes.get(CLIENT_IP_ATTRIBUTE);
+        return (ip != null) ? ip.toString() : "unknown";
+    }
+
+    /**
+     * Zählt einen Handshake und prüft das Limit der IP
+     */
+    private boolean allow(String clientIp, long now) {
+        long windowNanos = gameConfig.getHandshakeWindowMs() * 1_000_000L;
+        purgeExpired(now, windowNanos);
+
+        IpWindow window = windows.computeIfAbsent(clientIp, ip -> new IpWindow(now));
+        synchronized(window) {
+            if(now - window.windowStart >= windowNanos) {
+                window.windowStart = now;
+                window.count = 0;
+            }
+            return ++window.count <= gameConfig.getHandshakeMaxPerIp();
+        }
+    }
+
+    /**
+     * Entfernt Einträge abgelaufener Fenster (höchstens einmal pro Fenster)
+     */
+    private void purgeExpired(long now, long windowNanos) {
+        long last = lastPurge;
+        if(now - last < windowNanos) {
+            return;
+        }
+        lastPurge = now;
+        windows.values().removeIf(window -> {
+            synchronized(window) {
+                return now - window.windowStart >= windowNanos;
+            }
+        });
+    }
+
+    /**
+     * Client-IP: hinter dem Proxy der letzte X-Forwarded-For-Eintrag (vom Proxy selbst angehängt,
+     * vom Client nicht fälschbar), sonst die Gegenstelle der TCP-Verbindung
+     */
+    private String clientIp(ServerHttpRequest request) {
+        if(gameConfig.isHandshakeTrustForwardedFor()) {
+            List<String> forwarded = request.getHeaders().get(FORWARDED_FOR_HEADER);
+            if(forwarded != null && !forwarded.isEmpty()) {
+                String header = forwarded.get(forwarded.size() - 1);
+                String last = header.substring(header.lastIndexOf(',') + 1).trim();
+                if(!last.isEmpty()) {
+                    return last;
+                }
+            }
+        }
+
+        InetSocketAddress remote = request.getRemoteAddress();
+        if(remote == null) {
+            return "unknown";
+        }
+        return remote.getAddress() != null ? remote.getAddress().getHostAddress() : remote.getHostString();
+    }
+
+    private int parseProtocol(@Nullable String value) {
+        if(value == null) {
+            return DEFAULT_PROTOCOL_VERSION;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return DEFAULT_PROTOCOL_VERSION;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.warduel.warduel.websocket;
+
+import com.warduel.warduel.config.GameConfiguration;
+import com.warduel.warduel.dto.LobbyStatsMessage;
+import com.warduel.warduel.model.GameSession;
+import com.warduel.warduel.model.GameSession.GameMode;
+import com.warduel.warduel.model.GameSession.GameStatus;
+import com.warduel.warduel.model.Player;
+import com.warduel.warduel.service.GameService;
+import com.warduel.warduel.service.PresenceCounters;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LobbyPresence - "N players online, M games in progress, estimated wait X s" für wartende Spieler
+ *
+ * Liest alle lobbyPresenceIntervalMs die PresenceCounters (eine Summe pro Zähler), serialisiert
+ * pro Modus einen LobbyStatsMessage-Frame und sendet ihn an die Spieler des wartenden Duells
+ * bzw. des offenen Battle-Raums. Laufende Spiele, Zuschauer und Spieler mit ?presence=off
+ * bekommen nichts. Der Aufwand pro Intervall hängt damit nicht von der Zahl der Spieler
+ * auf dem Knoten ab - nur von der Zahl der Wartenden, und die ist durch Duell (1) und
+ * Raumgröße begrenzt.
+ *
+ * Gesendet wird über GameWebSocketHandler.sendFrame - dieselbe Sendesperre pro Verbindung
+ * und Admission-Zählung wie alle anderen Frames an den Spieler.
+ *
+ * Geschätzte Wartezeit aus der geglätteten Ankunftsrate (Beitritte pro Sekunde):
+ *  - Duell: Zeit bis zum nächsten Beitritt, höchstens botJoinAfterSeconds wenn Bots aktiv sind
+ *  - Battle: Zeit bis die Mindestanzahl erreicht ist, frühestens das Ende der Lobby-Wartezeit
+ */
+@Component
+@Slf4j
+public class LobbyPresence {
+
+    // Gewicht des neuesten Intervalls in der geglätteten Ankunftsrate
+    private static final double RATE_SMOOTHING = 0.3;
+    private static final long UNKNOWN_WAIT = -1;
+    private static final int EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final GameService gameService;
+    private final PresenceCounters presence;
+    private final SessionRegistry sessionRegistry;
+    private final OutboundFrameEncoder frameEncoder;
+    private final GameWebSocketHandler handler;
+    private final GameConfiguration gameConfig;
+
+    // Eigener Thread für das Sampling (nicht der Scheduler der Spiele)
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+
+    // Nur vom Sampler-Thread benutzt
+    private final Map<GameMode, Long> lastJoins = new EnumMap<>(GameMode.class);
+    private final Map<GameMode, Double> joinRates = new EnumMap<>(GameMode.class);
+    private long lastSampleNanos;
+
+    public LobbyPresence(GameService gameService, PresenceCounters presence, SessionRegistry sessionRegistry,
+                         OutboundFrameEncoder frameEncoder, GameWebSocketHandler handler, GameConfiguration gameConfig) {
+        this.gameService = gameService;
+        this.presence = presence;
+        this.sessionRegistry = sessionRegistry;
+        this.frameEncoder = frameEncoder;
+        this.handler = handler;
+        this.gameConfig = gameConfig;
+    }
+
+    @PostConstruct
+    public void start() {
+        if(!gameConfig.isLobbyPresenceEnabled()) {
+            return;
+        }
+        for(GameMode mode : GameMode.values()) {
+            lastJoins.put(mode, presence.getJoins(mode));
+            joinRates.put(mode, 0.0);
+        }
+        lastSampleNanos = System.nanoTime();
+
+        long interval = gameConfig.getLobbyPresenceIntervalMs();
+        sampler.scheduleAtFixedRate(() -> {
+            try {
+                sample();
+            } catch (Exception e) {
+                log.error("Error in lobby presence sample", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void cleanup() {
+        sampler.shutdown();
+        try {
+            if(!sampler.awaitTermination(EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                sampler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            sampler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Ein Intervall: Zähler lesen, Ankunftsraten glätten, einen Frame pro wartendem Spiel senden
+     */
+    private void sample() throws IOException {
+        long now = System.nanoTime();
+        double elapsedSeconds = Math.max((now - lastSampleNanos) / 1_000_000_000.0, 0.001);
+        lastSampleNanos = now;
+
+        for(GameMode mode : GameMode.values()) {
+            long joins = presence.getJoins(mode);
+            double rate = (joins - lastJoins.get(mode)) / elapsedSeconds;
+            lastJoins.put(mode, joins);
+            joinRates.put(mode, RATE_SMOOTHING * rate + (1 - RATE_SMOOTHING) * joinRates.get(mode));
+        }
+
+        List<GameSession> waitingGames = gameService.getWaitingGames();
+        if(waitingGames.isEmpty()) {
+            return;
+        }
+
+        long playersOnline = presence.getPlayersOnline();
+        long gamesInProgress = presence.getGamesInProgress();
+        for(GameSession game : waitingGames) {
+            TextMessage frame = frameEncoder.encode(
+                    new LobbyStatsMessage(playersOnline, gamesInProgress, estimateWaitSeconds(game, now)));
+            pushToWaitingPlayers(game, frame);
+        }
+    }
+
+    private long estimateWaitSeconds(GameSession game, long now) {
+        double rate = joinRates.get(game.getMode());
+
+        if(game.getMode() == GameMode.DUEL) {
+            long botBound = gameConfig.isBotEnabled()
+                    ? Math.max(gameConfig.getBotJoinAfterSeconds() - game.getSecondsInStatus(now), 0)
+                    : Long.MAX_VALUE;
+            long arrival = rate > 0 ? Math.round(1 / rate) : Long.MAX_VALUE;
+            long estimate = Math.min(arrival, botBound);
+            return estimate == Long.MAX_VALUE ? UNKNOWN_WAIT : estimate;
+        }
+
+        long lobbyLeft = game.isLobbyExpired() ? 0
+                : Math.max(gameConfig.getBattleLobbyWaitSeconds() - game.getSecondsInStatus(now), 0);
+        int missing = Math.max(gameConfig.getBattleMinPlayers() - game.getPlayerCount(), 0);
+        if(missing == 0) {
+            return lobbyLeft;
+        }
+        return rate > 0 ? Math.max(lobbyLeft, Math.round(missing / rate)) : UNKNOWN_WAIT;
+    }
+
+    private void pushToWaitingPlayers(GameSession game, TextMessage frame) {
+        for(Player player : game.getPlayers()) {
+            // Spiel hat inzwischen gestartet - ab jetzt sendet nur noch der Handler
+            if(game.getStatus() != GameStatus.WAITING) {
+                return;
+            }
+
+            WebSocketSession session = player.getSession();
+            if(session == null || !session.isOpen() || LocalSession.isLocal(session)) {
+                continue;
+            }
+            SessionHandle handle = sessionRegistry.get(session);
+            if(handle == null || handle.isLobbyStatsMuted()) {
+                continue;
+            }
+
+            try {
+                handler.sendFrame(session, frame);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Failed to send lobby stats to session {}: {}", session.getId(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.warduel.warduel.websocket;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LocalSession - Verbindung ohne Netzwerk (synthetische Duelle des Warm-ups, Bot-Gegner)
+ *
+ * Gesendete Frames werden nur gezählt. Attribute verhalten sich wie bei einer echten
+ * Session (Handle, Resume-Platz), damit die Handler-Pfade unverändert durchlaufen werden.
+ */
+class LocalSession implements WebSocketSession {
+
+    private static final AtomicLong IDS = new AtomicLong();
+
+    private final String id;
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final AtomicLong framesSent = new AtomicLong();
+    private volatile boolean open = true;
+
+    /**
+     * @param idPrefix z.B. "warmup-" - wird um eine fortlaufende Nummer ergänzt
+     */
+    LocalSession(String idPrefix) {
+        this.id = idPrefix + IDS.incrementAndGet();
+    }
+
+    /**
+     * true für Verbindungen ohne Netzwerk (kein Client, der ein Resume-Token nutzen könnte)
+     */
+    static boolean isLocal(@Nullable WebSocketSession session) {
+        return session instanceof LocalSession;
+    }
+
+    long getFramesSent() {
+        return framesSent.get();
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    @Nullable
+    public URI getUri() {
+        return null;
+    }
+
+    @Override
+    public HttpHeaders getHandshakeHeaders() {
+        return HttpHeaders.EMPTY;
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    @Nullable
+    public Principal getPrincipal() {
+        return null;
+    }
+
+    @Override
+    @Nullable
+    public InetSocketAddress getLocalAddress() {
+        return null;
+    }
+
+    @Override
+    @Nullable
+    public InetSocketAddress getRemoteAddress() {
+        return null;
+    }
+
+    @Override
+    @Nullable
+    public String getAcceptedProtocol() {
+        return null;
+    }
+
+    @Override
+    public void setTextMessageSizeLimit(int messageSizeLimit) {
+    }
+
+    @Override
+    public int getTextMessageSizeLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+    }
+
+    @Override
+    public int getBinaryMessageSizeLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public List<WebSocketExtension> getExtensions() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        framesSent.incrementAndGet();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        open = false;
+    }
+
+    @Override
+    public void close(CloseStatus status) {
+        open = false;
+    }
+}
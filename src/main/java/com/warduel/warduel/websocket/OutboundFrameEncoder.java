@@ -0,0 +1,83 @@
+package com.warduel.warduel.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.warduel.warduel.dto.BaseMessage;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * OutboundFrameEncoder - Serialisiert ausgehende Nachrichten zu unveränderlichen Frames
+ *
+ * Ein Frame wird genau einmal serialisiert und kann danach an beliebig viele
+ * Empfänger gesendet werden (Broadcast). Nachrichten die sich nie ändern
+ * (Countdown-Ticks, "Waiting for opponent...") werden zusätzlich gecacht.
+ */
+@Component
+public class OutboundFrameEncoder {
+
+    // Obergrenze für gecachte Frames (schützt vor unbeschränktem Wachstum)
+    private static final int MAX_CACHED_FRAMES = 256;
+
+    private final ObjectMapper objectMapper;
+
+    // Spezialisierte Writer (TypedFrameWriters) - abschaltbar nur für Vergleichsmessungen
+    private boolean typedWriters = true;
+
+    // Cache-Key (z.B. "COUNTDOWN:3:<tip>") -> fertiger Frame
+    private final Map<String, TextMessage> frameCache = new ConcurrentHashMap<>();
+
+    public OutboundFrameEncoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Encoder nur mit ObjectMapper (Vergleichsbasis für FrameAllocationBenchmark)
+     */
+    static OutboundFrameEncoder withoutTypedWriters(ObjectMapper objectMapper) {
+        OutboundFrameEncoder encoder = new OutboundFrameEncoder(objectMapper);
+        encoder.typedWriters = false;
+        return encoder;
+    }
+
+    /**
+     * Serialisiert eine Nachricht einmalig zu einem Frame
+     * Häufige Typen laufen über spezialisierte Writer (siehe TypedFrameWriters),
+     * alle anderen über den ObjectMapper
+     */
+    public TextMessage encode(BaseMessage message) throws JsonProcessingException {
+        String json = typedWriters ? TypedFrameWriters.write(message) : null;
+        if(json != null) {
+            return new TextMessage(json);
+        }
+        return new TextMessage(objectMapper.writeValueAsBytes(message));
+    }
+
+    /**
+     * Liefert den gecachten Frame für eine konstante Nachricht
+     * Nur für Nachrichten mit endlich vielen Varianten verwenden - gleicher Key muss immer gleiche Nachricht ergeben
+     * @param key eindeutiger Key für den Inhalt der Nachricht
+     * @param factory erzeugt die Nachricht nur wenn der Frame noch nicht gecacht ist
+     */
+    public TextMessage encodeCached(String key, Supplier<? extends BaseMessage> factory) throws JsonProcessingException {
+        TextMessage frame = frameCache.get(key);
+        if(frame != null) {
+            return frame;
+        }
+
+        frame = encode(factory.get());
+        if(frameCache.size() < MAX_CACHED_FRAMES) {
+            TextMessage existing = frameCache.putIfAbsent(key, frame);
+            if(existing != null) {
+                return existing;
+            }
+        }
+        return frame;
+    }
+}
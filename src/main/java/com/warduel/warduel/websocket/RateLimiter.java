@@ -0,0 +1,32 @@
+package com.warduel.warduel.websocket;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RateLimiter - Begrenzt eingehende Nachrichten pro Verbindung (festes 1-Sekunden-Fenster)
+ */
+class RateLimiter {
+
+    private final int maxMessagesPerSecond;
+    private final AtomicInteger messageCount = new AtomicInteger(0);
+    private volatile Instant windowStart = Instant.now();
+
+    RateLimiter(int maxMessagesPerSecond) {
+        this.maxMessagesPerSecond = maxMessagesPerSecond;
+    }
+
+    public boolean allowMessage() {
+        Instant now = Instant.now();
+
+        // Reset window if more than 1 second has passed
+        if(now.isAfter(windowStart.plusSeconds(1))) {
+            windowStart = now;
+            messageCount.set(0);
+        }
+
+        // Check if under limit
+        int count = messageCount.incrementAndGet();
+        return count <= maxMessagesPerSecond;
+    }
+}
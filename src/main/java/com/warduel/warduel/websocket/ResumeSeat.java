@@ -0,0 +1,198 @@
+package com.warduel.warduel.websocket;
+
+import com.warduel.warduel.model.Player;
+
+import org.springframework.lang.Nullable;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ResumeSeat - Platz eines Spielers, der eine Verbindung überdauern kann
+ *
+ * Wird bei Spielstart angelegt und als Session-Attribut an die Verbindung gehängt.
+ * Jeder Frame an den Spieler läuft hier durch, bekommt eine fortlaufende Nummer und
+ * landet in einem Ringpuffer - auch wenn gerade keine Verbindung besteht. Nach einem
+ * Verbindungsabbruch wird der Platz gehalten; eine neue Verbindung meldet die Nummer
+ * des zuletzt empfangenen Frames und bekommt alle späteren nachgeliefert.
+ *
+ * Senden, Halten und Übernahme laufen unter einem gemeinsamen Lock - dadurch kommen
+ * nachgelieferte und neue Frames in der richtigen Reihenfolge an und es schreibt nie
+ * mehr als ein Thread gleichzeitig auf die Verbindung. ReentrantLock statt synchronized,
+ * weil unter dem Lock blockierend gesendet wird (ein virtueller Thread würde sonst seinen
+ * Träger-Thread für die Dauer des Sends festhalten).
+ */
+class ResumeSeat {
+
+    static final String SEAT_ATTRIBUTE = "warduel.seat";
+
+    // Rückgabewerte von onConnectionClosed() (> 0 = Epoche der Gnadenfrist)
+    static final long HANDED_OVER = -1;
+    static final long RELEASED = 0;
+
+    private static final AtomicLong IDS = new AtomicLong();
+
+    private final long id = IDS.incrementAndGet();
+    private final Player player;
+    private final TextMessage[] ring;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Geschützt durch lock
+    private WebSocketSession current;
+    private long lastSeq;
+    private boolean held;
+    private long holdEpoch;
+    private boolean closed;
+
+    ResumeSeat(Player player, WebSocketSession session, int bufferSize) {
+        this.player = player;
+        this.current = session;
+        this.ring = new TextMessage[Math.max(1, bufferSize)];
+    }
+
+    /**
+     * Platz einer Verbindung (null wenn die Verbindung keinen hat)
+     */
+    @Nullable
+    static ResumeSeat of(@Nullable WebSocketSession session) {
+        return session != null ? (ResumeSeat) session.getAttributes().get(SEAT_ATTRIBUTE) : null;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Hängt den Platz an die aktuelle Verbindung (ersetzt den Platz einer vorherigen Runde)
+     */
+    void attach() {
+        lock.lock();
+        try {
+            ResumeSeat previous = of(current);
+            if(previous != null && previous != this) {
+                previous.close();
+            }
+            current.getAttributes().put(SEAT_ATTRIBUTE, this);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Nummeriert und puffert einen Frame und sendet ihn, falls eine Verbindung besteht
+     */
+    void deliver(TextMessage frame) throws IOException {
+        lock.lock();
+        try {
+            lastSeq++;
+            ring[(int) (lastSeq % ring.length)] = frame;
+
+            if(!held && current.isOpen()) {
+                current.sendMessage(frame);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * true solange der Platz nicht aufgegeben ist (Frames werden gepuffert)
+     */
+    boolean isResumable() {
+        lock.lock();
+        try {
+            return !closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Verbindung wurde geschlossen
+     * @param hold true wenn der Platz für eine Wiederaufnahme gehalten werden soll
+     * @return Epoche der Gnadenfrist (> 0), HANDED_OVER wenn bereits eine neuere Verbindung
+     *         den Platz übernommen hat, RELEASED wenn der Platz aufgegeben ist
+     */
+    long onConnectionClosed(WebSocketSession closing, boolean hold) {
+        lock.lock();
+        try {
+            if(closing != current) {
+                return HANDED_OVER;
+            }
+            if(!hold || closed) {
+                closed = true;
+                return RELEASED;
+            }
+            held = true;
+            return ++holdEpoch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gnadenfrist abgelaufen
+     * @return true wenn der Platz jetzt aufgegeben wird (keine Wiederaufnahme in der Zwischenzeit)
+     */
+    boolean expire(long epoch) {
+        lock.lock();
+        try {
+            if(!held || epoch != holdEpoch) {
+                return false;
+            }
+            held = false;
+            closed = true;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Übernimmt den Platz mit einer neuen Verbindung und liefert alle Frames nach clientSeq nach
+     * @param resumedFrame Bestätigung, wird vor den nachgelieferten Frames gesendet
+     * @return false wenn der Platz aufgegeben ist oder die Lücke nicht mehr im Puffer liegt
+     */
+    boolean resume(WebSocketSession session, long clientSeq, TextMessage resumedFrame) throws IOException {
+        lock.lock();
+        try {
+            if(closed || clientSeq < 0 || clientSeq > lastSeq || lastSeq - clientSeq > ring.length) {
+                return false;
+            }
+
+            current = session;
+            held = false;
+            holdEpoch++;
+            session.getAttributes().put(SEAT_ATTRIBUTE, this);
+            player.setSession(session);
+
+            session.sendMessage(resumedFrame);
+            for(long seq = clientSeq + 1; seq <= lastSeq; seq++) {
+                session.sendMessage(ring[(int) (seq % ring.length)]);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Platz aufgeben (neue Runde oder Spieler hat das Spiel verlassen)
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            held = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.warduel.warduel.websocket;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.util.Date;
+
+/**
+ * ResumeTokenService - Signierte Tokens für die Wiederaufnahme einer Spielsitzung
+ *
+ * Das Token nennt Spieler, Spiel und Platz (ResumeSeat). Der Schlüssel wird pro Prozess
+ * erzeugt: Spielstände liegen nur im Speicher, nach einem Neustart gibt es ohnehin
+ * nichts mehr fortzusetzen.
+ */
+@Component
+public class ResumeTokenService {
+
+    private static final String GAME_CLAIM = "gid";
+    private static final String SEAT_CLAIM = "seat";
+
+    private final Key key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+
+    /**
+     * Inhalt eines gültigen Tokens
+     */
+    record ResumeClaims(String playerId, String gameId, long seatId) {
+    }
+
+    /**
+     * Stellt ein Token für einen Platz aus
+     * @param validSeconds Gültigkeit ab jetzt
+     */
+    String issue(String playerId, String gameId, long seatId, long validSeconds) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject(playerId)
+                .claim(GAME_CLAIM, gameId)
+                .claim(SEAT_CLAIM, seatId)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + validSeconds * 1000))
+                .signWith(key)
+                .compact();
+    }
+
+    /**
+     * Prüft Signatur und Ablauf
+     * @return Inhalt oder null wenn das Token ungültig oder abgelaufen ist
+     */
+    @Nullable
+    ResumeClaims verify(String token) {
+        try {
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+
+            String gameId = claims.get(GAME_CLAIM, String.class);
+            Number seatId = claims.get(SEAT_CLAIM, Number.class);
+            if(claims.getSubject() == null || gameId == null || seatId == null) {
+                return null;
+            }
+            return new ResumeClaims(claims.getSubject(), gameId, seatId.longValue());
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
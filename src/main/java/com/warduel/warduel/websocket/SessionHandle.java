@@ -0,0 +1,189 @@
+package com.warduel.warduel.websocket;
+
+import com.warduel.warduel.model.GameSession;
+import com.warduel.warduel.model.Player;
+import com.warduel.warduel.service.PracticeService;
+
+import org.springframework.lang.Nullable;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SessionHandle - Alles was pro Verbindung gebraucht wird, direkt an der Session
+ *
+ * Liegt als Session-Attribut an der WebSocketSession. Spiel und Slot werden beim
+ * Beitreten einmal gesetzt - danach sind Spieler, Spiel und Gegner reine
+ * Referenzzugriffe statt Map-Lookups und String-Vergleichen der Session-IDs.
+ *
+ * Frames außerhalb eines ResumeSeat (Lobby, Übung, Pings) gehen über send() - ein Lock
+ * pro Verbindung, damit Handler, Scheduler, Keepalive und LobbyPresence nie gleichzeitig
+ * schreiben. ReentrantLock statt synchronized aus demselben Grund wie in ResumeSeat.
+ */
+class SessionHandle {
+
+    private final int id;
+    private final WebSocketSession session;
+    private final SessionKeepalive keepalive;
+    private final RateLimiter rateLimiter;
+    private final ReentrantLock sendLock = new ReentrantLock();
+
+    // Aktuelles Spiel und Platz darin (null / -1 = in keinem Spiel)
+    private volatile GameSession game;
+    private volatile int slot = -1;
+
+    // Spieler-ID im Spiel - Session-ID der ersten Verbindung (bleibt bei Wiederaufnahme erhalten)
+    private volatile String playerId;
+
+    // Client hat die Lobby-Anzeige abbestellt (?presence=off)
+    private volatile boolean lobbyStatsMuted;
+
+    // Übungsverbindung (?mode=practice bzw. ?mode=daily) und ihre offene Runde (null = bereits abgegeben)
+    private volatile boolean practice;
+    private volatile boolean daily;
+    private volatile PracticeService.Round practiceRound;
+
+    // Spieler-Kennung der Tages-Challenge (aus dem Token oder neu vergeben)
+    private volatile long dailyPlayerId;
+
+    SessionHandle(int id, WebSocketSession session, SessionKeepalive keepalive, RateLimiter rateLimiter) {
+        this.id = id;
+        this.session = session;
+        this.keepalive = keepalive;
+        this.rateLimiter = rateLimiter;
+        this.playerId = session.getId();
+    }
+
+    int getId() {
+        return id;
+    }
+
+    WebSocketSession getSession() {
+        return session;
+    }
+
+    SessionKeepalive getKeepalive() {
+        return keepalive;
+    }
+
+    RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Schreibt eine Nachricht auf die Verbindung - immer nur ein Thread gleichzeitig
+     */
+    void send(WebSocketMessage<?> message) throws IOException {
+        sendLock.lock();
+        try {
+            if(session.isOpen()) {
+                session.sendMessage(message);
+            }
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    String getPlayerId() {
+        return playerId;
+    }
+
+    boolean isLobbyStatsMuted() {
+        return lobbyStatsMuted;
+    }
+
+    void muteLobbyStats() {
+        this.lobbyStatsMuted = true;
+    }
+
+    void startPractice(PracticeService.Round round) {
+        this.practice = true;
+        this.practiceRound = round;
+    }
+
+    /**
+     * Runde der Tages-Challenge (eine pro Verbindung, Abgabe wie im Übungsmodus)
+     * @param round null wenn die Kennung heute schon abgegeben hat
+     */
+    void startDaily(@Nullable PracticeService.Round round, long playerId) {
+        this.daily = true;
+        this.dailyPlayerId = playerId;
+        this.practiceRound = round;
+    }
+
+    long getDailyPlayerId() {
+        return dailyPlayerId;
+    }
+
+    /**
+     * Ist noch eine Runde offen (ausgegeben, nicht abgegeben)?
+     */
+    boolean hasPracticeRound() {
+        return practiceRound != null;
+    }
+
+    /**
+     * Nimmt die offene Übungsrunde genau einmal entgegen (eine Abgabe pro Runde)
+     * @return null wenn keine Runde offen ist
+     */
+    synchronized PracticeService.Round takePracticeRound() {
+        PracticeService.Round round = practiceRound;
+        practiceRound = null;
+        return round;
+    }
+
+    boolean isPractice() {
+        return practice;
+    }
+
+    boolean isDaily() {
+        return daily;
+    }
+
+    /**
+     * Verknüpft die Verbindung mit ihrem Spiel und dem Platz des Spielers
+     */
+    void bind(GameSession game, Player player) {
+        this.playerId = player.getPlayerId();
+        this.slot = player.getSlot();
+        this.game = game;
+    }
+
+    /**
+     * Löst die Verbindung vom Spiel (Spieler hat das Spiel verlassen)
+     */
+    void unbind() {
+        this.game = null;
+        this.slot = -1;
+    }
+
+    GameSession getGame() {
+        return game;
+    }
+
+    /**
+     * Spieler dieser Verbindung - O(1) über den Slot
+     * @return null wenn die Verbindung in keinem Spiel (mehr) sitzt
+     */
+    Player getPlayer() {
+        GameSession current = game;
+        int currentSlot = slot;
+        if(current == null || currentSlot < 0) {
+            return null;
+        }
+        Player player = current.getPlayer(currentSlot);
+        // Slot könnte inzwischen neu vergeben sein
+        return (player != null && player.getSession() == session) ? player : null;
+    }
+
+    /**
+     * Gegner im Duell - O(1) über den Slot
+     */
+    Player getOpponent() {
+        GameSession current = game;
+        Player player = getPlayer();
+        return (current != null && player != null) ? current.getOpponent(player) : null;
+    }
+}
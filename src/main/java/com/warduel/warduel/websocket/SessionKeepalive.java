@@ -0,0 +1,101 @@
+package com.warduel.warduel.websocket;
+
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.ByteBuffer;
+
+/**
+ * SessionKeepalive - Lebenszeichen und Round-Trip-Time einer WebSocket-Verbindung
+ *
+ * Der Server sendet native Ping-Frames mit dem Sendezeitpunkt als Payload.
+ * Der Browser antwortet automatisch mit einem Pong, der denselben Payload enthält -
+ * daraus ergibt sich die RTT, ohne dass die Anwendungsschicht (JSON, Rate Limiter) beteiligt ist.
+ */
+class SessionKeepalive {
+
+    // Gewichtung neuer Messwerte für die geglättete RTT (wie TCP SRTT)
+    private static final double RTT_SMOOTHING = 0.125;
+
+    private final WebSocketSession session;
+
+    // Letztes Lebenszeichen (Textnachricht oder Pong), System.nanoTime()
+    private volatile long lastSeenNanos;
+
+    // Zeitpunkt des letzten gesendeten Pings, System.nanoTime()
+    private volatile long lastPingNanos;
+
+    // RTT in Nanosekunden (-1 = noch nicht gemessen)
+    private volatile long lastRttNanos = -1;
+    private volatile long smoothedRttNanos = -1;
+
+    SessionKeepalive(WebSocketSession session, long nowNanos) {
+        this.session = session;
+        this.lastSeenNanos = nowNanos;
+        this.lastPingNanos = nowNanos;
+    }
+
+    WebSocketSession getSession() {
+        return session;
+    }
+
+    /**
+     * Markiert die Verbindung als lebendig
+     */
+    void markAlive(long nowNanos) {
+        this.lastSeenNanos = nowNanos;
+    }
+
+    /**
+     * Sekunden seit dem letzten Lebenszeichen
+     */
+    long secondsSinceLastSeen(long nowNanos) {
+        return (nowNanos - lastSeenNanos) / 1_000_000_000L;
+    }
+
+    /**
+     * Prüft ob ein Ping fällig ist
+     */
+    boolean isPingDue(long nowNanos, long intervalNanos) {
+        return nowNanos - lastPingNanos >= intervalNanos;
+    }
+
+    /**
+     * Erzeugt den Payload für einen neuen Ping (Sendezeitpunkt)
+     */
+    ByteBuffer nextPingPayload(long nowNanos) {
+        this.lastPingNanos = nowNanos;
+        ByteBuffer payload = ByteBuffer.allocate(Long.BYTES);
+        payload.putLong(0, nowNanos);
+        return payload;
+    }
+
+    /**
+     * Verarbeitet einen Pong: markiert Lebenszeichen und berechnet die RTT
+     * @return gemessene RTT in Nanosekunden oder -1 wenn der Payload nicht von uns stammt
+     */
+    long onPong(ByteBuffer payload, long nowNanos) {
+        markAlive(nowNanos);
+
+        if(payload == null || payload.remaining() != Long.BYTES) {
+            return -1; // Unaufgeforderter Pong - zählt nur als Lebenszeichen
+        }
+
+        long rtt = nowNanos - payload.getLong(payload.position());
+        if(rtt < 0) {
+            return -1;
+        }
+
+        this.lastRttNanos = rtt;
+        long previous = smoothedRttNanos;
+        this.smoothedRttNanos = previous < 0 ? rtt : (long) (previous + RTT_SMOOTHING * (rtt - previous));
+        return rtt;
+    }
+
+    long getLastRttNanos() {
+        return lastRttNanos;
+    }
+
+    long getSmoothedRttNanos() {
+        return smoothedRttNanos;
+    }
+}
@@ -0,0 +1,66 @@
+package com.warduel.warduel.websocket;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SessionRegistry - Vergibt kompakte Integer-Handles an Spieler-Verbindungen
+ *
+ * Der Handle liegt als Attribut direkt an der WebSocketSession - pro Nachricht
+ * ist nur ein Attribut-Zugriff nötig. Die Map nach Handle-ID dient nur für
+ * periodische Durchläufe (Keepalive) und die Verbindungs-Metrik.
+ */
+@Component
+public class SessionRegistry {
+
+    // Attribut-Name an der WebSocketSession
+    static final String HANDLE_ATTRIBUTE = "warduel.handle";
+
+    private final AtomicInteger nextId = new AtomicInteger(0);
+    private final Map<Integer, SessionHandle> handles = new ConcurrentHashMap<>();
+
+    /**
+     * Registriert eine neue Verbindung
+     */
+    SessionHandle register(WebSocketSession session, SessionKeepalive keepalive, RateLimiter rateLimiter) {
+        SessionHandle handle = new SessionHandle(nextId.incrementAndGet(), session, keepalive, rateLimiter);
+        session.getAttributes().put(HANDLE_ATTRIBUTE, handle);
+        handles.put(handle.getId(), handle);
+        return handle;
+    }
+
+    /**
+     * Handle einer Verbindung (null wenn nicht registriert)
+     */
+    SessionHandle get(WebSocketSession session) {
+        return (SessionHandle) session.getAttributes().get(HANDLE_ATTRIBUTE);
+    }
+
+    /**
+     * Entfernt eine Verbindung
+     * @return der bisherige Handle oder null
+     */
+    SessionHandle unregister(WebSocketSession session) {
+        SessionHandle handle = (SessionHandle) session.getAttributes().remove(HANDLE_ATTRIBUTE);
+        if(handle != null) {
+            handles.remove(handle.getId());
+        }
+        return handle;
+    }
+
+    Collection<SessionHandle> all() {
+        return handles.values();
+    }
+
+    /**
+     * Anzahl aktiver Verbindungen
+     */
+    public int size() {
+        return handles.size();
+    }
+}
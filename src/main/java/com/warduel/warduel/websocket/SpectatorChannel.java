@@ -0,0 +1,155 @@
+package com.warduel.warduel.websocket;
+
+import jakarta.websocket.Session;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * SpectatorChannel - Ausgangspuffer eines einzelnen Zuschauers
+ *
+ * Begrenzte Warteschlange mit asynchronem Senden: der Fan-Out-Thread legt Frames
+ * nur ab und blockiert nie auf einem langsamen Zuschauer. Ist der Puffer voll,
+ * wird der älteste Frame verworfen (jeder Frame ist ein vollständiger Snapshot,
+ * der Zuschauer verpasst also nur Zwischenstände). Wer dauerhaft nicht hinterherkommt,
+ * wird getrennt.
+ */
+@Slf4j
+class SpectatorChannel {
+
+    private final WebSocketSession session;
+    private final int capacity;
+    private final int maxDroppedFrames;
+
+    // Geschützt durch "this"
+    private final Deque<TextMessage> queue;
+    private boolean sending;
+    private int droppedInARow;
+    private boolean closed;
+
+    SpectatorChannel(WebSocketSession session, int capacity, int maxDroppedFrames) {
+        this.session = session;
+        this.capacity = capacity;
+        this.maxDroppedFrames = maxDroppedFrames;
+        this.queue = new ArrayDeque<>(capacity);
+    }
+
+    WebSocketSession getSession() {
+        return session;
+    }
+
+    /**
+     * Legt einen Frame ab und startet das Senden falls nötig
+     * Kehrt sofort zurück - gesendet wird asynchron
+     */
+    void offer(TextMessage frame) {
+        boolean startSending = false;
+        boolean tooSlow = false;
+
+        synchronized(this) {
+            if(closed) {
+                return;
+            }
+
+            if(queue.size() >= capacity) {
+                queue.pollFirst();
+                droppedInARow++;
+                tooSlow = droppedInARow > maxDroppedFrames;
+            }
+            queue.addLast(frame);
+
+            if(!sending && !tooSlow) {
+                sending = true;
+                startSending = true;
+            }
+        }
+
+        if(tooSlow) {
+            log.info("Dropping slow spectator {} - {} frames dropped in a row", session.getId(), maxDroppedFrames);
+            close(CloseStatus.SESSION_NOT_RELIABLE);
+            return;
+        }
+
+        if(startSending) {
+            sendNext();
+        }
+    }
+
+    /**
+     * Sendet den nächsten Frame aus der Warteschlange
+     * Wird nach jedem abgeschlossenen Senden erneut aufgerufen
+     */
+    private void sendNext() {
+        TextMessage frame;
+        synchronized(this) {
+            frame = closed ? null : queue.pollFirst();
+            if(frame == null) {
+                sending = false;
+                return;
+            }
+        }
+
+        Session nativeSession = (session instanceof NativeWebSocketSession nws)
+                ? nws.getNativeSession(Session.class) : null;
+
+        if(nativeSession == null) {
+            // Kein JSR-356 Transport - synchron senden
+            try {
+                session.sendMessage(frame);
+                onSent();
+            } catch (Exception e) {
+                log.debug("Failed to send to spectator {}: {}", session.getId(), e.getMessage());
+                close(CloseStatus.SESSION_NOT_RELIABLE);
+            }
+            return;
+        }
+
+        try {
+            nativeSession.getAsyncRemote().sendText(frame.getPayload(), result -> {
+                if(result.isOK()) {
+                    onSent();
+                } else {
+                    log.debug("Failed to send to spectator {}: {}", session.getId(), result.getException().getMessage());
+                    close(CloseStatus.SESSION_NOT_RELIABLE);
+                }
+            });
+        } catch (Exception e) {
+            log.debug("Failed to send to spectator {}: {}", session.getId(), e.getMessage());
+            close(CloseStatus.SESSION_NOT_RELIABLE);
+        }
+    }
+
+    private void onSent() {
+        synchronized(this) {
+            droppedInARow = 0;
+        }
+        sendNext();
+    }
+
+    /**
+     * Schließt den Kanal und die Verbindung
+     */
+    void close(CloseStatus status) {
+        synchronized(this) {
+            if(closed) {
+                return;
+            }
+            closed = true;
+            queue.clear();
+        }
+
+        try {
+            if(session.isOpen()) {
+                session.close(status);
+            }
+        } catch (Exception e) {
+            log.debug("Error closing spectator session {}", session.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.warduel.warduel.websocket;
+
+import com.warduel.warduel.config.GameConfiguration;
+import com.warduel.warduel.dto.SpectatorStateMessage;
+import com.warduel.warduel.model.GameSession;
+import com.warduel.warduel.model.Player;
+import com.warduel.warduel.model.Question;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SpectatorHub - Verteilt Live-Duelle an Zuschauer
+ *
+ * Jedes Spielereignis wird als Snapshot genau einmal serialisiert und nach der
+ * konfigurierten Verzögerung an alle Zuschauer des Spiels verteilt. Das Verteilen
+ * läuft auf einem eigenen Thread und jeder Zuschauer hat einen begrenzten Puffer
+ * (siehe SpectatorChannel) - die Latenz der beiden Spieler bleibt unberührt.
+ */
+@Component
+@Slf4j
+public class SpectatorHub {
+
+    private static final int EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final GameConfiguration gameConfig;
+    private final OutboundFrameEncoder frameEncoder;
+
+    // Eigener Thread für Fan-Out (nicht der Scheduler der Spiele)
+    private final ScheduledExecutorService fanout = Executors.newSingleThreadScheduledExecutor();
+
+    // GameId -> Zuschauer
+    private final Map<String, Set<SpectatorChannel>> watchers = new ConcurrentHashMap<>();
+
+    // SessionId -> Zuschauer (zum Abmelden)
+    private final Map<String, SpectatorChannel> channels = new ConcurrentHashMap<>();
+    private final Map<String, String> sessionToGame = new ConcurrentHashMap<>();
+
+    // Client-IP -> offene Zuschauer-Verbindungen (Limit pro IP über alle Spiele)
+    private final Map<String, Integer> viewersPerIp = new ConcurrentHashMap<>();
+    private final Map<String, String> sessionToIp = new ConcurrentHashMap<>();
+
+    public SpectatorHub(GameConfiguration gameConfig, OutboundFrameEncoder frameEncoder) {
+        this.gameConfig = gameConfig;
+        this.frameEncoder = frameEncoder;
+    }
+
+    @PreDestroy
+    public void cleanup() {
+        fanout.shutdown();
+        try {
+            if(!fanout.awaitTermination(EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                fanout.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            fanout.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Meldet einen Zuschauer für ein Spiel an und schickt ihm den aktuellen Stand
+     * @return false wenn das Spiel oder die Client-IP bereits die maximale Anzahl Zuschauer hat
+     */
+    public boolean subscribe(GameSession game, WebSocketSession session) {
+        String clientIp = HandshakeGate.clientIp(session.getAttributes());
+        if(!acquireIpSlot(clientIp)) {
+            return false;
+        }
+
+        SpectatorChannel channel = new SpectatorChannel(session,
+                gameConfig.getSpectatorQueueSize(), gameConfig.getSpectatorMaxDroppedFrames());
+
+        // Atomar hinzufügen (gleichzeitiges Abmelden darf die Menge nicht verwerfen)
+        Set<SpectatorChannel> gameWatchers = watchers.compute(game.getGameId(), (gameId, current) -> {
+            Set<SpectatorChannel> set = (current != null) ? current : ConcurrentHashMap.newKeySet();
+            if(set.size() < gameConfig.getMaxSpectatorsPerGame()) {
+                set.add(channel);
+            }
+            return set;
+        });
+        if(!gameWatchers.contains(channel)) {
+            releaseIpSlot(clientIp);
+            return false;
+        }
+
+        channels.put(session.getId(), channel);
+        sessionToGame.put(session.getId(), game.getGameId());
+        sessionToIp.put(session.getId(), clientIp);
+
+        // Auch der Einstiegs-Snapshot kommt verzögert (sonst wäre er aktueller als der Stream)
+        SpectatorStateMessage snapshot = snapshot(game, null);
+        fanout.schedule(() -> deliver(Set.of(channel), snapshot), gameConfig.getSpectatorDelayMs(), TimeUnit.MILLISECONDS);
+
+        log.info("Spectator {} watching game {} ({} viewers)", session.getId(), game.getGameId(), gameWatchers.size());
+        return true;
+    }
+
+    /**
+     * Meldet einen Zuschauer ab
+     */
+    public void unsubscribe(WebSocketSession session) {
+        String clientIp = sessionToIp.remove(session.getId());
+        if(clientIp != null) {
+            releaseIpSlot(clientIp);
+        }
+
+        SpectatorChannel channel = channels.remove(session.getId());
+        String gameId = sessionToGame.remove(session.getId());
+        if(channel == null || gameId == null) {
+            return;
+        }
+
+        watchers.computeIfPresent(gameId, (id, set) -> {
+            set.remove(channel);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * Belegt einen Zuschauer-Platz der Client-IP
+     * @return false wenn die IP bereits maximal viele Zuschauer-Verbindungen offen hat
+     */
+    private boolean acquireIpSlot(String clientIp) {
+        int max = gameConfig.getMaxSpectatorsPerIp();
+        boolean[] acquired = {false};
+        viewersPerIp.compute(clientIp, (ip, count) -> {
+            int current = (count != null) ? count : 0;
+            if(current >= max) {
+                return count;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+        return acquired[0];
+    }
+
+    private void releaseIpSlot(String clientIp) {
+        viewersPerIp.computeIfPresent(clientIp, (ip, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Prüft ob ein Spiel Zuschauer hat (billiger Check vor dem Snapshot)
+     */
+    public boolean hasWatchers(String gameId) {
+        Set<SpectatorChannel> gameWatchers = watchers.get(gameId);
+        return gameWatchers != null && !gameWatchers.isEmpty();
+    }
+
+    /**
+     * Anzahl Zuschauer eines Spiels
+     */
+    public int getWatcherCount(String gameId) {
+        Set<SpectatorChannel> gameWatchers = watchers.get(gameId);
+        return gameWatchers != null ? gameWatchers.size() : 0;
+    }
+
+    /**
+     * Veröffentlicht den aktuellen Stand eines Spiels an alle Zuschauer
+     * Der Snapshot wird sofort erstellt (Stand zum Zeitpunkt des Ereignisses), verteilt wird verzögert
+     */
+    public void publish(GameSession game) {
+        publish(game, null);
+    }
+
+    /**
+     * Veröffentlicht den Endstand eines Spiels inkl. Gewinner
+     */
+    public void publish(GameSession game, @Nullable String winnerName) {
+        Set<SpectatorChannel> gameWatchers = watchers.get(game.getGameId());
+        if(gameWatchers == null || gameWatchers.isEmpty()) {
+            return;
+        }
+
+        // Menge jetzt festhalten - auch wenn das Spiel inzwischen geschlossen wurde, kommt der Stand noch an
+        SpectatorStateMessage snapshot = snapshot(game, winnerName);
+        fanout.schedule(() -> deliver(gameWatchers, snapshot), gameConfig.getSpectatorDelayMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Trennt alle Zuschauer eines Spiels (Spiel existiert nicht mehr)
+     */
+    public void closeGame(String gameId) {
+        Set<SpectatorChannel> gameWatchers = watchers.remove(gameId);
+        if(gameWatchers == null) {
+            return;
+        }
+
+        // Nach der Verzögerung schließen, damit der Endstand noch ankommt
+        fanout.schedule(() -> {
+            for(SpectatorChannel channel : gameWatchers) {
+                channels.remove(channel.getSession().getId());
+                sessionToGame.remove(channel.getSession().getId());
+                channel.close(CloseStatus.NORMAL);
+            }
+        }, gameConfig.getSpectatorDelayMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Serialisiert einmal und legt denselben Frame in jeden Zuschauer-Puffer
+     */
+    private void deliver(Set<SpectatorChannel> targets, SpectatorStateMessage snapshot) {
+        try {
+            TextMessage frame = frameEncoder.encode(snapshot);
+            for(SpectatorChannel channel : targets) {
+                channel.offer(frame);
+            }
+        } catch (Exception e) {
+            log.error("Error delivering spectator update for game {}", snapshot.getGameId(), e);
+        }
+    }
+
+    /**
+     * Erstellt einen Snapshot des Spielstands
+     */
+    private SpectatorStateMessage snapshot(GameSession game, @Nullable String winnerName) {
+        SpectatorStateMessage msg = new SpectatorStateMessage();
+        msg.setGameId(game.getGameId());
+        msg.setGameStatus(game.getStatus());
+        msg.setRemainingSeconds(game.getRemainingSeconds());
+        msg.setWinnerName(winnerName);
+
+        Player player1 = game.getPlayer1();
+        if(player1 != null) {
+            Question question = player1.getCurrentQuestion();
+            msg.setPlayer1Name(player1.getDisplayName());
+            msg.setPlayer1Score(player1.getScore());
+            msg.setPlayer1Question(question != null ? question.getQuestionText() : null);
+            msg.setPlayer1QuestionNumber(player1.getCurrentQuestionIndex() + 1);
+        }
+
+        Player player2 = game.getPlayer2();
+        if(player2 != null) {
+            Question question = player2.getCurrentQuestion();
+            msg.setPlayer2Name(player2.getDisplayName());
+            msg.setPlayer2Score(player2.getScore());
+            msg.setPlayer2Question(question != null ? question.getQuestionText() : null);
+            msg.setPlayer2QuestionNumber(player2.getCurrentQuestionIndex() + 1);
+        }
+
+        return msg;
+    }
+}
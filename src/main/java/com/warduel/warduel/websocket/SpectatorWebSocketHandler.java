@@ -0,0 +1,91 @@
+package com.warduel.warduel.websocket;
+
+import com.warduel.warduel.dto.ErrorMessage;
+import com.warduel.warduel.model.GameSession;
+import com.warduel.warduel.service.GameService;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+
+/**
+ * SpectatorWebSocketHandler - Read-only Verbindung für Zuschauer eines Duells
+ * Verbindung: /spectate?game=<gameId>
+ */
+@Component
+@Slf4j
+public class SpectatorWebSocketHandler extends TextWebSocketHandler {
+
+    private final GameService gameService;
+    private final SpectatorHub spectatorHub;
+    private final OutboundFrameEncoder frameEncoder;
+    private final AdmissionController admission;
+
+    public SpectatorWebSocketHandler(GameService gameService, SpectatorHub spectatorHub, OutboundFrameEncoder frameEncoder,
+                                     AdmissionController admission) {
+        this.gameService = gameService;
+        this.spectatorHub = spectatorHub;
+        this.frameEncoder = frameEncoder;
+        this.admission = admission;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        // Im Drain-Modus keine neuen Zuschauer (Knoten soll leer laufen)
+        if(admission.isDraining()) {
+            session.sendMessage(DrainCoordinator.restartNotice(frameEncoder));
+            session.close(CloseStatus.SERVICE_RESTARTED);
+            return;
+        }
+
+        String gameId = extractGameId(session.getUri());
+        GameSession game = (gameId != null) ? gameService.getGameById(gameId) : null;
+
+        if(game == null || game.getMode() != GameSession.GameMode.DUEL) {
+            rejectAndClose(session, "Game not found");
+            return;
+        }
+
+        if(!spectatorHub.subscribe(game, session)) {
+            rejectAndClose(session, "Too many spectators - try again later");
+        }
+    }
+
+    /**
+     * Zuschauer sind read-only - eingehende Nachrichten werden ignoriert
+     */
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        // Absichtlich leer
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, @Nullable CloseStatus status) {
+        spectatorHub.unsubscribe(session);
+    }
+
+    private void rejectAndClose(WebSocketSession session, String reason) {
+        try {
+            session.sendMessage(frameEncoder.encode(new ErrorMessage(reason)));
+            session.close(CloseStatus.NORMAL);
+        } catch (Exception e) {
+            log.debug("Error rejecting spectator {}", session.getId(), e);
+        }
+    }
+
+    @Nullable
+    private String extractGameId(@Nullable URI uri) {
+        if(uri == null) {
+            return null;
+        }
+        return UriComponentsBuilder.fromUri(uri).build().getQueryParams().getFirst("game");
+    }
+}
@@ -0,0 +1,187 @@
+package com.warduel.warduel.websocket;
+
+import com.warduel.warduel.dto.*;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * TypedFrameWriters - Handgeschriebene JSON-Writer für die häufigsten ausgehenden Nachrichten
+ *
+ * Schreibt direkt in einen wiederverwendeten Thread-lokalen Puffer statt über den
+ * generischen ObjectMapper (Typ-Auflösung, Generator, Byte-Puffer pro Frame).
+ * Die Ausgabe ist Zeichen für Zeichen identisch mit Jacksons Serialisierung:
+ * gleiche Feldreihenfolge, null-Felder werden mitgeschrieben, gleiche Escapes.
+ *
+ * Neue Felder in einem DTO müssen hier nachgezogen werden - TypedFrameWritersTest vergleicht
+ * jeden Writer mit dem ObjectMapper.
+ */
+final class TypedFrameWriters {
+
+    /**
+     * Writer für genau einen Nachrichtentyp
+     */
+    @FunctionalInterface
+    interface FrameWriter<T extends BaseMessage> {
+        void write(T message, StringBuilder out);
+    }
+
+    // Puffer größer als das werden nicht behalten (z.B. nach einer ungewöhnlich langen Fehlermeldung)
+    private static final int MAX_RETAINED_BUFFER_CHARS = 4096;
+    private static final int INITIAL_BUFFER_CHARS = 256;
+
+    private static final ThreadLocal<StringBuilder> BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER_CHARS));
+
+    // Exakte Klasse -> Writer (keine Subklassen, sonst würden Felder fehlen)
+    private static final Map<Class<?>, FrameWriter<?>> WRITERS = new IdentityHashMap<>();
+
+    static {
+        register(QuestionMessage.class, (msg, out) -> {
+            writeType(msg, out);
+            writeString(out, "questionText", msg.getQuestionText());
+            writeNumber(out, "questionNumber", msg.getQuestionNumber());
+            writeNumber(out, "remainingSeconds", msg.getRemainingSeconds());
+        });
+
+        register(ScoreUpdateMessage.class, (msg, out) -> {
+            writeType(msg, out);
+            writeNumber(out, "yourScore", msg.getYourScore());
+            writeNumber(out, "opponentScore", msg.getOpponentScore());
+            writeBoolean(out, "wasCorrect", msg.isWasCorrect());
+        });
+
+        register(AnswerResultMessage.class, (msg, out) -> {
+            writeType(msg, out);
+            writeBoolean(out, "wasCorrect", msg.isWasCorrect());
+            writeNumber(out, "yourScore", msg.getYourScore());
+            writeNumber(out, "opponentScore", msg.getOpponentScore());
+            writeString(out, "questionText", msg.getQuestionText());
+            writeNumber(out, "questionNumber", msg.getQuestionNumber());
+            writeNumber(out, "remainingSeconds", msg.getRemainingSeconds());
+            if(msg.getYourRank() != null) {
+                writeNumber(out, "yourRank", msg.getYourRank());
+            }
+            if(msg.getTopScore() != null) {
+                writeNumber(out, "topScore", msg.getTopScore());
+            }
+        });
+
+        register(GameOverMessage.class, (msg, out) -> {
+            writeType(msg, out);
+            writeNumber(out, "yourScore", msg.getYourScore());
+            writeNumber(out, "opponentScore", msg.getOpponentScore());
+            writeBoolean(out, "youWon", msg.isYouWon());
+            writeBoolean(out, "draw", msg.isDraw());
+            writeString(out, "winnerName", msg.getWinnerName());
+            writeString(out, "disconnectMessage", msg.getDisconnectMessage());
+        });
+
+        register(ErrorMessage.class, (msg, out) -> {
+            writeType(msg, out);
+            writeString(out, "errorMessage", msg.getErrorMessage());
+        });
+    }
+
+    private TypedFrameWriters() {
+    }
+
+    private static <T extends BaseMessage> void register(Class<T> type, FrameWriter<T> writer) {
+        WRITERS.put(type, writer);
+    }
+
+    /**
+     * Serialisiert die Nachricht mit ihrem spezialisierten Writer
+     * @return JSON oder null wenn es für den Typ keinen Writer gibt (Fallback auf ObjectMapper)
+     */
+    @SuppressWarnings("unchecked")
+    static String write(BaseMessage message) {
+        FrameWriter<BaseMessage> writer = (FrameWriter<BaseMessage>) WRITERS.get(message.getClass());
+        if(writer == null) {
+            return null;
+        }
+
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        out.append('{');
+        writer.write(message, out);
+        out.append('}');
+        String json = out.toString();
+
+        if(out.capacity() > MAX_RETAINED_BUFFER_CHARS) {
+            BUFFER.set(new StringBuilder(INITIAL_BUFFER_CHARS));
+        }
+        return json;
+    }
+
+    // ==================== JSON PRIMITIVES ====================
+
+    private static void writeType(BaseMessage message, StringBuilder out) {
+        // Erstes Feld - kein Komma davor
+        out.append("\"type\":");
+        writeQuoted(out, message.getType());
+    }
+
+    private static void writeString(StringBuilder out, String name, String value) {
+        writeName(out, name);
+        writeQuoted(out, value);
+    }
+
+    private static void writeNumber(StringBuilder out, String name, long value) {
+        writeName(out, name);
+        out.append(value);
+    }
+
+    private static void writeNumber(StringBuilder out, String name, Number value) {
+        writeName(out, name);
+        if(value == null) {
+            out.append("null");
+        } else {
+            out.append(value.longValue());
+        }
+    }
+
+    private static void writeBoolean(StringBuilder out, String name, boolean value) {
+        writeName(out, name);
+        out.append(value);
+    }
+
+    private static void writeName(StringBuilder out, String name) {
+        out.append(",\"").append(name).append("\":");
+    }
+
+    /**
+     * Schreibt einen String mit denselben Escapes wie Jackson
+     * (Anführungszeichen, Backslash, Steuerzeichen; Nicht-ASCII bleibt unverändert)
+     */
+    private static void writeQuoted(StringBuilder out, String value) {
+        if(value == null) {
+            out.append("null");
+            return;
+        }
+
+        out.append('"');
+        for(int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch(c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\b' -> out.append("\\b");
+                case '\t' -> out.append("\\t");
+                case '\n' -> out.append("\\n");
+                case '\f' -> out.append("\\f");
+                case '\r' -> out.append("\\r");
+                default -> {
+                    if(c < 0x20) {
+                        out.append("\\u00");
+                        out.append(Character.forDigit(c >> 4, 16));
+                        out.append(Character.toUpperCase(Character.forDigit(c & 0xF, 16)));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+}
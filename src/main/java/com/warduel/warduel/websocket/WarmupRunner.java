@@ -0,0 +1,196 @@
+package com.warduel.warduel.websocket;
+
+import com.warduel.warduel.config.GameConfiguration;
+import com.warduel.warduel.dto.CountdownMessage;
+import com.warduel.warduel.dto.GameStateMessage;
+import com.warduel.warduel.dto.QuestionMessage;
+import com.warduel.warduel.model.GameSession;
+import com.warduel.warduel.model.Player;
+import com.warduel.warduel.model.Question;
+import com.warduel.warduel.service.QuestionGeneratorService;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WarmupRunner - Spielt vor dem ersten echten Spieler synthetische Duelle durch
+ *
+ * Läuft als ApplicationRunner - Spring setzt die Readiness erst danach auf
+ * ACCEPTING_TRAFFIC, der Load Balancer schickt also nur Spieler an einen warmen Knoten.
+ *
+ * Jedes Duell läuft mit zwei LocalSessions über den echten Antwort-Pfad des Handlers
+ * (JSON-Parsing inkl. BaseMessage-Typauflösung, Slot-Zugriff, Score-Flush, Frame-Encoding,
+ * GameOver). Die Spiele werden nicht im GameService registriert und sind damit für
+ * Matchmaking, Zuschauer und Lifecycle-Sweeper unsichtbar.
+ *
+ * Die mittlere Verarbeitungszeit einer Antwort wird pro Fenster von WINDOW_DUELS Duellen
+ * gemessen. Steady State ist erreicht, sobald sich zwei Fenster um weniger als
+ * warmupSteadyTolerance unterscheiden (frühestens nach warmupMinDuels Duellen).
+ */
+@Component
+@Slf4j
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final int WINDOW_DUELS = 10;
+    private static final String SESSION_PREFIX = "warmup-";
+
+    // Während des Warm-ups nur Warnungen loggen (sonst mehrere Zeilen pro synthetischer Antwort)
+    private static final String APPLICATION_LOGGER = "com.warduel.warduel";
+
+    private final GameWebSocketHandler gameHandler;
+    private final SessionRegistry sessionRegistry;
+    private final QuestionGeneratorService questionGenerator;
+    private final OutboundFrameEncoder frameEncoder;
+    private final AdmissionController admission;
+    private final GameConfiguration gameConfig;
+    private final LoggingSystem loggingSystem;
+
+    public WarmupRunner(GameWebSocketHandler gameHandler, SessionRegistry sessionRegistry,
+                        QuestionGeneratorService questionGenerator, OutboundFrameEncoder frameEncoder,
+                        AdmissionController admission, GameConfiguration gameConfig, LoggingSystem loggingSystem) {
+        this.gameHandler = gameHandler;
+        this.sessionRegistry = sessionRegistry;
+        this.questionGenerator = questionGenerator;
+        this.frameEncoder = frameEncoder;
+        this.admission = admission;
+        this.gameConfig = gameConfig;
+        this.loggingSystem = loggingSystem;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if(!gameConfig.isWarmupEnabled() || gameConfig.getWarmupMaxDuels() <= 0) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        LoggerConfiguration logConfig = loggingSystem.getLoggerConfiguration(APPLICATION_LOGGER);
+        LogLevel previousLevel = logConfig != null ? logConfig.getConfiguredLevel() : null;
+
+        loggingSystem.setLogLevel(APPLICATION_LOGGER, LogLevel.WARN);
+        admission.beginWarmup();
+
+        long firstWindowNanos = -1;
+        long previousWindowNanos = -1;
+        long windowNanos = 0;
+        long windowAnswers = 0;
+        int duels = 0;
+        int steadyAfter = -1;
+
+        try {
+            while(duels < gameConfig.getWarmupMaxDuels()) {
+                long[] result = playDuel();
+                windowNanos += result[0];
+                windowAnswers += result[1];
+                duels++;
+
+                if(duels % WINDOW_DUELS != 0 || windowAnswers == 0) {
+                    continue;
+                }
+
+                long mean = windowNanos / windowAnswers;
+                if(firstWindowNanos < 0) {
+                    firstWindowNanos = mean;
+                }
+                if(previousWindowNanos > 0 && duels >= gameConfig.getWarmupMinDuels()
+                        && Math.abs(mean - previousWindowNanos) <= previousWindowNanos * gameConfig.getWarmupSteadyTolerance()) {
+                    previousWindowNanos = mean;
+                    steadyAfter = duels;
+                    break;
+                }
+                previousWindowNanos = mean;
+                windowNanos = 0;
+                windowAnswers = 0;
+            }
+        } catch (Exception e) {
+            log.error("Warm-up aborted after {} duels", duels, e);
+        } finally {
+            admission.endWarmup();
+            loggingSystem.setLogLevel(APPLICATION_LOGGER, previousLevel);
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        if(steadyAfter > 0) {
+            log.info("Warm-up reached steady state after {} duels in {} ms - answer path {} µs (first window {} µs)",
+                    steadyAfter, elapsedMs, previousWindowNanos / 1000, firstWindowNanos / 1000);
+        } else {
+            log.info("Warm-up finished {} duels in {} ms without steady state - answer path {} µs (first window {} µs)",
+                    duels, elapsedMs, Math.max(previousWindowNanos, 0) / 1000, Math.max(firstWindowNanos, 0) / 1000);
+        }
+    }
+
+    /**
+     * Ein synthetisches Duell bis alle Fragen beantwortet sind bzw. die Gewinnschwelle erreicht ist
+     * @return {Summe der Verarbeitungszeit in Nanosekunden, Anzahl Antworten}
+     */
+    private long[] playDuel() throws Exception {
+        GameSession game = new GameSession();
+        LocalSession[] sessions = {new LocalSession(SESSION_PREFIX), new LocalSession(SESSION_PREFIX)};
+        Player[] players = new Player[sessions.length];
+
+        List<Question> questions = null;
+        for(int i = 0; i < sessions.length; i++) {
+            players[i] = game.addPlayer(sessions[i].getId(), sessions[i]);
+            questions = questionGenerator.generateQuestions(gameConfig.getQuestionsPerGame());
+            players[i].setQuestions(questions);
+        }
+        game.setQuestions(questions);
+        game.setDurationSeconds(gameConfig.getDurationSeconds());
+        game.startGame();
+
+        long now = System.nanoTime();
+        for(int i = 0; i < sessions.length; i++) {
+            SessionHandle handle = sessionRegistry.register(sessions[i],
+                    new SessionKeepalive(sessions[i], now), new RateLimiter(Integer.MAX_VALUE));
+            handle.bind(game, players[i]);
+        }
+
+        // Frames aus dem Spielstart (Countdown + erste Frage) laufen sonst nicht über den Antwort-Pfad
+        frameEncoder.encode(new GameStateMessage(GameSession.GameStatus.RUNNING,
+                players[0].getDisplayName(), players[1].getDisplayName(), game.getRemainingSeconds()));
+        frameEncoder.encode(new CountdownMessage(1, "warm-up"));
+        frameEncoder.encode(new QuestionMessage(questions.get(0).getQuestionText(), 1, game.getRemainingSeconds()));
+
+        long totalNanos = 0;
+        long answers = 0;
+        int maxAnswers = gameConfig.getQuestionsPerGame() * sessions.length;
+        try {
+            for(int turn = 0; turn < maxAnswers && game.getStatus() == GameSession.GameStatus.RUNNING; turn++) {
+                int i = turn % sessions.length;
+                Question question = game.getCurrentQuestionForPlayer(players[i]);
+                if(question == null) {
+                    continue;
+                }
+
+                // Jede fünfte Antwort falsch, damit auch dieser Zweig warm wird
+                int answer = (turn % 5 == 4) ? question.getCorrectAnswer() + 1 : question.getCorrectAnswer();
+                TextMessage payload = new TextMessage("{\"type\":\"ANSWER\",\"answer\":" + answer + "}");
+
+                long start = System.nanoTime();
+                gameHandler.handleTextMessage(sessions[i], payload);
+                totalNanos += System.nanoTime() - start;
+                answers++;
+            }
+        } finally {
+            game.endGame();
+            for(LocalSession session : sessions) {
+                SessionHandle handle = sessionRegistry.unregister(session);
+                if(handle != null) {
+                    handle.unbind();
+                }
+                session.close();
+            }
+        }
+        return new long[] {totalNanos, answers};
+    }
+}
@@ -10,6 +10,7 @@ import { websocket } from './modules/websocket.js';
 import { inputHandler } from './modules/inputHandler.js';
 import { animations } from './modules/animations.js';
 import { gameActions } from './modules/gameActions.js';
+import { spectator } from './modules/spectator.js';
 
 // ==================== INITIALIZATION ====================
 
@@ -19,6 +20,13 @@ window.addEventListener('DOMContentLoaded', () => {
 });
 
 function initializeGame() {
+    // Watch link (/?watch=<gameId>) - read-only spectator view
+    const watchedGameId = spectator.getWatchedGameId();
+    if (watchedGameId) {
+        spectator.start(watchedGameId);
+        return;
+    }
+
     // Setup input handlers
     inputHandler.setupNumberPad();
 
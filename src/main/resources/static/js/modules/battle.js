@@ -0,0 +1,70 @@
+/**
+ * Battle Mode
+ * Large rooms (/?mode=battle) - everyone races the same clock, live top list
+ */
+
+import { elements } from './domElements.js';
+
+// Current top list, one row per position (server only sends changed rows)
+let rows = [];
+let totalPlayers = 0;
+
+export const battle = {
+    // True when the page was opened with ?mode=battle
+    isBattleMode() {
+        return new URLSearchParams(window.location.search).get('mode') === 'battle';
+    },
+
+    // Query string for the game WebSocket
+    getConnectQuery() {
+        return this.isBattleMode() ? '?mode=battle' : '';
+    },
+
+    // Apply leaderboard delta and render
+    handleLeaderboard(message) {
+        for (const entry of message.changed || []) {
+            rows[entry.position] = entry;
+        }
+        rows.length = message.size;
+        totalPlayers = message.totalPlayers;
+
+        this.render();
+    },
+
+    // Own rank from ANSWER_RESULT
+    updateRank(rank) {
+        const labels = document.querySelectorAll('.score-container .score-label');
+        if (labels.length === 2) {
+            labels[0].textContent = rank ? `You · #${rank}` : 'You';
+            labels[1].textContent = 'Top';
+        }
+    },
+
+    // Hide duel-only controls on the result screen
+    adjustResultScreen() {
+        if (elements.rematchButton) {
+            elements.rematchButton.style.display = 'none';
+        }
+        const labels = document.querySelectorAll('#result-area .score-label');
+        if (labels.length === 2) {
+            labels[1].textContent = 'Winner Score';
+        }
+    },
+
+    render() {
+        let list = document.getElementById('battle-leaderboard');
+        if (!list) {
+            list = document.createElement('ol');
+            list.id = 'battle-leaderboard';
+            list.className = 'battle-leaderboard';
+            document.querySelector('.game-left-column')?.appendChild(list);
+        }
+
+        list.replaceChildren(...rows.map((row) => {
+            const item = document.createElement('li');
+            item.textContent = `#${row.rank} ${row.name} — ${row.score}`;
+            return item;
+        }));
+        list.title = `${totalPlayers} players`;
+    }
+};
@@ -10,6 +10,7 @@ export const elements = {
     // Areas
     lobbyArea: document.getElementById('lobby-area'),
     waitingArea: document.getElementById('waiting-area'),
+    lobbyStats: document.getElementById('lobby-stats'),
     gameArea: document.getElementById('game-area'),
     resultArea: document.getElementById('result-area'),
 
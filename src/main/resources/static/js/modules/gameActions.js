@@ -6,6 +6,7 @@
 import { gameState } from './gameState.js';
 import { ui } from './uiController.js';
 import { websocket } from './websocket.js';
+import { practice } from './practice.js';
 
 export const gameActions = {
     // Start game (connect and join matchmaking)
@@ -18,7 +19,8 @@ export const gameActions = {
     leaveGame() {
         console.log('Leaving game...');
 
-        if (gameState.currentGameState === 'RUNNING') {
+        // Practice rounds run locally - nothing to forfeit
+        if (gameState.currentGameState === 'RUNNING' && !practice.isPracticeMode()) {
             // Send forfeit to server - server will send GAME_OVER to both players
             websocket.send({
                 type: 'FORFEIT'
@@ -35,6 +37,12 @@ export const gameActions = {
 
     // Request rematch
     requestRematch() {
+        // Practice: the same button starts the next round
+        if (practice.isPracticeMode()) {
+            practice.playAgain();
+            return;
+        }
+
         // Force check connection before allowing rematch
         if (!websocket.forceConnectionCheck()) {
             return; // forceConnectionCheck already shows error and reloads
@@ -20,6 +20,10 @@ export const gameState = {
     // Input
     currentAnswer: '',
 
+    // Session resume (token from SESSION, messages received since then)
+    resumeToken: null,
+    receivedSeq: 0,
+
     // Getters
     getSocket() {
         return this.socket;
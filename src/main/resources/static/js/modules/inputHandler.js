@@ -6,6 +6,7 @@
 import { gameState } from './gameState.js';
 import { ui } from './uiController.js';
 import { websocket } from './websocket.js';
+import { practice } from './practice.js';
 
 export const inputHandler = {
     // Setup number pad event listeners
@@ -75,6 +76,12 @@ export const inputHandler = {
             return;
         }
 
+        // Practice round: checked locally, sent to the server in one batch at the end
+        if (practice.isActive()) {
+            practice.answer(answer);
+            return;
+        }
+
         // Send to server
         websocket.send({
             type: 'ANSWER',
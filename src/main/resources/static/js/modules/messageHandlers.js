@@ -5,6 +5,8 @@
 
 import { gameState } from './gameState.js';
 import { ui } from './uiController.js';
+import { battle } from './battle.js';
+import { practice } from './practice.js';
 
 export function handleMessage(message) {
     switch (message.type) {
@@ -20,6 +22,30 @@ export function handleMessage(message) {
         case 'SCORE_UPDATE':
             handleScoreUpdate(message);
             break;
+        case 'ANSWER_RESULT':
+            handleAnswerResult(message);
+            break;
+        case 'LOBBY_STATS':
+            ui.showLobbyStats(message.playersOnline, message.gamesInProgress, message.estimatedWaitSeconds);
+            break;
+        case 'PRACTICE_SET':
+            practice.handleSet(message);
+            break;
+        case 'PRACTICE_RESULT':
+            practice.handleResult(message);
+            break;
+        case 'DAILY_SET':
+            practice.handleSet(message);
+            break;
+        case 'DAILY_RESULT':
+            practice.handleDailyResult(message);
+            break;
+        case 'DAILY_TOP':
+            practice.renderDailyTop(message);
+            break;
+        case 'LEADERBOARD':
+            battle.handleLeaderboard(message);
+            break;
         case 'GAME_OVER':
             handleGameOver(message);
             break;
@@ -73,16 +99,19 @@ function handleQuestion(message) {
         // Show game area
         ui.showGame();
 
-        // Update question
-        ui.updateQuestion(message.questionText, message.questionNumber);
-
-        // Start timer
-        const remainingSeconds = Number(message.remainingSeconds);
-        gameState.setGameEndTime(remainingSeconds);
-        startTimer();
+        showQuestion(message.questionText, message.questionNumber, message.remainingSeconds);
     }, 200);
 }
 
+function showQuestion(questionText, questionNumber, remainingSeconds) {
+    // Update question
+    ui.updateQuestion(questionText, questionNumber);
+
+    // Start timer
+    gameState.setGameEndTime(Number(remainingSeconds));
+    startTimer();
+}
+
 function handleScoreUpdate(message) {
     console.log('🎯 SCORE_UPDATE received:', message);
 
@@ -95,6 +124,33 @@ function handleScoreUpdate(message) {
     }
 }
 
+// Combined frame after own answer: verdict + both scores + next question
+function handleAnswerResult(message) {
+    console.log('✅ ANSWER_RESULT received:', message);
+
+    // Battle room: own rank and the room's best score instead of an opponent
+    if (message.yourRank !== undefined) {
+        ui.updateScores(message.yourScore, message.topScore);
+        battle.updateRank(message.yourRank);
+    } else {
+        ui.updateScores(message.yourScore, message.opponentScore);
+    }
+
+    if (gameState.currentAnswer !== '') {
+        ui.showAnswerFeedback(message.wasCorrect);
+    }
+
+    // No next question (e.g. win score reached) - GAME_OVER follows
+    if (message.questionText === undefined || message.questionText === null) {
+        return;
+    }
+
+    // Small delay so the answer stays visible while it blinks
+    setTimeout(() => {
+        showQuestion(message.questionText, message.questionNumber, message.remainingSeconds);
+    }, 200);
+}
+
 function handleGameOver(message) {
     console.log('🏁 GAME_OVER received:', message);
     console.log('You won:', message.youWon);
@@ -111,6 +167,9 @@ function handleGameOver(message) {
     // Show result screen
     ui.showResult();
     ui.updateGameOver(message);
+    if (battle.isBattleMode()) {
+        battle.adjustResultScreen();
+    }
 
     console.log('Result screen should now be visible');
 }
@@ -124,6 +183,20 @@ function handleError(message) {
     console.error('Server error:', message.errorMessage);
     ui.showError(message.errorMessage);
 
+    // Seat no longer held - don't try to resume again, back to lobby below
+    if (message.errorMessage === 'Resume failed') {
+        gameState.resumeToken = null;
+    }
+
+    // Server overloaded - back to lobby once the suggested wait is over
+    const busy = message.errorMessage && message.errorMessage.match(/^Server busy - retry in (\d+) seconds$/);
+    if (busy) {
+        setTimeout(() => {
+            location.reload();
+        }, parseInt(busy[1], 10) * 1000);
+        return;
+    }
+
     // If opponent left after game finished (result screen), disable rematch
     if (message.errorMessage === 'Opponent left' && gameState.currentGameState === 'FINISHED') {
         ui.disableRematch();
@@ -133,7 +206,8 @@ function handleError(message) {
     // If opponent left queue or game early, return to lobby after showing error
     // BUT: Don't reload if game is already finished (GAME_OVER already received)
     if (message.errorMessage &&
-        (message.errorMessage.includes('left the queue') || message.errorMessage.includes('left the game')) &&
+        (message.errorMessage.includes('left the queue') || message.errorMessage.includes('left the game') ||
+            message.errorMessage.includes('No opponent found') || message.errorMessage === 'Resume failed') &&
         gameState.currentGameState !== 'FINISHED') {
         setTimeout(() => {
             location.reload();
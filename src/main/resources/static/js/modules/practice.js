@@ -0,0 +1,224 @@
+/**
+ * Practice Mode and Daily Challenge
+ * Solo rounds (/?mode=practice) and the daily challenge (/?mode=daily) - all questions arrive
+ * in one PRACTICE_SET / DAILY_SET frame, the round runs locally and the answers go back
+ * in one PRACTICE_SUBMIT for verification
+ */
+
+import { elements } from './domElements.js';
+import { gameState } from './gameState.js';
+import { ui } from './uiController.js';
+import { websocket } from './websocket.js';
+
+// Modes played locally in the browser
+const LOCAL_MODES = ['practice', 'daily'];
+
+// Signed daily challenge player token (one ranked entry per player and day)
+const DAILY_PLAYER_KEY = 'warduel.dailyPlayer';
+
+// Same pause as after ANSWER_RESULT, so the answer stays visible while it blinks
+const NEXT_QUESTION_DELAY_MS = 200;
+
+// Current round (active = accepting answers)
+let questions = [];
+let answers = [];
+let times = [];
+let durationMs = 0;
+let startedAt = 0;
+let correctCount = 0;
+let active = false;
+
+// Answer given, next question not shown yet (a second tap must not answer it blind)
+let awaitingNext = false;
+
+// Evaluate "a + b", "a - b", "a × b", "a ÷ b" for instant local feedback
+function solve(questionText) {
+    const [left, operator, right] = questionText.split(' ');
+    const a = Number(left);
+    const b = Number(right);
+    switch (operator) {
+        case '+': return a + b;
+        case '-': return a - b;
+        case '×': return a * b;
+        case '÷': return a / b;
+        default: return NaN;
+    }
+}
+
+function currentMode() {
+    return new URLSearchParams(window.location.search).get('mode');
+}
+
+function formatSeconds(ms) {
+    return `${(ms / 1000).toFixed(1)} s`;
+}
+
+function elapsedMs() {
+    return Math.round(performance.now() - startedAt);
+}
+
+export const practice = {
+    // True when the page was opened with ?mode=practice or ?mode=daily
+    isPracticeMode() {
+        return LOCAL_MODES.includes(currentMode());
+    },
+
+    isDailyMode() {
+        return currentMode() === 'daily';
+    },
+
+    // Query string for the game WebSocket
+    getConnectQuery() {
+        const token = this.isDailyMode() ? localStorage.getItem(DAILY_PLAYER_KEY) : null;
+        return token ? `?mode=daily&player=${encodeURIComponent(token)}` : `?mode=${currentMode()}`;
+    },
+
+    // True while a round is being played locally
+    isActive() {
+        return active;
+    },
+
+    // New round from the server - everything after this runs in the browser
+    handleSet(message) {
+        questions = message.questions || [];
+        answers = [];
+        times = [];
+        correctCount = 0;
+        awaitingNext = false;
+        durationMs = message.durationSeconds * 1000;
+        startedAt = performance.now();
+        active = true;
+
+        gameState.currentGameState = 'RUNNING';
+        ui.showGame();
+        ui.updateScores(0, 0);
+        this.adjustLabels();
+        ui.updateQuestion(questions[0], 1);
+
+        gameState.setGameEndTime(message.durationSeconds);
+        ui.updateTimer(message.durationSeconds);
+        gameState.startTimer(() => {
+            const remaining = gameState.getRemainingTime();
+            ui.updateTimer(remaining);
+            if (remaining === 0) {
+                this.finish();
+            }
+        });
+    },
+
+    // Local answer: feedback now, verification with the batch at the end
+    answer(value) {
+        if (!active || awaitingNext) return;
+        if (elapsedMs() > durationMs) {
+            this.finish();
+            return;
+        }
+
+        const index = answers.length;
+        answers.push(value);
+        times.push(elapsedMs());
+
+        const correct = solve(questions[index]) === value;
+        if (correct) {
+            correctCount++;
+        }
+        ui.updateScores(correctCount, answers.length);
+        ui.showAnswerFeedback(correct);
+
+        if (answers.length === questions.length) {
+            this.finish();
+            return;
+        }
+        awaitingNext = true;
+        setTimeout(() => {
+            awaitingNext = false;
+            if (active) {
+                ui.updateQuestion(questions[index + 1], index + 2);
+            }
+        }, NEXT_QUESTION_DELAY_MS);
+    },
+
+    // Round over (all answered or time up) - one message with every answer
+    finish() {
+        if (!active) return;
+        active = false;
+        gameState.stopTimer();
+        ui.stopTimerAnimation();
+
+        websocket.send({
+            type: 'PRACTICE_SUBMIT',
+            answers: answers,
+            times: times
+        });
+    },
+
+    // Verified result from the server
+    handleResult(message) {
+        gameState.currentGameState = 'FINISHED';
+        ui.showResult();
+
+        elements.yourScore.textContent = message.score.toString();
+        elements.opponentScore.textContent = `${message.answered}/${message.questionCount}`;
+        if (message.verified) {
+            elements.resultMessage.textContent = 'Practice complete';
+            elements.resultMessage.className = 'result-message win';
+        } else {
+            elements.resultMessage.textContent = `Result not counted\n${message.reason}`;
+            elements.resultMessage.className = 'result-message lose';
+        }
+
+        const labels = document.querySelectorAll('#result-area .score-label');
+        if (labels.length === 2) {
+            labels[1].textContent = 'Answered';
+        }
+        elements.rematchButton.disabled = false;
+        elements.rematchButton.textContent = 'Play Again';
+        elements.rematchStatus.textContent = '';
+    },
+
+    // Daily challenge: verified score plus placement among today's players
+    handleDailyResult(message) {
+        if (message.token) {
+            localStorage.setItem(DAILY_PLAYER_KEY, message.token);
+        }
+        this.handleResult(message);
+        elements.rematchButton.style.display = 'none';
+
+        if (message.verified) {
+            elements.resultMessage.textContent =
+                `Rank #${message.rank} of ${message.totalPlayers}\nBetter than ${message.percentile.toFixed(1)}% of players`;
+        }
+    },
+
+    // Daily challenge top list on the result screen
+    renderDailyTop(message) {
+        let list = document.getElementById('daily-leaderboard');
+        if (!list) {
+            list = document.createElement('ol');
+            list.id = 'daily-leaderboard';
+            list.className = 'battle-leaderboard';
+            elements.rematchButton.before(list);
+        }
+
+        list.replaceChildren(...message.entries.map((entry) => {
+            const item = document.createElement('li');
+            item.textContent = `#${entry.rank} — ${entry.score} in ${formatSeconds(entry.timeMs)}`;
+            return item;
+        }));
+        list.title = `Daily challenge ${message.date}`;
+    },
+
+    // Next round on the same connection
+    playAgain() {
+        websocket.send({ type: 'JOIN_GAME' });
+    },
+
+    // In-game score labels: correct answers vs. answered questions
+    adjustLabels() {
+        const labels = document.querySelectorAll('.score-container .score-label');
+        if (labels.length === 2) {
+            labels[0].textContent = 'Correct';
+            labels[1].textContent = 'Answered';
+        }
+    }
+};
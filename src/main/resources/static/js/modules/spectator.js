@@ -0,0 +1,86 @@
+/**
+ * Spectator Mode
+ * Read-only live view of a running duel (/?watch=<gameId>)
+ */
+
+import { elements } from './domElements.js';
+import { gameState } from './gameState.js';
+import { ui } from './uiController.js';
+
+export const spectator = {
+    // Game id from the watch link, or null when playing normally
+    getWatchedGameId() {
+        return new URLSearchParams(window.location.search).get('watch');
+    },
+
+    // Connect as read-only viewer
+    start(gameId) {
+        const protocol = window.location.protocol === 'https:' ? 'wss:' : 'ws:';
+        const wsUrl = `${protocol}//${window.location.host}/spectate?game=${encodeURIComponent(gameId)}`;
+
+        console.log('Spectating:', wsUrl);
+        this.showSpectatorLayout();
+        ui.updateStatus('Connecting to live game...');
+
+        const socket = new WebSocket(wsUrl);
+
+        socket.onmessage = (event) => {
+            try {
+                const message = JSON.parse(event.data);
+                if (message.type === 'SPECTATOR_STATE') {
+                    this.handleState(message);
+                } else if (message.type === 'ERROR') {
+                    ui.showError(message.errorMessage);
+                }
+            } catch (error) {
+                console.error('Error parsing spectator message:', error);
+            }
+        };
+
+        socket.onclose = () => {
+            gameState.stopTimer();
+            ui.stopTimerAnimation();
+            ui.updateStatus('Live stream ended');
+        };
+    },
+
+    // Hide everything a viewer cannot use
+    showSpectatorLayout() {
+        ui.hideElement(elements.lobbyArea);
+        ui.showElement(elements.statusText);
+        ui.hideElement(elements.answerDisplay);
+        ui.hideElement(elements.forfeitButton);
+        ui.hideElement(document.querySelector('.number-pad'));
+    },
+
+    // Render one delayed snapshot of the duel
+    handleState(state) {
+        ui.showGame();
+
+        const labels = document.querySelectorAll('.score-container .score-label');
+        if (labels.length === 2) {
+            labels[0].textContent = state.player1Name || 'Player 1';
+            labels[1].textContent = state.player2Name || 'Player 2';
+        }
+        ui.updateScores(state.player1Score, state.player2Score);
+
+        elements.questionNumber.textContent =
+            `Q${state.player1QuestionNumber}/20 · Q${state.player2QuestionNumber}/20`;
+        elements.questionText.textContent =
+            `${state.player1Question || '—'}  |  ${state.player2Question || '—'}`;
+
+        if (state.gameStatus === 'RUNNING') {
+            ui.updateStatus('👁 Live');
+            gameState.setGameEndTime(Number(state.remainingSeconds));
+            gameState.startTimer(() => ui.updateTimer(gameState.getRemainingTime()));
+            ui.updateTimer(gameState.getRemainingTime());
+        } else if (state.gameStatus === 'FINISHED') {
+            gameState.stopTimer();
+            ui.stopTimerAnimation();
+            ui.updateTimer(0);
+            ui.updateStatus(state.winnerName ? `🏁 ${state.winnerName}` : '🏁 Game over');
+        } else {
+            ui.updateStatus('Waiting for the duel to start...');
+        }
+    }
+};
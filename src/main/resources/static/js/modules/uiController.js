@@ -46,6 +46,7 @@ export const ui = {
         this.showElement(elements.lobbyArea);
         this.hideElement(elements.statusText);
         this.hideElement(elements.waitingArea);
+        this.hideElement(elements.lobbyStats);
         this.hideElement(elements.gameArea);
         this.hideElement(elements.resultArea);
 
@@ -63,6 +64,16 @@ export const ui = {
         this.updateStatus('Searching for opponent...');
     },
 
+    // Lobby presence line on the waiting screen (estimatedWaitSeconds -1 = unknown)
+    showLobbyStats(playersOnline, gamesInProgress, estimatedWaitSeconds) {
+        if (!elements.lobbyStats) return;
+        const players = `${playersOnline} ${playersOnline === 1 ? 'player' : 'players'} online`;
+        const games = `${gamesInProgress} ${gamesInProgress === 1 ? 'game' : 'games'} in progress`;
+        const wait = estimatedWaitSeconds >= 0 ? `, estimated wait ${estimatedWaitSeconds} s` : '';
+        elements.lobbyStats.textContent = `${players}, ${games}${wait}`;
+        this.showElement(elements.lobbyStats);
+    },
+
     // Update to countdown screen
     showCountdown(tipText, progress) {
         // Hide status text during countdown
@@ -80,6 +91,7 @@ export const ui = {
         // Hide "Waiting for opponent..." text
         const waitingText = document.getElementById('waiting-text');
         if (waitingText) waitingText.style.display = 'none';
+        this.hideElement(elements.lobbyStats);
 
         // LOCK PLAYERS IN: Disable "Leave Queue" button once countdown starts
         const leaveButton = document.getElementById('leave-waiting-button');
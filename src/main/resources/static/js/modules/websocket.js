@@ -6,6 +6,8 @@
 import { gameState } from './gameState.js';
 import { ui } from './uiController.js';
 import { handleMessage } from './messageHandlers.js';
+import { battle } from './battle.js';
+import { practice } from './practice.js';
 
 // Track if connection was intentionally closed
 let intentionalClose = false;
@@ -13,11 +15,32 @@ let intentionalClose = false;
 // Heartbeat interval
 let heartbeatInterval = null;
 
+// Message protocol version, sent with the handshake
+const PROTOCOL_VERSION = 1;
+
+// Close code the server uses when it is overloaded
+const CLOSE_TRY_AGAIN_LATER = 1013;
+
+// Close code the server uses while draining for a deploy - reconnect lands on another node
+const CLOSE_SERVICE_RESTART = 1012;
+const RESTART_RECONNECT_DELAY_MS = 1500;
+
+// Lobby presence line on the waiting screen - opt out with localStorage 'warduel.lobbyStats' = 'off'
+const LOBBY_STATS_KEY = 'warduel.lobbyStats';
+
+// Session resume after a dropped connection (phone locked, network switch)
+const MAX_RESUME_ATTEMPTS = 3;
+const RESUME_RETRY_DELAY_MS = 1000;
+let resuming = false;
+let resumeAttempts = 0;
+
 export const websocket = {
-    // Connect to server
-    connect() {
+    // Connect to server (query defaults to matchmaking, resume passes token + seq)
+    connect(query = practice.isPracticeMode() ? practice.getConnectQuery() : battle.getConnectQuery()) {
         const protocol = window.location.protocol === 'https:' ? 'wss:' : 'ws:';
-        const wsUrl = `${protocol}//${window.location.host}/game`;
+        const separator = query ? '&' : '?';
+        const presence = localStorage.getItem(LOBBY_STATS_KEY) === 'off' ? '&presence=off' : '';
+        const wsUrl = `${protocol}//${window.location.host}/game${query}${separator}v=${PROTOCOL_VERSION}${presence}`;
 
         console.log('Connecting to:', wsUrl);
         ui.updateStatus('Connecting to server...');
@@ -41,7 +64,9 @@ export const websocket = {
         console.log('WebSocket connected');
         gameState.isConnected = true;
         intentionalClose = false; // Reset flag on successful connection
-        ui.showWaiting();
+        if (!resuming) {
+            ui.showWaiting();
+        }
 
         // Start heartbeat
         this.startHeartbeat();
@@ -52,6 +77,24 @@ export const websocket = {
         try {
             const message = JSON.parse(event.data);
             console.log('🔵 Received:', message.type, message);
+
+            // Resume bookkeeping: count every message after SESSION, RESUMED restarts the count
+            if (message.type === 'SESSION') {
+                gameState.resumeToken = message.token;
+                gameState.receivedSeq = 0;
+                return;
+            }
+            if (message.type === 'RESUMED') {
+                gameState.receivedSeq = message.seq;
+                resuming = false;
+                resumeAttempts = 0;
+                ui.updateStatus('Reconnected');
+                return;
+            }
+            if (gameState.resumeToken) {
+                gameState.receivedSeq++;
+            }
+
             handleMessage(message);
         } catch (error) {
             console.error('Error parsing message:', error);
@@ -69,12 +112,51 @@ export const websocket = {
         console.log('WebSocket closed:', event);
         gameState.isConnected = false;
 
+        // Server busy (1013 Try Again Later) - the error frame already scheduled the retry
+        if (event.code === CLOSE_TRY_AGAIN_LATER) {
+            resuming = false;
+            return;
+        }
+
+        // Server draining: matchmaking continues on another node, result screens stay as they are
+        if (event.code === CLOSE_SERVICE_RESTART) {
+            resuming = false;
+            if (gameState.currentGameState === 'CONNECTING' || gameState.currentGameState === 'WAITING') {
+                setTimeout(() => this.connect(), RESTART_RECONNECT_DELAY_MS);
+            }
+            return;
+        }
+
+        // Running game: try to take the seat back instead of losing the match
+        if (!intentionalClose && this.canResume()) {
+            this.resume();
+            return;
+        }
+        resuming = false;
+
         // Don't show error if game already finished
         if (gameState.currentGameState !== 'FINISHED') {
             ui.showError('Connection lost!');
         }
     },
 
+    // True while the server may still hold our seat
+    canResume() {
+        return !!gameState.resumeToken
+            && gameState.currentGameState !== 'FINISHED'
+            && resumeAttempts < MAX_RESUME_ATTEMPTS;
+    },
+
+    // Reconnect with the resume token; missed messages are replayed after RESUMED
+    resume() {
+        resuming = true;
+        resumeAttempts++;
+        ui.updateStatus('Reconnecting...');
+
+        const query = `?resume=${encodeURIComponent(gameState.resumeToken)}&seq=${gameState.receivedSeq}`;
+        setTimeout(() => this.connect(query), resumeAttempts === 1 ? 0 : RESUME_RETRY_DELAY_MS);
+    },
+
     // Send message to server
     send(message) {
         if (gameState.isSocketConnected()) {
@@ -130,6 +212,13 @@ export const websocket = {
         if (isDisconnected && !intentionalClose) {
             console.warn('Connection lost! Socket state:', socket ? socket.readyState : 'null');
 
+            if (resuming || this.canResume()) {
+                if (!resuming) {
+                    this.resume();
+                }
+                return;
+            }
+
             // Always reload if we were in a game or waiting
             if (gameState.currentGameState !== 'CONNECTING') {
                 ui.showError('Connection lost. Returning to lobby...');
@@ -165,15 +254,22 @@ export const websocket = {
     startHeartbeat() {
         this.stopHeartbeat(); // Clear any existing heartbeat
 
-        console.log('🔥 Heartbeat started - checking connection and sending pings every 5 seconds');
+        console.log('🔥 Heartbeat started - checking connection every 5 seconds');
 
-        // Check connection and send heartbeat every 5 seconds
+        // Check connection every 5 seconds
+        // Liveness towards the server is handled by native WebSocket ping/pong
+        // (the browser answers server pings automatically, no JSON heartbeat needed)
         heartbeatInterval = setInterval(() => {
             const socket = gameState.getSocket();
             const readyState = socket ? socket.readyState : -1;
 
             // WebSocket.OPEN = 1, CLOSED = 3, CLOSING = 2
             if (!socket || readyState !== 1) {
+                // Reconnect in progress - onclose already started a resume
+                if (resuming) {
+                    return;
+                }
+
                 console.error('💀 Heartbeat detected disconnection! ReadyState:', readyState);
                 this.stopHeartbeat();
 
@@ -187,21 +283,7 @@ export const websocket = {
                     }, 1500);
                 }
             }
-            else {
-                // Connection is alive - send heartbeat to server
-                // This keeps the connection alive even if player doesn't answer questions
-                try {
-                    this.send({ type: 'HEARTBEAT' });
-
-                    // Only log every ~20% of the time to reduce noise
-                    if (Math.random() < 0.2) {
-                        console.log('💚 Heartbeat: Connection alive, ping sent');
-                    }
-                } catch (error) {
-                    console.error('Error sending heartbeat:', error);
-                }
-            }
-        }, 5000); // Check and ping every 5 seconds
+        }, 5000); // Check every 5 seconds
     },
 
     // Stop heartbeat
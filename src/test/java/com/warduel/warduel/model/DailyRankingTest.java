@@ -0,0 +1,102 @@
+package com.warduel.warduel.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DailyRankingTest {
+
+    private static final int MAX_SCORE = 20;
+    private static final long MAX_TIME_MS = 60_000;
+    private static final int TOP_SIZE = 3;
+
+    private final DailyRanking ranking = new DailyRanking(MAX_SCORE, MAX_TIME_MS, TOP_SIZE);
+
+    @Test
+    void firstResultIsRankOneAndBetterThanNobody() {
+        DailyRanking.Placement placement = ranking.submit(10, 30_000);
+
+        assertThat(placement.rank()).isEqualTo(1);
+        assertThat(placement.totalPlayers()).isEqualTo(1);
+        assertThat(placement.percentile()).isZero();
+    }
+
+    @Test
+    void higherScoreBeatsFasterTime() {
+        ranking.submit(10, 5_000);
+
+        DailyRanking.Placement placement = ranking.submit(11, 59_000);
+
+        assertThat(placement.rank()).isEqualTo(1);
+        assertThat(placement.percentile()).isEqualTo(50.0);
+    }
+
+    @Test
+    void sameScoreIsRankedByTime() {
+        ranking.submit(15, 40_000);
+
+        DailyRanking.Placement faster = ranking.submit(15, 20_000);
+        DailyRanking.Placement slower = ranking.submit(15, 50_000);
+
+        assertThat(faster.rank()).isEqualTo(1);
+        assertThat(slower.rank()).isEqualTo(3);
+        assertThat(slower.percentile()).isZero();
+    }
+
+    @Test
+    void sameScoreInSameTimeBucketSharesRank() {
+        ranking.submit(18, 10_000);
+        DailyRanking.Placement first = ranking.submit(12, 30_010);
+        // 30 010 ms und 30 090 ms liegen in derselben 100-ms-Stufe
+        DailyRanking.Placement tied = ranking.submit(12, 30_090);
+        DailyRanking.Placement nextBucket = ranking.submit(12, 30_100);
+
+        assertThat(first.rank()).isEqualTo(2);
+        assertThat(tied.rank()).isEqualTo(2);
+        assertThat(nextBucket.rank()).isEqualTo(4);
+        // Gleichstand zählt nicht als "schlechter"
+        assertThat(tied.percentile()).isZero();
+    }
+
+    @Test
+    void percentileIsShareOfWorseResults() {
+        for(int score = 1; score <= 9; score++) {
+            ranking.submit(score, 30_000);
+        }
+
+        DailyRanking.Placement placement = ranking.submit(5, 30_000);
+
+        // 4 von 10 Teilnehmern schlechter, 4 besser, einer gleich
+        assertThat(placement.rank()).isEqualTo(5);
+        assertThat(placement.totalPlayers()).isEqualTo(10);
+        assertThat(placement.percentile()).isEqualTo(40.0);
+    }
+
+    @Test
+    void outOfRangeValuesAreClamped() {
+        ranking.submit(MAX_SCORE + 5, -100);
+        ranking.submit(-3, MAX_TIME_MS * 2);
+
+        assertThat(ranking.scoreHistogram()[MAX_SCORE]).isEqualTo(1);
+        assertThat(ranking.scoreHistogram()[0]).isEqualTo(1);
+        assertThat(ranking.submit(0, MAX_TIME_MS).rank()).isEqualTo(2);
+    }
+
+    @Test
+    void topListKeepsBestResultsWithSharedRanksAndEarliestFirst() {
+        ranking.submit(10, 30_000);
+        ranking.submit(14, 20_000);
+        long version = ranking.getTopVersion();
+        ranking.submit(14, 20_050);
+        ranking.submit(12, 25_000);
+        // Schlechter als die volle Top-Liste - ändert sie nicht
+        ranking.submit(9, 1_000);
+
+        assertThat(ranking.getTopVersion()).isEqualTo(version + 2);
+        assertThat(ranking.top()).containsExactly(
+                new DailyRanking.TopEntry(1, 14, 20_000),
+                new DailyRanking.TopEntry(1, 14, 20_050),
+                new DailyRanking.TopEntry(3, 12, 25_000));
+        assertThat(ranking.getTotalPlayers()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,127 @@
+package com.warduel.warduel.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StandingsTest {
+
+    @Test
+    void equalScoresShareRankAndFirstToReachLeads() {
+        Standings standings = new Standings(4);
+        Player a = join(standings, 0, "a");
+        Player b = join(standings, 1, "b");
+        Player c = join(standings, 2, "c");
+
+        score(standings, b, 2);
+        score(standings, a, 2);
+        score(standings, c, 1);
+
+        assertThat(standings.rankOf(a)).isEqualTo(1);
+        assertThat(standings.rankOf(b)).isEqualTo(1);
+        assertThat(standings.rankOf(c)).isEqualTo(3);
+        assertThat(standings.leader()).isSameAs(b);
+        assertThat(standings.isTiedForLead()).isTrue();
+        assertThat(standings.topScore()).isEqualTo(2);
+
+        List<Standings.Row> top = standings.top(3);
+        assertThat(top).extracting(Standings.Row::player).containsExactly(b, a, c);
+        assertThat(top).extracting(Standings.Row::rank).containsExactly(1, 1, 3);
+    }
+
+    @Test
+    void overtakingBreaksTheTie() {
+        Standings standings = new Standings(2);
+        Player a = join(standings, 0, "a");
+        Player b = join(standings, 1, "b");
+
+        score(standings, a, 1);
+        score(standings, b, 2);
+
+        assertThat(standings.leader()).isSameAs(b);
+        assertThat(standings.isTiedForLead()).isFalse();
+        assertThat(standings.rankOf(a)).isEqualTo(2);
+    }
+
+    @Test
+    void removedPlayerHasNoRankAndFreesItsPlace() {
+        Standings standings = new Standings(3);
+        Player a = join(standings, 0, "a");
+        Player b = join(standings, 1, "b");
+        score(standings, a, 5);
+
+        standings.remove(a);
+
+        assertThat(standings.rankOf(a)).isZero();
+        assertThat(standings.rankOf(b)).isEqualTo(1);
+        assertThat(standings.size()).isEqualTo(1);
+        assertThat(standings.topScore()).isZero();
+    }
+
+    @Test
+    void scoresBeyondTheInitialRangeKeepRanks() {
+        Standings standings = new Standings(3);
+        Player a = join(standings, 0, "a");
+        Player b = join(standings, 1, "b");
+        Player c = join(standings, 2, "c");
+
+        score(standings, a, 40);
+        score(standings, b, 100);
+        score(standings, c, 40);
+
+        assertThat(standings.rankOf(b)).isEqualTo(1);
+        assertThat(standings.rankOf(a)).isEqualTo(2);
+        assertThat(standings.rankOf(c)).isEqualTo(2);
+    }
+
+    @Test
+    void resetRereadsScores() {
+        Standings standings = new Standings(2);
+        Player a = join(standings, 0, "a");
+        Player b = join(standings, 1, "b");
+        score(standings, a, 3);
+
+        a.resetScore();
+        standings.reset();
+
+        assertThat(standings.topScore()).isZero();
+        assertThat(standings.rankOf(a)).isEqualTo(1);
+        assertThat(standings.rankOf(b)).isEqualTo(1);
+    }
+
+    @Test
+    void publishTopReturnsOnlyChangedRows() {
+        Standings standings = new Standings(3);
+        Player a = join(standings, 0, "a");
+        Player b = join(standings, 1, "b");
+        join(standings, 2, "c");
+
+        Standings.TopDelta first = standings.publishTop(2);
+        assertThat(first.changed()).hasSize(2);
+        assertThat(first.size()).isEqualTo(2);
+        assertThat(first.totalPlayers()).isEqualTo(3);
+
+        assertThat(standings.publishTop(2)).isNull();
+
+        score(standings, b, 1);
+        Standings.TopDelta second = standings.publishTop(2);
+        assertThat(second.changed()).extracting(Standings.Row::player).containsExactly(b, a);
+        assertThat(second.changed()).extracting(Standings.Row::rank).containsExactly(1, 2);
+    }
+
+    private static Player join(Standings standings, int slot, String id) {
+        Player player = new Player(id, null, id);
+        player.setSlot(slot);
+        standings.add(player);
+        return player;
+    }
+
+    private static void score(Standings standings, Player player, int points) {
+        for(int i = 0; i < points; i++) {
+            player.incrementScore();
+        }
+        standings.update(player);
+    }
+}
@@ -0,0 +1,106 @@
+package com.warduel.warduel.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.warduel.warduel.config.GameConfiguration;
+import com.warduel.warduel.model.Question;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DailyChallengeServiceTest {
+
+    private static final String IP = "203.0.113.7";
+
+    private final GameConfiguration gameConfig = new GameConfiguration();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private DailyChallengeService daily;
+
+    @BeforeEach
+    void setUp() {
+        gameConfig.setDailyMaxSubmissionsPerIp(2);
+        QuestionGeneratorService generator = new QuestionGeneratorService(gameConfig);
+        daily = new DailyChallengeService(generator, new PracticeService(generator, gameConfig, registry),
+                gameConfig, new ObjectMapper(), registry);
+    }
+
+    @Test
+    void verifiedSubmissionIsRankedAndMarksPlayer() {
+        DailyChallengeService.Outcome outcome = submit(1L, IP);
+
+        assertThat(outcome.placement()).isNotNull();
+        assertThat(outcome.placement().rank()).isEqualTo(1);
+        assertThat(outcome.challenge().hasPlayed(1L)).isTrue();
+        assertThat(outcome.challenge().hasPlayed(2L)).isFalse();
+    }
+
+    @Test
+    void secondSubmissionOfSamePlayerIsRejectedBeforeRanking() {
+        submit(1L, IP);
+
+        DailyChallengeService.Outcome second = submit(1L, "198.51.100.1");
+
+        assertRejected(second, DailyChallengeService.ALREADY_PLAYED);
+        assertThat(rankedPlayers()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectedSubmissionStillUsesTheAttempt() {
+        DailyChallengeService.Challenge challenge = daily.current();
+        // Antwort nach 0 ms - schneller als jede echte Abgabe erlaubt
+        DailyChallengeService.Outcome invalid = daily.submit(daily.newRound(challenge),
+                new int[] {1, 2}, new long[] {0, 0}, 1L, IP);
+        assertThat(invalid.placement()).isNull();
+
+        assertRejected(submit(1L, IP), DailyChallengeService.ALREADY_PLAYED);
+        assertThat(rankedPlayers()).isZero();
+    }
+
+    @Test
+    void newPlayersFromOneIpAreLimitedPerDay() {
+        submit(1L, IP);
+        submit(2L, IP);
+
+        assertRejected(submit(3L, IP), DailyChallengeService.IP_LIMIT_REACHED);
+        assertThat(daily.current().hasPlayed(3L)).isFalse();
+        assertThat(submit(3L, "198.51.100.1").placement()).isNotNull();
+        assertThat(rankedPlayers()).isEqualTo(3);
+    }
+
+    @Test
+    void roundFromAnotherDayIsRejected() {
+        PracticeService.Round stale = new PracticeService.Round(daily.current().seed() + 1,
+                gameConfig.getQuestionsPerGame(), gameConfig.getDurationSeconds(), System.nanoTime());
+
+        DailyChallengeService.Outcome outcome = daily.submit(stale, new int[0], new long[0], 1L, IP);
+
+        assertRejected(outcome, "The daily challenge has ended");
+        assertThat(daily.current().hasPlayed(1L)).isFalse();
+    }
+
+    /**
+     * Erste Frage richtig beantwortet - die Runde gilt als vor der Spielzeit ausgegeben
+     */
+    private DailyChallengeService.Outcome submit(long playerId, String ip) {
+        DailyChallengeService.Challenge challenge = daily.current();
+        long issuedAt = System.nanoTime() - challenge.durationSeconds() * 1_000_000_000L;
+        PracticeService.Round round = new PracticeService.Round(challenge.seed(), challenge.questions().size(),
+                challenge.durationSeconds(), issuedAt);
+        Question first = challenge.questions().get(0);
+        return daily.submit(round, new int[] {first.getCorrectAnswer()}, new long[] {1_000}, playerId, ip);
+    }
+
+    private long rankedPlayers() {
+        return daily.current().ranking().getTotalPlayers();
+    }
+
+    private void assertRejected(DailyChallengeService.Outcome outcome, String reason) {
+        assertThat(outcome.placement()).isNull();
+        assertThat(outcome.verdict().verified()).isFalse();
+        assertThat(outcome.verdict().reason()).isEqualTo(reason);
+    }
+}
@@ -0,0 +1,115 @@
+package com.warduel.warduel.service;
+
+import com.warduel.warduel.config.GameConfiguration;
+import com.warduel.warduel.model.Question;
+import com.warduel.warduel.model.Question.OperationType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PracticeServiceTest {
+
+    private static final int DURATION_SECONDS = 60;
+    private static final long ISSUED_AT = 0;
+    // Runde wurde vor 100 s ausgegeben - Grenze ist die Spielzeit
+    private static final long NOW = 100_000_000_000L;
+
+    private static final List<Question> QUESTIONS = List.of(
+            new Question("1 + 1", 2, OperationType.ADD),
+            new Question("5 - 2", 3, OperationType.SUBTRACT),
+            new Question("2 × 3", 6, OperationType.MULTIPLY));
+
+    private final GameConfiguration gameConfig = new GameConfiguration();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PracticeService practice = new PracticeService(new QuestionGeneratorService(gameConfig), gameConfig, registry);
+
+    @Test
+    void verifiedRoundCountsCorrectAnswersAndKeepsLastAnswerTime() {
+        PracticeService.Verdict verdict = check(new int[] {2, 99, 6}, new long[] {0, 200, 450});
+
+        assertThat(verdict.verified()).isTrue();
+        assertThat(verdict.reason()).isNull();
+        assertThat(verdict.score()).isEqualTo(2);
+        assertThat(verdict.answered()).isEqualTo(3);
+        assertThat(verdict.questionCount()).isEqualTo(3);
+        assertThat(verdict.lastAnswerMs()).isEqualTo(450);
+    }
+
+    @Test
+    void emptySubmissionIsVerifiedWithoutScore() {
+        PracticeService.Verdict verdict = check(new int[0], new long[0]);
+
+        assertThat(verdict.verified()).isTrue();
+        assertThat(verdict.score()).isZero();
+        assertThat(verdict.lastAnswerMs()).isZero();
+    }
+
+    @Test
+    void rejectsMismatchedAnswersAndTimestamps() {
+        assertRejected(check(new int[] {2, 3}, new long[] {500}), "Answers and timestamps do not match");
+    }
+
+    @Test
+    void rejectsMoreAnswersThanQuestions() {
+        assertRejected(check(new int[] {2, 3, 6, 1}, new long[] {500, 1000, 1500, 2000}), "More answers than questions");
+    }
+
+    @Test
+    void rejectsAnswersFasterThanMinimumInterval() {
+        // 200 ms Abstand ist gerade noch erlaubt, 199 ms nicht
+        assertThat(check(new int[] {2, 3}, new long[] {300, 500}).verified()).isTrue();
+        assertRejected(check(new int[] {2, 3}, new long[] {300, 499}), "Answers too fast or out of order");
+    }
+
+    @Test
+    void rejectsTimestampsOutOfOrder() {
+        assertRejected(check(new int[] {2, 3}, new long[] {900, 400}), "Answers too fast or out of order");
+    }
+
+    @Test
+    void rejectsAnswersAfterTheDuration() {
+        long limit = DURATION_SECONDS * 1000L;
+        assertThat(check(new int[] {2}, new long[] {limit}).verified()).isTrue();
+        assertRejected(check(new int[] {2}, new long[] {limit + 1}), "Answer after the time limit");
+    }
+
+    @Test
+    void rejectsAnswersLaterThanTimeSinceIssue() {
+        // Runde erst vor 2 s ausgegeben - eine Antwort bei 2,5 s kann es nicht geben
+        long now = 2_000_000_000L;
+        PracticeService.Verdict verdict = practice.check(QUESTIONS, DURATION_SECONDS, ISSUED_AT,
+                new int[] {2}, new long[] {2_500}, now);
+
+        assertRejected(verdict, "Answer after the time limit");
+    }
+
+    @Test
+    void verifyRegeneratesQuestionsFromSeedAndCountsResult() {
+        PracticeService.Round round = new PracticeService.Round(42L, 3, DURATION_SECONDS, ISSUED_AT);
+        int[] answers = practice.questions(round).stream().mapToInt(Question::getCorrectAnswer).toArray();
+
+        PracticeService.Verdict verdict = practice.verify(round, answers, new long[] {1000, 2000, 3000}, NOW);
+        practice.verify(round, answers, new long[] {1000, 1100, 3000}, NOW);
+
+        assertThat(verdict.verified()).isTrue();
+        assertThat(verdict.score()).isEqualTo(3);
+        assertThat(registry.get("warduel.practice.rounds").tag("result", "verified").counter().count()).isEqualTo(1);
+        assertThat(registry.get("warduel.practice.rounds").tag("result", "rejected").counter().count()).isEqualTo(1);
+    }
+
+    private PracticeService.Verdict check(int[] answers, long[] times) {
+        return practice.check(QUESTIONS, DURATION_SECONDS, ISSUED_AT, answers, times, NOW);
+    }
+
+    private static void assertRejected(PracticeService.Verdict verdict, String reason) {
+        assertThat(verdict.verified()).isFalse();
+        assertThat(verdict.reason()).isEqualTo(reason);
+        assertThat(verdict.score()).isZero();
+        assertThat(verdict.lastAnswerMs()).isZero();
+    }
+}
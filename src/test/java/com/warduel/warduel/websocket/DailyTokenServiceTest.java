@@ -0,0 +1,61 @@
+package com.warduel.warduel.websocket;
+
+import com.warduel.warduel.config.GameConfiguration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DailyTokenServiceTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    @Test
+    void tokenIsValidOnEveryNodeWithTheSameSecret() {
+        String token = service(SECRET).issue(42L);
+
+        // Anderer Knoten bzw. neuer Prozess mit demselben Secret
+        assertThat(service(SECRET).verify(token)).isEqualTo(42L);
+    }
+
+    @Test
+    void tokenFromAnotherSecretIsRejected() {
+        String token = service(SECRET).issue(42L);
+
+        assertThat(service(SECRET.replace('0', 'x')).verify(token)).isNull();
+    }
+
+    @Test
+    void withoutSecretTokensOnlyHoldForTheProcess() {
+        DailyTokenService node = service("");
+        String token = node.issue(7L);
+
+        assertThat(node.verify(token)).isEqualTo(7L);
+        assertThat(service("").verify(token)).isNull();
+    }
+
+    @Test
+    void tamperedOrMissingTokenIsRejected() {
+        DailyTokenService node = service(SECRET);
+        String token = node.issue(42L);
+
+        assertThat(node.verify(token.substring(0, token.length() - 2) + "xx")).isNull();
+        assertThat(node.verify("garbage")).isNull();
+        assertThat(node.verify(null)).isNull();
+        assertThat(node.verify(" ")).isNull();
+    }
+
+    @Test
+    void shortSecretIsRefused() {
+        assertThatThrownBy(() -> service("too-short"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("game.daily-token-secret");
+    }
+
+    private static DailyTokenService service(String secret) {
+        GameConfiguration config = new GameConfiguration();
+        config.setDailyTokenSecret(secret);
+        return new DailyTokenService(config);
+    }
+}
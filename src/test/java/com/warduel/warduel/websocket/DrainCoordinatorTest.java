@@ -0,0 +1,109 @@
+package com.warduel.warduel.websocket;
+
+import com.warduel.warduel.config.GameConfiguration;
+import com.warduel.warduel.model.GameSession;
+import com.warduel.warduel.model.GameSession.GameStatus;
+import com.warduel.warduel.service.GameService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DrainCoordinatorTest {
+
+    private final GameService gameService = mock(GameService.class);
+    private final AdmissionController admission = mock(AdmissionController.class);
+    private final SessionRegistry sessionRegistry = mock(SessionRegistry.class);
+    private final ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+    private final GameWebSocketHandler handler = mock(GameWebSocketHandler.class);
+    private final GameConfiguration gameConfig = new GameConfiguration();
+
+    private final DrainCoordinator coordinator = new DrainCoordinator(gameService, admission, sessionRegistry,
+            new OutboundFrameEncoder(Jackson2ObjectMapperBuilder.json().build()), mock(SpectatorHub.class),
+            handler, gameConfig, context);
+
+    @AfterEach
+    void stopDrainer() {
+        coordinator.cleanup();
+    }
+
+    @Test
+    void synchronousStopDrainsIdleNode() {
+        coordinator.start();
+
+        coordinator.stop();
+
+        assertThat(coordinator.isRunning()).isFalse();
+        assertThat(coordinator.getStatus().finished()).isTrue();
+        verify(admission).startDrain();
+        verify(gameService).startDrain();
+        // Lifecycle-Stop fährt den Context nicht selbst herunter
+        verify(context, never()).close();
+    }
+
+    @Test
+    void synchronousStopWaitsForRunningGamesUntilDeadline() {
+        gameConfig.setDrainDeadlineSeconds(1);
+        runningGame();
+        coordinator.start();
+
+        long started = System.nanoTime();
+        coordinator.stop();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isGreaterThanOrEqualTo(900);
+        assertThat(coordinator.getStatus().finished()).isTrue();
+    }
+
+    @Test
+    void everyStopCallbackRuns() throws Exception {
+        gameConfig.setDrainDeadlineSeconds(1);
+        runningGame();
+        coordinator.start();
+
+        CountDownLatch callbacks = new CountDownLatch(2);
+        coordinator.stop(callbacks::countDown);
+        coordinator.stop(callbacks::countDown);
+
+        assertThat(callbacks.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void remainingSessionIsClosedEvenWhenNoticeFails() throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.isOpen()).thenReturn(true);
+        SessionHandle handle = new SessionHandle(1, session, new SessionKeepalive(session, 0), new RateLimiter(10));
+        when(sessionRegistry.all()).thenReturn(List.of(handle));
+        // Gleichzeitiger Schreiber auf derselben Verbindung (Tomcat: TEXT_FULL_WRITING)
+        doThrow(new IllegalStateException("TEXT_FULL_WRITING")).when(handler).sendFrame(eq(session), any(TextMessage.class));
+        coordinator.start();
+
+        coordinator.stop();
+
+        verify(handler).sendFrame(eq(session), any(TextMessage.class));
+        verify(session).close(CloseStatus.SERVICE_RESTARTED);
+        assertThat(coordinator.getStatus().redirectedPlayers()).isEqualTo(1);
+    }
+
+    private void runningGame() {
+        GameSession game = mock(GameSession.class);
+        when(game.getStatus()).thenReturn(GameStatus.RUNNING);
+        when(gameService.getAllGames()).thenReturn(List.of(game));
+    }
+}
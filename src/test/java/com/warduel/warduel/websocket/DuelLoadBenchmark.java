@@ -0,0 +1,260 @@
+package com.warduel.warduel.websocket;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * DuelLoadBenchmark - Lastclient für viele gleichzeitige Duelle gegen einen laufenden Server
+ *
+ * Öffnet 2 x duels Verbindungen auf /game (getaktet mit connectsPerSecond), der Server paart
+ * sie zu Duellen. Jeder Bot beantwortet seine Frage nach thinkMs - jede vierte absichtlich
+ * falsch, damit kein Duell vorzeitig über game.win-score endet. Gemessen wird die Zeit
+ * vom Senden der Antwort bis zum ANSWER_RESULT (p50/p99/max), der Antwortdurchsatz und die
+ * höchste Zahl gleichzeitig laufender Duelle.
+ * Aufruf über scripts/duel-load-benchmark.sh (Plattform- vs. virtuelle Threads im Server).
+ *
+ *   DuelLoadBenchmark <url[,url...]> <duels> <connectsPerSecond> <thinkMs> <gameSeconds>
+ *
+ * Mehrere URLs (z. B. ws://127.0.0.1:…, ws://127.0.0.2:…) verteilen die Verbindungen auf
+ * mehrere Zieladressen - pro Adresse reichen die lokalen Ports nur für ~28k Verbindungen.
+ * Kein Test (läuft nicht mit mvn test).
+ */
+public final class DuelLoadBenchmark {
+
+    private static final String ORIGIN = "http://localhost:8080";
+    // Verbindungen pro HttpClient (jeder Client hat einen eigenen Selector-Thread)
+    private static final int CONNECTIONS_PER_CLIENT = 4_000;
+    private static final int WRONG_ANSWER_EVERY = 4;
+    private static final int MAX_SAMPLES_PER_CONNECTION = 64;
+    // Countdown vor dem Spiel plus Reserve für Spielende und Schließen
+    private static final long FINISH_SLACK_SECONDS = 30;
+
+    private DuelLoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<URI> targets = Arrays.stream((args.length > 0 ? args[0] : "ws://localhost:8080/game").split(","))
+                .map(URI::create)
+                .toList();
+        int duels = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int connectsPerSecond = args.length > 2 ? Integer.parseInt(args[2]) : 1_000;
+        long thinkMs = args.length > 3 ? Long.parseLong(args[3]) : 3_000;
+        long gameSeconds = args.length > 4 ? Long.parseLong(args[4]) : 60;
+
+        int connections = duels * 2;
+        Stats stats = new Stats(connections * MAX_SAMPLES_PER_CONNECTION);
+        CountDownLatch finished = new CountDownLatch(connections);
+        ScheduledExecutorService thinkTimer = Executors.newScheduledThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors() / 2));
+
+        List<HttpClient> clients = new ArrayList<>();
+        for(int i = 0; i < connections; i += CONNECTIONS_PER_CLIENT) {
+            clients.add(HttpClient.newHttpClient());
+        }
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / connectsPerSecond;
+        long start = System.nanoTime();
+        for(int i = 0; i < connections; i++) {
+            long ahead = start + i * intervalNanos - System.nanoTime();
+            if(ahead > 50_000) {
+                LockSupport.parkNanos(ahead);
+            }
+
+            Bot bot = new Bot(stats, thinkTimer, thinkMs, finished);
+            clients.get(i / CONNECTIONS_PER_CLIENT).newWebSocketBuilder()
+                    .header("Origin", ORIGIN)
+                    .buildAsync(targets.get(i % targets.size()), bot)
+                    .whenComplete((ws, error) -> {
+                        if(error != null) {
+                            stats.failed.incrementAndGet();
+                            bot.finish(false);
+                        } else {
+                            stats.connected.incrementAndGet();
+                        }
+                    });
+        }
+        long rampMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        boolean done = finished.await(gameSeconds + FINISH_SLACK_SECONDS, TimeUnit.SECONDS);
+        thinkTimer.shutdownNow();
+
+        System.out.printf("duels=%d connected=%d failed=%d ramp=%dms peak=%d concurrent duels%s%n",
+                duels, stats.connected.get(), stats.failed.get(), rampMs, stats.peakActive.get() / 2,
+                done ? "" : " (timed out waiting for game over)");
+        System.out.printf("bots: game over=%d closed early=%d%n", stats.gamesOver.get(), stats.closedEarly.get());
+        stats.printLatency();
+        System.exit(0);
+    }
+
+    /**
+     * Ein Spieler: beantwortet jede Frage nach der Denkzeit, misst die Antwortzeit
+     */
+    private static final class Bot implements WebSocket.Listener {
+
+        private final Stats stats;
+        private final ScheduledExecutorService thinkTimer;
+        private final long thinkMs;
+        private final CountDownLatch finished;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private final StringBuilder frame = new StringBuilder();
+        private volatile long sentAt;
+        private volatile boolean playing;
+        private int answers;
+
+        private Bot(Stats stats, ScheduledExecutorService thinkTimer, long thinkMs, CountDownLatch finished) {
+            this.stats = stats;
+            this.thinkTimer = thinkTimer;
+            this.thinkMs = thinkMs;
+            this.finished = finished;
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket ws, CharSequence data, boolean last) {
+            frame.append(data);
+            if(last) {
+                handle(ws, frame.toString());
+                frame.setLength(0);
+            }
+            ws.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket ws, int statusCode, String reason) {
+            finish(false);
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket ws, Throwable error) {
+            finish(false);
+        }
+
+        private void handle(WebSocket ws, String message) {
+            if(message.contains("\"type\":\"ANSWER_RESULT\"")) {
+                stats.record(System.nanoTime() - sentAt);
+            } else if(message.contains("\"type\":\"GAME_OVER\"")) {
+                finish(true);
+                ws.sendClose(WebSocket.NORMAL_CLOSURE, "");
+                return;
+            }
+
+            String question = questionText(message);
+            if(question == null) {
+                return;
+            }
+            if(!playing) {
+                playing = true;
+                stats.peakActive.accumulateAndGet(stats.active.incrementAndGet(), Math::max);
+            }
+
+            int answer = solve(question) + (++answers % WRONG_ANSWER_EVERY == 0 ? 1 : 0);
+            thinkTimer.schedule(() -> {
+                sentAt = System.nanoTime();
+                ws.sendText("{\"type\":\"ANSWER\",\"answer\":" + answer + "}", true);
+            }, thinkMs, TimeUnit.MILLISECONDS);
+        }
+
+        private void finish(boolean gameOver) {
+            if(!done.compareAndSet(false, true)) {
+                return;
+            }
+            if(playing) {
+                stats.active.decrementAndGet();
+            }
+            if(gameOver) {
+                stats.gamesOver.incrementAndGet();
+            } else {
+                stats.closedEarly.incrementAndGet();
+            }
+            finished.countDown();
+        }
+
+        private static String questionText(String message) {
+            int start = message.indexOf("\"questionText\":\"");
+            if(start < 0) {
+                return null;
+            }
+            start += "\"questionText\":\"".length();
+            return message.substring(start, message.indexOf('"', start));
+        }
+
+        private static int solve(String question) {
+            String[] parts = question.split(" ");
+            int a = Integer.parseInt(parts[0]);
+            int b = Integer.parseInt(parts[2]);
+            return switch(parts[1]) {
+                case "+" -> a + b;
+                case "-" -> a - b;
+                case "×" -> a * b;
+                default -> a / b;
+            };
+        }
+    }
+
+    /**
+     * Gemeinsame Zähler und Latenz-Samples aller Bots
+     */
+    private static final class Stats {
+
+        private final AtomicInteger connected = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger gamesOver = new AtomicInteger();
+        private final AtomicInteger closedEarly = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger peakActive = new AtomicInteger();
+
+        private final long[] samples;
+        private final AtomicInteger sampleCount = new AtomicInteger();
+        private final AtomicLong firstSample = new AtomicLong();
+        private volatile long lastSample;
+
+        private Stats(int maxSamples) {
+            this.samples = new long[maxSamples];
+        }
+
+        private void record(long nanos) {
+            long now = System.nanoTime();
+            firstSample.compareAndSet(0, now);
+            lastSample = now;
+            int index = sampleCount.getAndIncrement();
+            if(index < samples.length) {
+                samples[index] = nanos;
+            }
+        }
+
+        private void printLatency() {
+            int count = Math.min(sampleCount.get(), samples.length);
+            if(count == 0) {
+                System.out.println("answers=0");
+                return;
+            }
+
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            double seconds = Math.max(1, lastSample - firstSample.get()) / 1e9;
+            System.out.printf("answers=%d throughput=%.0f/s p50=%.2fms p99=%.2fms max=%.2fms%n",
+                    count, count / seconds, percentileMs(sorted, 0.50), percentileMs(sorted, 0.99),
+                    sorted[count - 1] / 1e6);
+        }
+
+        private static double percentileMs(long[] sorted, double percentile) {
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.warduel.warduel.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.warduel.warduel.dto.*;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.socket.TextMessage;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * FrameAllocationBenchmark - Allokation pro Frame: OutboundFrameEncoder mit vs. ohne TypedFrameWriters
+ *
+ * Kodiert für QUESTION, SCORE_UPDATE, ANSWER_RESULT und GAME_OVER jeweils frames Nachrichten
+ * (mit wechselndem Inhalt wie im Spiel) und misst die Bytes, die der Benchmark-Thread dabei
+ * allokiert, sowie die Zeit pro Frame. Gezählt wird bis einschließlich getPayload() - den String
+ * braucht der Versand (Tomcat sendText) in beiden Fällen.
+ * Aufruf über scripts/frame-allocation-benchmark.sh.
+ *
+ *   FrameAllocationBenchmark <frames>
+ *
+ * Kein Test (läuft nicht mit mvn test) - nur im Testbaum, weil er Klassen aus diesem Paket nutzt.
+ */
+public final class FrameAllocationBenchmark {
+
+    private static final int WARMUP_FRAMES = 200_000;
+
+    // Nachricht Nummer i eines Typs
+    @FunctionalInterface
+    private interface MessageFactory {
+        BaseMessage create(int i);
+    }
+
+    private static final String[] QUESTIONS = {"7 × 6", "48 ÷ 8", "125 + 367", "903 - 458"};
+
+    // Verhindert, dass der JIT die Kodierung wegoptimiert
+    private static long sink;
+
+    private FrameAllocationBenchmark() {
+    }
+
+    public static void main(String[] args) throws JsonProcessingException {
+        int frames = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        OutboundFrameEncoder typed = new OutboundFrameEncoder(objectMapper);
+        OutboundFrameEncoder jackson = OutboundFrameEncoder.withoutTypedWriters(objectMapper);
+
+        Map<String, MessageFactory> types = new LinkedHashMap<>();
+        types.put("QUESTION", i -> new QuestionMessage(QUESTIONS[i & 3], 1 + i % 20, 60 - i % 60));
+        types.put("SCORE_UPDATE", i -> new ScoreUpdateMessage(i % 20, (i >> 1) % 20, (i & 1) == 0));
+        types.put("ANSWER_RESULT", i -> new AnswerResultMessage((i & 1) == 0, i % 20, (i >> 1) % 20,
+                QUESTIONS[i & 3], 1 + i % 20, 60 - i % 60));
+        types.put("GAME_OVER", i -> new GameOverMessage(i % 20, (i >> 1) % 20, (i & 1) == 0, false, "Player 1"));
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        System.out.printf("frames=%d per type and encoder%n", frames);
+        System.out.printf("%-14s %14s %14s %12s %12s %8s%n",
+                "type", "jackson B/fr", "typed B/fr", "jackson ns", "typed ns", "saved");
+        for(Map.Entry<String, MessageFactory> type : types.entrySet()) {
+            MessageFactory factory = type.getValue();
+
+            // Nachrichten vorab erzeugen - gemessen wird nur die Kodierung
+            BaseMessage[] messages = new BaseMessage[1024];
+            for(int i = 0; i < messages.length; i++) {
+                messages[i] = factory.create(i);
+            }
+
+            encodeAll(jackson, messages, WARMUP_FRAMES);
+            encodeAll(typed, messages, WARMUP_FRAMES);
+
+            long before = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            encodeAll(jackson, messages, frames);
+            long jacksonNanos = System.nanoTime() - start;
+            long jacksonBytes = threads.getThreadAllocatedBytes(threadId) - before;
+
+            before = threads.getThreadAllocatedBytes(threadId);
+            start = System.nanoTime();
+            encodeAll(typed, messages, frames);
+            long typedNanos = System.nanoTime() - start;
+            long typedBytes = threads.getThreadAllocatedBytes(threadId) - before;
+
+            System.out.printf("%-14s %14.1f %14.1f %12.1f %12.1f %7.1f%%%n", type.getKey(),
+                    (double) jacksonBytes / frames, (double) typedBytes / frames,
+                    (double) jacksonNanos / frames, (double) typedNanos / frames,
+                    100.0 * (jacksonBytes - typedBytes) / jacksonBytes);
+        }
+        if(sink == 42) {
+            System.out.println();
+        }
+    }
+
+    private static void encodeAll(OutboundFrameEncoder encoder, BaseMessage[] messages, int frames)
+            throws JsonProcessingException {
+        long length = 0;
+        for(int i = 0; i < frames; i++) {
+            TextMessage frame = encoder.encode(messages[i & (messages.length - 1)]);
+            length += frame.getPayload().length();
+        }
+        sink += length;
+    }
+}
@@ -0,0 +1,115 @@
+package com.warduel.warduel.websocket;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+import com.warduel.warduel.config.GameConfiguration;
+import com.warduel.warduel.model.GameSession;
+import com.warduel.warduel.service.GameEventLog;
+import com.warduel.warduel.service.GameService;
+import com.warduel.warduel.service.GameSessionPool;
+import com.warduel.warduel.service.PresenceCounters;
+import com.warduel.warduel.service.QuestionGeneratorService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * MatchAllocationBenchmark - Allokation pro Match über den echten Matchmaking-Pfad
+ *
+ * Ein Match = zwei Beitritte (Fragen erzeugen, Spiel starten), Spielende, beide Spieler
+ * entfernen (Spiel geht in den Pool). Getaktet auf eine Zielrate pro Sekunde, gemessen
+ * werden die Bytes, die der Benchmark-Thread dabei allokiert, und die GC-Läufe.
+ * Aufruf über scripts/match-allocation-benchmark.sh (vergleicht mit und ohne Pool).
+ *
+ *   MatchAllocationBenchmark <matchesPerSecond> <seconds> <poolSize> <quarantineMs>
+ *
+ * Kein Test (läuft nicht mit mvn test) - nur im Testbaum, weil er Klassen aus diesem Paket nutzt.
+ */
+public final class MatchAllocationBenchmark {
+
+    private static final int WARMUP_MATCHES = 50_000;
+
+    private MatchAllocationBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int rate = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int poolSize = args.length > 2 ? Integer.parseInt(args[2]) : 65_536;
+        long quarantineMs = args.length > 3 ? Long.parseLong(args[3]) : 5_000;
+
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        GameConfiguration config = new GameConfiguration();
+        config.setGamePoolSize(poolSize);
+        config.setGamePoolQuarantineMs(quarantineMs);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PresenceCounters presence = new PresenceCounters();
+        GameSessionPool pool = new GameSessionPool(config, presence, registry);
+        GameService gameService = new GameService(new QuestionGeneratorService(config), config, pool, presence,
+                new GameEventLog(config, registry));
+
+        // Zwei Verbindungen für alle Matches (Sessions gehören zum Transport, nicht zum Match)
+        LocalSession first = new LocalSession("bench-");
+        LocalSession second = new LocalSession("bench-");
+
+        for(int i = 0; i < WARMUP_MATCHES; i++) {
+            playMatch(gameService, first, second);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTimeMs();
+        double reusedBefore = registry.get("warduel.games.pool").tag("result", "reused").counter().count();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+
+        long total = (long) rate * seconds;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        for(long match = 0; match < total; match++) {
+            // Takt halten: vor dem Zeitplan kurz warten, dahinter ohne Pause aufholen
+            long due = start + match * intervalNanos;
+            long ahead = due - System.nanoTime();
+            if(ahead > 50_000) {
+                LockSupport.parkNanos(ahead);
+            }
+            playMatch(gameService, first, second);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        double reused = registry.get("warduel.games.pool").tag("result", "reused").counter().count() - reusedBefore;
+
+        System.out.printf("matches=%d achieved=%.0f/s pool=%d quarantine=%dms%n",
+                total, total / (elapsedNanos / 1e9), poolSize, quarantineMs);
+        System.out.printf("allocated=%.0f bytes/match reused=%.1f%% gc=%d runs (%d ms)%n",
+                (double) bytes / total, 100.0 * reused / total, gcCount() - gcCountBefore, gcTimeMs() - gcTimeBefore);
+    }
+
+    private static void playMatch(GameService gameService, LocalSession first, LocalSession second) {
+        GameSession game = gameService.joinGame(first);
+        gameService.joinGame(second);
+        game.endGame();
+        gameService.removePlayer(first.getId());
+        gameService.removePlayer(second.getId());
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private static long gcTimeMs() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+}
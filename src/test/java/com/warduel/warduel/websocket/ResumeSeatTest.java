@@ -0,0 +1,131 @@
+package com.warduel.warduel.websocket;
+
+import com.warduel.warduel.model.Player;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.HashMap;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ResumeSeatTest {
+
+    private static final int BUFFER_SIZE = 4;
+    private static final TextMessage RESUMED = new TextMessage("resumed");
+
+    private final WebSocketSession first = openSession();
+    private final Player player = new Player("p1", first, "Spieler 1");
+    private final ResumeSeat seat = new ResumeSeat(player, first, BUFFER_SIZE);
+
+    @Test
+    void deliversImmediatelyWhileConnected() throws Exception {
+        seat.deliver(frame(1));
+
+        verify(first).sendMessage(frame(1));
+    }
+
+    @Test
+    void buffersWhileHeldAndReplaysMissedFramesInOrder() throws Exception {
+        seat.deliver(frame(1));
+        assertThat(seat.onConnectionClosed(first, true)).isPositive();
+        seat.deliver(frame(2));
+        seat.deliver(frame(3));
+
+        WebSocketSession second = openSession();
+        assertThat(seat.resume(second, 1, RESUMED)).isTrue();
+
+        assertThat(sent(second)).containsExactly("resumed", "2", "3");
+        assertThat(player.getSession()).isSameAs(second);
+        assertThat(ResumeSeat.of(second)).isSameAs(seat);
+        verify(first, never()).sendMessage(frame(2));
+    }
+
+    @Test
+    void replaysExactlyAFullBuffer() throws Exception {
+        seat.onConnectionClosed(first, true);
+        for(int seq = 1; seq <= BUFFER_SIZE + 2; seq++) {
+            seat.deliver(frame(seq));
+        }
+
+        // lastSeq - clientSeq == Puffergröße: alle fehlenden Frames liegen noch im Ring
+        WebSocketSession second = openSession();
+        assertThat(seat.resume(second, 2, RESUMED)).isTrue();
+        assertThat(sent(second)).containsExactly("resumed", "3", "4", "5", "6");
+    }
+
+    @Test
+    void rejectsGapLargerThanBuffer() throws Exception {
+        seat.onConnectionClosed(first, true);
+        for(int seq = 1; seq <= BUFFER_SIZE + 2; seq++) {
+            seat.deliver(frame(seq));
+        }
+
+        WebSocketSession second = openSession();
+        assertThat(seat.resume(second, 1, RESUMED)).isFalse();
+        verify(second, never()).sendMessage(RESUMED);
+    }
+
+    @Test
+    void rejectsSequenceNumbersOutsideTheStream() throws Exception {
+        seat.deliver(frame(1));
+        seat.onConnectionClosed(first, true);
+
+        assertThat(seat.resume(openSession(), 2, RESUMED)).isFalse();
+        assertThat(seat.resume(openSession(), -1, RESUMED)).isFalse();
+        assertThat(seat.resume(openSession(), 1, RESUMED)).isTrue();
+    }
+
+    @Test
+    void expiredSeatCannotBeResumed() throws Exception {
+        long epoch = seat.onConnectionClosed(first, true);
+
+        assertThat(seat.expire(epoch)).isTrue();
+        assertThat(seat.isResumable()).isFalse();
+        assertThat(seat.resume(openSession(), 0, RESUMED)).isFalse();
+    }
+
+    @Test
+    void staleExpiryAfterResumeIsIgnored() throws Exception {
+        long epoch = seat.onConnectionClosed(first, true);
+        WebSocketSession second = openSession();
+        seat.resume(second, 0, RESUMED);
+
+        assertThat(seat.expire(epoch)).isFalse();
+        assertThat(seat.isResumable()).isTrue();
+        assertThat(seat.onConnectionClosed(first, true)).isEqualTo(ResumeSeat.HANDED_OVER);
+    }
+
+    @Test
+    void closingWithoutHoldReleasesTheSeat() {
+        assertThat(seat.onConnectionClosed(first, false)).isEqualTo(ResumeSeat.RELEASED);
+        assertThat(seat.isResumable()).isFalse();
+    }
+
+    private static TextMessage frame(int seq) {
+        return new TextMessage(Integer.toString(seq));
+    }
+
+    private static WebSocketSession openSession() {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getAttributes()).thenReturn(new HashMap<>());
+        return session;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> sent(WebSocketSession session) throws Exception {
+        ArgumentCaptor<WebSocketMessage<?>> frames = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(session, atLeast(0)).sendMessage(frames.capture());
+        return frames.getAllValues().stream().map(message -> ((TextMessage) message).getPayload()).toList();
+    }
+}
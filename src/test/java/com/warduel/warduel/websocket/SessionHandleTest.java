@@ -0,0 +1,83 @@
+package com.warduel.warduel.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SessionHandleTest {
+
+    private static final int WRITERS = 4;
+    private static final int SENDS_PER_WRITER = 200;
+
+    private final WebSocketSession session = mock(WebSocketSession.class);
+    private final SessionHandle handle = new SessionHandle(1, session, new SessionKeepalive(session, 0), new RateLimiter(10));
+
+    @Test
+    void concurrentSendersNeverWriteAtTheSameTime() throws Exception {
+        when(session.isOpen()).thenReturn(true);
+        when(session.getAttributes()).thenReturn(new HashMap<>());
+
+        // Zählt gleichzeitige Schreiber (Tomcat würde mit TEXT_FULL_WRITING abbrechen)
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        doAnswer(invocation -> {
+            if(inside.incrementAndGet() > 1) {
+                overlaps.incrementAndGet();
+            }
+            Thread.yield();
+            inside.decrementAndGet();
+            return null;
+        }).when(session).sendMessage(any(WebSocketMessage.class));
+
+        ExecutorService writers = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> done = new ArrayList<>();
+        for(int w = 0; w < WRITERS; w++) {
+            boolean pings = w == 0;
+            done.add(writers.submit(() -> {
+                start.await();
+                for(int i = 0; i < SENDS_PER_WRITER; i++) {
+                    handle.send(pings ? new PingMessage() : new TextMessage("frame"));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for(Future<?> future : done) {
+            future.get();
+        }
+        writers.shutdown();
+
+        assertThat(overlaps.get()).isZero();
+        verify(session, times(WRITERS * SENDS_PER_WRITER)).sendMessage(any(WebSocketMessage.class));
+    }
+
+    @Test
+    void closedSessionIsSkipped() throws Exception {
+        when(session.isOpen()).thenReturn(false);
+
+        handle.send(new TextMessage("frame"));
+
+        verify(session, never()).sendMessage(any(WebSocketMessage.class));
+    }
+}
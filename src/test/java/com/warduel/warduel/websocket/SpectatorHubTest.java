@@ -0,0 +1,93 @@
+package com.warduel.warduel.websocket;
+
+import com.warduel.warduel.config.GameConfiguration;
+import com.warduel.warduel.model.GameSession;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SpectatorHubTest {
+
+    private static final int MAX_PER_IP = 2;
+    private static final int MAX_PER_GAME = 3;
+
+    private final GameConfiguration gameConfig = config();
+    private final SpectatorHub hub = new SpectatorHub(gameConfig,
+            new OutboundFrameEncoder(Jackson2ObjectMapperBuilder.json().build()));
+    private final GameSession game = new GameSession();
+
+    @AfterEach
+    void stopFanout() {
+        hub.cleanup();
+    }
+
+    @Test
+    void capsSpectatorsPerIpAcrossGames() {
+        GameSession other = new GameSession();
+
+        assertThat(hub.subscribe(game, session("10.0.0.1"))).isTrue();
+        assertThat(hub.subscribe(other, session("10.0.0.1"))).isTrue();
+        assertThat(hub.subscribe(game, session("10.0.0.1"))).isFalse();
+
+        // Andere IPs sind davon nicht betroffen
+        assertThat(hub.subscribe(game, session("10.0.0.2"))).isTrue();
+        assertThat(hub.getWatcherCount(game.getGameId())).isEqualTo(2);
+    }
+
+    @Test
+    void unsubscribeFreesTheIpSlot() {
+        WebSocketSession first = session("10.0.0.1");
+        hub.subscribe(game, first);
+        hub.subscribe(game, session("10.0.0.1"));
+
+        hub.unsubscribe(first);
+        // Doppeltes Abmelden (Fan-Out und Handler) darf den Zähler nicht zweimal senken
+        hub.unsubscribe(first);
+
+        assertThat(hub.subscribe(game, session("10.0.0.1"))).isTrue();
+        assertThat(hub.subscribe(game, session("10.0.0.1"))).isFalse();
+    }
+
+    @Test
+    void fullGameDoesNotConsumeAnIpSlot() {
+        for(int i = 1; i <= MAX_PER_GAME; i++) {
+            assertThat(hub.subscribe(game, session("10.0.1." + i))).isTrue();
+        }
+
+        assertThat(hub.subscribe(game, session("10.0.0.1"))).isFalse();
+        assertThat(hub.subscribe(game, session("10.0.0.1"))).isFalse();
+
+        GameSession other = new GameSession();
+        assertThat(hub.subscribe(other, session("10.0.0.1"))).isTrue();
+        assertThat(hub.subscribe(other, session("10.0.0.1"))).isTrue();
+    }
+
+    private static GameConfiguration config() {
+        GameConfiguration config = new GameConfiguration();
+        config.setMaxSpectatorsPerIp(MAX_PER_IP);
+        config.setMaxSpectatorsPerGame(MAX_PER_GAME);
+        config.setSpectatorDelayMs(0);
+        return config;
+    }
+
+    private static WebSocketSession session(String clientIp) {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(HandshakeGate.CLIENT_IP_ATTRIBUTE, clientIp);
+
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(UUID.randomUUID().toString());
+        when(session.isOpen()).thenReturn(true);
+        when(session.getAttributes()).thenReturn(attributes);
+        return session;
+    }
+}
@@ -0,0 +1,85 @@
+package com.warduel.warduel.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.warduel.warduel.dto.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Die handgeschriebenen Writer müssen Zeichen für Zeichen dasselbe liefern wie der ObjectMapper
+ * (neue DTO-Felder, die im Writer fehlen, fallen hier auf)
+ */
+class TypedFrameWritersTest {
+
+    // Alle Steuerzeichen, Escapes und Nicht-ASCII (Rechenzeichen, Umlaute)
+    private static final String AWKWARD = buildAwkward();
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void questionMatchesJackson() throws Exception {
+        assertParity(new QuestionMessage("7 × 6", 5, 41));
+        assertParity(new QuestionMessage(AWKWARD, Integer.MAX_VALUE, Long.MIN_VALUE));
+        assertParity(new QuestionMessage(null, 0, 0));
+    }
+
+    @Test
+    void scoreUpdateMatchesJackson() throws Exception {
+        assertParity(new ScoreUpdateMessage(3, 2, true));
+        assertParity(new ScoreUpdateMessage(-1, Integer.MIN_VALUE, false));
+    }
+
+    @Test
+    void answerResultMatchesJackson() throws Exception {
+        assertParity(new AnswerResultMessage(true, 3, 2, "12 ÷ 4", 5, 41));
+        assertParity(new AnswerResultMessage(false, 0, 0));
+
+        AnswerResultMessage battle = new AnswerResultMessage(true, 7, 9, AWKWARD, 8, 12);
+        battle.setYourRank(3);
+        battle.setTopScore(9);
+        assertParity(battle);
+
+        AnswerResultMessage lastAnswer = new AnswerResultMessage(true, 10, 0);
+        lastAnswer.setYourRank(1);
+        lastAnswer.setTopScore(10);
+        assertParity(lastAnswer);
+    }
+
+    @Test
+    void gameOverMatchesJackson() throws Exception {
+        assertParity(new GameOverMessage(5, 3, true, false, "Spieler 1"));
+        assertParity(new GameOverMessage(0, 0, false, true, null));
+        assertParity(new GameOverMessage(4, 0, true, false, AWKWARD, AWKWARD + " disconnected"));
+    }
+
+    @Test
+    void errorMatchesJackson() throws Exception {
+        assertParity(new ErrorMessage("Too many messages - slow down!"));
+        assertParity(new ErrorMessage(AWKWARD));
+        assertParity(new ErrorMessage(null));
+    }
+
+    @Test
+    void otherTypesFallBackToObjectMapper() {
+        assertThat(TypedFrameWriters.write(new RematchMessage(true, false, "Waiting for opponent..."))).isNull();
+        assertThat(TypedFrameWriters.write(new PracticeSetMessage(List.of("1 + 1"), 60))).isNull();
+    }
+
+    private void assertParity(BaseMessage message) throws Exception {
+        assertThat(TypedFrameWriters.write(message)).isEqualTo(objectMapper.writeValueAsString(message));
+    }
+
+    private static String buildAwkward() {
+        StringBuilder text = new StringBuilder("\"quoted\" back\\slash ×÷ äöü € ");
+        for(char c = 0; c < 0x20; c++) {
+            text.append(c);
+        }
+        return text.append('\u007f').append("😀").toString();
+    }
+}